@@ -121,11 +121,21 @@ public class Connection {
             .getScheduledPool(THING_THREADPOOL_NAME);
     
     private static final long expiresIn = 432000; // five days
+    private static final int MAX_CACHED_RESPONSES = 100;
     private static final Pattern charsetPattern = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
   
     private final Logger logger = LoggerFactory.getLogger(Connection.class);
 
     private final CookieManager cookieManager = new CookieManager();
+    private final Map<String, CachedResponse> responseCache = new LinkedHashMap<String, CachedResponse>(16, 0.75f,
+            true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > MAX_CACHED_RESPONSES;
+        }
+    };
     private String amazonSite = "amazon.com";
     private String alexaServer = "https://alexa.amazon.com";
     private final String userAgent;
@@ -499,12 +509,75 @@ public class Connection {
 
     public String makeRequestAndReturnString(String verb, String url, @Nullable String postData, boolean json,
             @Nullable Map<String, String> customHeaders) throws IOException, URISyntaxException {
-        HttpsURLConnection connection = makeRequest(verb, url, postData, json, true, customHeaders, 0);
+        // unchanged GET responses are not transferred again, if the server supports conditional requests
+        CachedResponse cachedResponse = null;
+        Map<String, String> headers = customHeaders;
+        if ("GET".equals(verb) && postData == null) {
+            synchronized (responseCache) {
+                cachedResponse = responseCache.get(url);
+            }
+            if (cachedResponse != null) {
+                headers = customHeaders == null ? new HashMap<>() : new HashMap<>(customHeaders);
+                if (cachedResponse.eTag != null) {
+                    headers.put("If-None-Match", cachedResponse.eTag);
+                }
+                if (cachedResponse.lastModified != null) {
+                    headers.put("If-Modified-Since", cachedResponse.lastModified);
+                }
+            }
+        }
+        HttpsURLConnection connection = makeRequest(verb, url, postData, json, true, headers, 0);
+        if (cachedResponse != null && connection.getResponseCode() == HttpsURLConnection.HTTP_NOT_MODIFIED) {
+            consumeStream(connection.getInputStream());
+            this.logger.debug("Result of {} {} not modified", verb, url);
+            return cachedResponse.body;
+        }
         String result = convertStream(connection);
         this.logger.debug("Result of {} {}:{}", verb, url, result);
+        if ("GET".equals(verb) && postData == null) {
+            String eTag = connection.getHeaderField("ETag");
+            String lastModified = connection.getHeaderField("Last-Modified");
+            synchronized (responseCache) {
+                if (eTag != null || lastModified != null) {
+                    responseCache.put(url, new CachedResponse(eTag, lastModified, result));
+                } else {
+                    responseCache.remove(url);
+                }
+            }
+        }
         return result;
     }
 
+    /**
+     * Reads the remaining data of a response, so the connection can be reused for the next request.
+     */
+    private void consumeStream(@Nullable InputStream stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            byte[] buffer = new byte[1024];
+            while (stream.read(buffer) != -1) {
+                // discard
+            }
+            stream.close();
+        } catch (IOException e) {
+            logger.trace("Consuming the response failed {}", e.getMessage());
+        }
+    }
+
+    private static class CachedResponse {
+        private final @Nullable String eTag;
+        private final @Nullable String lastModified;
+        private final String body;
+
+        CachedResponse(@Nullable String eTag, @Nullable String lastModified, String body) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+
     public HttpsURLConnection makeRequest(String verb, String url, @Nullable String postData, boolean json,
             boolean autoredirect, @Nullable Map<String, String> customHeaders, int badRequestRepeats)
                     throws IOException, URISyntaxException {
@@ -636,6 +709,11 @@ public class Connection {
                     logger.debug("Call to {} succeeded", url);
                     return connection;
                 }
+                if (code == 304 && customHeaders != null && (customHeaders.containsKey("If-None-Match")
+                        || customHeaders.containsKey("If-Modified-Since"))) {
+                    logger.debug("Call to {} not modified", url);
+                    return connection;
+                }
                 if (code == 302 && location != null) {
                     logger.debug("Redirected to {}", location);
                     redirectCounter++;
@@ -648,8 +726,13 @@ public class Connection {
                     }
                     return connection;
                 }
-                throw new HttpException(code, verb + " url '" + url + "' failed: " + connection.getResponseMessage());
+                String message = connection.getResponseMessage();
+                // read the error response, so the keep-alive connection can be reused
+                consumeStream(connection.getErrorStream());
+                throw new HttpException(code, verb + " url '" + url + "' failed: " + message);
 
+            } catch (HttpException e) {
+                throw e;
             } catch (IOException e) {
 
                 if (connection != null) {
@@ -23,12 +23,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.storage.Storage;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -80,6 +84,8 @@ import com.google.gson.JsonSyntaxException;
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler implements IWebSocketCommandHandler {
 
+    private static final String THREADPOOL_NAME = "amazonechocontrol";
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
     private Storage<String> stateStorage;
     private @Nullable Connection connection;
@@ -439,74 +445,69 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
                 AscendingAlarmModel[] ascendingAlarmModels = null;
                 JsonBluetoothStates states = null;
                 List<JsonMusicProvider> musicProviders = null;
+                ExecutorService executor = ThreadPoolManager.getPool(THREADPOOL_NAME);
                 if (currentConnection.getIsLoggedIn()) {
+                    // the account wide states are independent of each other, request them concurrently
+                    final Connection accountConnection = currentConnection;
+                    Future<DeviceNotificationState[]> deviceNotificationStatesFuture = executor
+                            .submit(accountConnection::getDeviceNotificationStates);
+                    Future<AscendingAlarmModel[]> ascendingAlarmModelsFuture = executor
+                            .submit(accountConnection::getAscendingAlarm);
+                    Future<JsonBluetoothStates> statesFuture = executor
+                            .submit(accountConnection::getBluetoothConnectionStates);
+                    Future<@Nullable List<JsonMusicProvider>> musicProvidersFuture = executor.submit(() -> {
+                        try {
+                            return accountConnection.getMusicProviders();
+                        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
+                            logger.debug("Update music provider failed {}", e);
+                            return null;
+                        }
+                    });
+
                     // update notification states
-                    deviceNotificationStates = currentConnection.getDeviceNotificationStates();
+                    deviceNotificationStates = getResult(deviceNotificationStatesFuture);
 
                     // update ascending alarm
-                    ascendingAlarmModels = currentConnection.getAscendingAlarm();
+                    ascendingAlarmModels = getResult(ascendingAlarmModelsFuture);
 
                     // update bluetooth states
-                    states = currentConnection.getBluetoothConnectionStates();
+                    states = getResult(statesFuture);
 
                     // update music providers
-                    if (currentConnection.getIsLoggedIn()) {
-                        try {
-                            musicProviders = currentConnection.getMusicProviders();
-                        } catch (HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update music provider failed {}", e);
-                        }
-                    }
+                    musicProviders = getResult(musicProvidersFuture);
                 }
-                // forward device information to echo handler
-                for (EchoHandler child : echoHandlers) {
-                    Device device = findDeviceJson(child);
 
-                    @Nullable
-                    JsonNotificationSound[] notificationSounds = null;
-                    JsonPlaylists playlists = null;
-                    if (device != null && currentConnection.getIsLoggedIn()) {
-                        // update notification sounds
-                        try {
-                            notificationSounds = currentConnection.getNotificationSounds(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update notification sounds failed {}", e);
-                        }
-                        // update playlists
-                        try {
-                            playlists = currentConnection.getPlaylists(device);
-                        } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update playlist failed {}", e);
-                        }
-                    }
-
-                    BluetoothState state = null;
-                    if (states != null) {
-                        state = states.findStateByDevice(device);
-                    }
-                    DeviceNotificationState deviceNotificationState = null;
-                    AscendingAlarmModel ascendingAlarmModel = null;
-                    if (device != null) {
-                        if (ascendingAlarmModels != null) {
-                            for (AscendingAlarmModel current : ascendingAlarmModels) {
-                                if (StringUtils.equals(current.deviceSerialNumber, device.serialNumber)) {
-                                    ascendingAlarmModel = current;
-                                    break;
-                                }
-                            }
-                        }
-
-                        if (deviceNotificationStates != null) {
-                            for (DeviceNotificationState current : deviceNotificationStates) {
-                                if (StringUtils.equals(current.deviceSerialNumber, device.serialNumber)) {
-                                    deviceNotificationState = current;
-                                    break;
-                                }
-                            }
+                // forward device information to echo handler, the size of the thread pool limits the number of
+                // devices which are updated at the same time
+                List<EchoHandler> children;
+                synchronized (echoHandlers) {
+                    children = new ArrayList<>(echoHandlers);
+                }
+                final Connection requestConnection = currentConnection;
+                final DeviceNotificationState[] finalDeviceNotificationStates = deviceNotificationStates;
+                final AscendingAlarmModel[] finalAscendingAlarmModels = ascendingAlarmModels;
+                final JsonBluetoothStates finalStates = states;
+                final List<JsonMusicProvider> finalMusicProviders = musicProviders;
+                List<Future<?>> childFutures = new ArrayList<>(children.size());
+                for (EchoHandler child : children) {
+                    childFutures.add(executor.submit(() -> {
+                        refreshEchoHandler(requestConnection, child, finalDeviceNotificationStates,
+                                finalAscendingAlarmModels, finalStates, finalMusicProviders);
+                        return null;
+                    }));
+                }
+                RuntimeException childException = null;
+                for (Future<?> childFuture : childFutures) {
+                    try {
+                        getResult(childFuture);
+                    } catch (RuntimeException e) {
+                        if (childException == null) {
+                            childException = e;
                         }
                     }
-                    child.updateState(this, device, state, deviceNotificationState, ascendingAlarmModel, playlists,
-                            notificationSounds, musicProviders);
+                }
+                if (childException != null) {
+                    throw childException;
                 }
 
                 // refresh notifications
@@ -524,6 +525,74 @@ public class AccountHandler extends BaseBridgeHandler implements IWebSocketComma
         }
     }
 
+    private void refreshEchoHandler(Connection currentConnection, EchoHandler child,
+            DeviceNotificationState @Nullable [] deviceNotificationStates,
+            AscendingAlarmModel @Nullable [] ascendingAlarmModels, @Nullable JsonBluetoothStates states,
+            @Nullable List<JsonMusicProvider> musicProviders) throws URISyntaxException {
+        Device device = findDeviceJson(child);
+
+        @Nullable
+        JsonNotificationSound[] notificationSounds = null;
+        JsonPlaylists playlists = null;
+        if (device != null && currentConnection.getIsLoggedIn()) {
+            // update notification sounds
+            try {
+                notificationSounds = currentConnection.getNotificationSounds(device);
+            } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
+                logger.debug("Update notification sounds failed {}", e);
+            }
+            // update playlists
+            try {
+                playlists = currentConnection.getPlaylists(device);
+            } catch (IOException | HttpException | JsonSyntaxException | ConnectionException e) {
+                logger.debug("Update playlist failed {}", e);
+            }
+        }
+
+        BluetoothState state = null;
+        if (states != null) {
+            state = states.findStateByDevice(device);
+        }
+        DeviceNotificationState deviceNotificationState = null;
+        AscendingAlarmModel ascendingAlarmModel = null;
+        if (device != null) {
+            if (ascendingAlarmModels != null) {
+                for (AscendingAlarmModel current : ascendingAlarmModels) {
+                    if (StringUtils.equals(current.deviceSerialNumber, device.serialNumber)) {
+                        ascendingAlarmModel = current;
+                        break;
+                    }
+                }
+            }
+
+            if (deviceNotificationStates != null) {
+                for (DeviceNotificationState current : deviceNotificationStates) {
+                    if (StringUtils.equals(current.deviceSerialNumber, device.serialNumber)) {
+                        deviceNotificationState = current;
+                        break;
+                    }
+                }
+            }
+        }
+        child.updateState(this, device, state, deviceNotificationState, ascendingAlarmModel, playlists,
+                notificationSounds, musicProviders);
+    }
+
+    /**
+     * Waits for the result of a refresh task, exceptions thrown by the task are rethrown unchecked.
+     */
+    private static <T> T getResult(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     public @Nullable Device findDeviceJson(EchoHandler echoHandler) {
         String serialNumber = echoHandler.findSerialNumber();
         return findDeviceJson(serialNumber);
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
+
+/**
+ * Caches the daily sun and moon calculations, so that things sharing a location and the positional jobs do not
+ * recalculate rise, set, phase, eclipse, apogee and perigee data more than once per day.
+ * <p>
+ * The returned {@link Sun} and {@link Moon} instances are shared between all callers with the same location and
+ * date. Callers updating positional data must synchronize on the returned instance.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class AstroCalculationCache {
+
+    /**
+     * Enough for a few days of many distinct locations
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * Days calculated ahead by the daily jobs. The daily job runs once per day, so the next day is all it needs to
+     * find its data cached; more days would only take cache entries away from other locations.
+     */
+    public static final int PRECOMPUTE_DAYS = 1;
+
+    private final SunCalc sunCalc;
+    private final MoonCalc moonCalc;
+
+    private final Map<Key, Sun> sunInfos = new LinkedHashMap<Key, Sun>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Sun> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final Map<Key, Moon> moonInfos = new LinkedHashMap<Key, Moon>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Moon> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public AstroCalculationCache() {
+        this(new SunCalc(), new MoonCalc());
+    }
+
+    AstroCalculationCache(SunCalc sunCalc, MoonCalc moonCalc) {
+        this.sunCalc = sunCalc;
+        this.moonCalc = moonCalc;
+    }
+
+    /**
+     * Returns the sun data of the day of the given calendar, calculating it only on the first request for that day and
+     * location. The phase name is updated to the current time on every call.
+     */
+    public Sun getSunInfo(Calendar calendar, double latitude, double longitude, Double altitude) {
+        Key key = new Key(calendar, latitude, longitude, altitude);
+        Sun sun;
+        synchronized (sunInfos) {
+            sun = sunInfos.get(key);
+            if (sun == null) {
+                sun = sunCalc.getSunInfo(calendar, latitude, longitude, altitude);
+                sunInfos.put(key, sun);
+                return sun;
+            }
+        }
+        synchronized (sun) {
+            sunCalc.setPhaseInfo(Calendar.getInstance(), sun);
+        }
+        return sun;
+    }
+
+    /**
+     * Returns the moon data of the day of the given calendar, calculating it only on the first request for that day
+     * and location.
+     */
+    public Moon getMoonInfo(Calendar calendar, double latitude, double longitude) {
+        Key key = new Key(calendar, latitude, longitude, null);
+        synchronized (moonInfos) {
+            Moon moon = moonInfos.get(key);
+            if (moon == null) {
+                moon = moonCalc.getMoonInfo(calendar, latitude, longitude);
+                moonInfos.put(key, moon);
+            }
+            return moon;
+        }
+    }
+
+    /**
+     * Calculates the sun data of the given number of days following the day of the given calendar, so that the data
+     * is available when the daily jobs of those days are executed.
+     */
+    public void precomputeSunInfo(Calendar calendar, double latitude, double longitude, Double altitude, int days) {
+        for (int day = 1; day <= days; day++) {
+            getSunInfo(addDays(calendar, day), latitude, longitude, altitude);
+        }
+    }
+
+    /**
+     * Calculates the moon data of the given number of days following the day of the given calendar.
+     */
+    public void precomputeMoonInfo(Calendar calendar, double latitude, double longitude, int days) {
+        for (int day = 1; day <= days; day++) {
+            getMoonInfo(addDays(calendar, day), latitude, longitude);
+        }
+    }
+
+    private static Calendar addDays(Calendar calendar, int days) {
+        Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
+        cal.add(Calendar.DAY_OF_MONTH, days);
+        return cal;
+    }
+
+    /**
+     * Cache key of location and day.
+     */
+    private static class Key {
+        private final long midnight;
+        private final double latitude;
+        private final double longitude;
+        private final Double altitude;
+
+        Key(Calendar calendar, double latitude, double longitude, Double altitude) {
+            this.midnight = DateTimeUtils.truncateToMidnight(calendar).getTimeInMillis();
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.altitude = altitude;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(midnight, latitude, longitude, altitude);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return midnight == other.midnight && Double.compare(latitude, other.latitude) == 0
+                    && Double.compare(longitude, other.longitude) == 0 && Objects.equals(altitude, other.altitude);
+        }
+    }
+}
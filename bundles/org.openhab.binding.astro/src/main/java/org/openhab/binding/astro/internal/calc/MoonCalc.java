@@ -89,16 +89,7 @@ public class MoonCalc {
         eclipseJd = getEclipse(calendar, ECLIPSE_TYPE_MOON, julianDateMidnight, ECLIPSE_MODE_TOTAL);
         eclipse.setTotal(DateTimeUtils.toCalendar(eclipseJd));
 
-        double decimalYear = DateTimeUtils.getDecimalYear(calendar);
-        MoonDistance apogee = moon.getApogee();
-        double apogeeJd = getApogee(julianDate, decimalYear);
-        apogee.setDate(DateTimeUtils.toCalendar(apogeeJd));
-        apogee.setDistance(getDistance(apogeeJd));
-
-        MoonDistance perigee = moon.getPerigee();
-        double perigeeJd = getPerigee(julianDate, decimalYear);
-        perigee.setDate(DateTimeUtils.toCalendar(perigeeJd));
-        perigee.setDistance(getDistance(perigeeJd));
+        setApogeePerigee(julianDate, DateTimeUtils.getDecimalYear(calendar), moon);
 
         return moon;
     }
@@ -114,6 +105,31 @@ public class MoonCalc {
         MoonDistance distance = moon.getDistance();
         distance.setDate(Calendar.getInstance());
         distance.setDistance(getDistance(julianDate));
+
+        // the daily data may be calculated ahead, so move on to the next apogee or perigee once it has passed
+        if (hasPassed(moon.getApogee(), calendar) || hasPassed(moon.getPerigee(), calendar)) {
+            setApogeePerigee(julianDate, DateTimeUtils.getDecimalYear(calendar), moon);
+        }
+    }
+
+    private boolean hasPassed(MoonDistance moonDistance, Calendar calendar) {
+        Calendar date = moonDistance.getDate();
+        return date != null && date.before(calendar);
+    }
+
+    /**
+     * Calculates the next apogee and perigee after the julian date.
+     */
+    private void setApogeePerigee(double julianDate, double decimalYear, Moon moon) {
+        MoonDistance apogee = moon.getApogee();
+        double apogeeJd = getApogee(julianDate, decimalYear);
+        apogee.setDate(DateTimeUtils.toCalendar(apogeeJd));
+        apogee.setDistance(getDistance(apogeeJd));
+
+        MoonDistance perigee = moon.getPerigee();
+        double perigeeJd = getPerigee(julianDate, decimalYear);
+        perigee.setDate(DateTimeUtils.toCalendar(perigeeJd));
+        perigee.setDistance(getDistance(perigeeJd));
     }
 
     /**
@@ -64,27 +64,32 @@ public class SunCalc {
      * Calculates the sun position (azimuth and elevation).
      */
     public void setPositionalInfo(Calendar calendar, double latitude, double longitude, Double altitude, Sun sun) {
+        Position position = sun.getPosition();
+        setPosition(DateTimeUtils.dateToJulianDate(calendar), latitude, longitude, position);
+        setRadiationInfo(calendar, position.getElevationAsDouble(), altitude, sun);
+    }
+
+    /**
+     * Calculates the sun position at the given julian date, without any calendar arithmetic.
+     */
+    private void setPosition(double julianDate, double latitude, double longitude, Position position) {
         double lw = -longitude * DEG2RAD;
         double phi = latitude * DEG2RAD;
 
-        double j = DateTimeUtils.dateToJulianDate(calendar);
-        double m = getSolarMeanAnomaly(j);
+        double m = getSolarMeanAnomaly(julianDate);
         double c = getEquationOfCenter(m);
         double lsun = getEclipticLongitude(m, c);
         double d = getSunDeclination(lsun);
         double a = getRightAscension(lsun);
-        double th = getSiderealTime(j, lw);
+        double th = getSiderealTime(julianDate, lw);
 
         double azimuth = getAzimuth(th, a, phi, d) / DEG2RAD;
         double elevation = getElevation(th, a, phi, d) / DEG2RAD;
         double shadeLength = getShadeLength(elevation);
 
-        Position position = sun.getPosition();
         position.setAzimuth(azimuth + 180);
         position.setElevation(elevation);
         position.setShadeLength(shadeLength);
-
-        setRadiationInfo(calendar, elevation, altitude, sun);
     }
 
     /**
@@ -120,14 +125,13 @@ public class SunCalc {
      * Returns true, if the sun is up all day (no rise and set).
      */
     private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude, Double altitude) {
-        Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
-        Sun sun = new Sun();
+        double midnightJd = DateTimeUtils.midnightDateToJulianDate(calendar);
+        Position position = new Position();
         for (int minutes = 0; minutes <= MINUTES_PER_DAY; minutes += CURVE_TIME_INTERVAL) {
-            setPositionalInfo(cal, latitude, longitude, altitude, sun);
-            if (sun.getPosition().getElevationAsDouble() < SUN_ANGLE) {
+            setPosition(midnightJd + minutes / MINUTES_PER_DAY, latitude, longitude, position);
+            if (position.getElevationAsDouble() < SUN_ANGLE) {
                 return false;
             }
-            cal.add(Calendar.MINUTE, CURVE_TIME_INTERVAL);
         }
         return true;
     }
@@ -248,10 +252,18 @@ public class SunCalc {
         SeasonCalc seasonCalc = new SeasonCalc();
         sun.setSeason(seasonCalc.getSeason(calendar, latitude));
 
-        // phase
+        setPhaseInfo(Calendar.getInstance(), sun);
+
+        return sun;
+    }
+
+    /**
+     * Sets the name of the sun phase the given calendar is in.
+     */
+    public void setPhaseInfo(Calendar calendar, Sun sun) {
         for (Entry<SunPhaseName, Range> rangeEntry : sun.getAllRanges().entrySet()) {
             SunPhaseName entryPhase = rangeEntry.getKey();
-            if (rangeEntry.getValue().matches(Calendar.getInstance())) {
+            if (rangeEntry.getValue().matches(calendar)) {
                 if (entryPhase == SunPhaseName.MORNING_NIGHT || entryPhase == SunPhaseName.EVENING_NIGHT) {
                     sun.getPhase().setName(SunPhaseName.NIGHT);
                 } else {
@@ -259,8 +271,6 @@ public class SunCalc {
                 }
             }
         }
-
-        return sun;
     }
 
     /**
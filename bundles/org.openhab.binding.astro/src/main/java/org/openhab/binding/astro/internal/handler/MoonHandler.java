@@ -22,11 +22,13 @@ import java.util.Set;
 import org.eclipse.smarthome.core.scheduler.CronScheduler;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.AstroCalculationCache;
 import org.openhab.binding.astro.internal.calc.MoonCalc;
 import org.openhab.binding.astro.internal.job.DailyJobMoon;
 import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.Planet;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
 
 /**
  * The MoonHandler is responsible for updating calculated moon data.
@@ -41,26 +43,38 @@ public class MoonHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "phase#name", "phase#age", "phase#agePercent",
             "phase#ageDegree", "phase#illumination", "position#azimuth", "position#elevation", "zodiac#sign" };
     private final MoonCalc moonCalc = new MoonCalc();
+    private final AstroCalculationCache calculationCache;
     private Moon moon;
+    private Calendar moonDate;
 
     /**
      * Constructor
      */
-    public MoonHandler(Thing thing, CronScheduler scheduler) {
+    public MoonHandler(Thing thing, CronScheduler scheduler, AstroCalculationCache calculationCache) {
         super(thing, scheduler);
+        this.calculationCache = calculationCache;
     }
 
     @Override
     public void publishDailyInfo() {
         initializeMoon();
         publishPositionalInfo();
+        calculationCache.precomputeMoonInfo(Calendar.getInstance(), thingConfig.getLatitude(),
+                thingConfig.getLongitude(), AstroCalculationCache.PRECOMPUTE_DAYS);
     }
 
     @Override
     public void publishPositionalInfo() {
-        initializeMoon();
-        moonCalc.setPositionalInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude(), moon);
-        publishPlanet();
+        Calendar now = Calendar.getInstance();
+        Moon moon = this.moon;
+        if (moon == null || !DateTimeUtils.isSameDay(moonDate, now)) {
+            moon = initializeMoon();
+        }
+        // the daily data is shared with all things of the same location
+        synchronized (moon) {
+            moonCalc.setPositionalInfo(now, thingConfig.getLatitude(), thingConfig.getLongitude(), moon);
+            publishPlanet();
+        }
     }
 
     @Override
@@ -72,6 +86,7 @@ public class MoonHandler extends AstroThingHandler {
     public void dispose() {
         super.dispose();
         moon = null;
+        moonDate = null;
     }
 
     @Override
@@ -84,8 +99,10 @@ public class MoonHandler extends AstroThingHandler {
         return new DailyJobMoon(thing.getUID().getAsString(), this);
     }
 
-    private void initializeMoon() {
-        moon = moonCalc.getMoonInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude());
+    private Moon initializeMoon() {
+        moonDate = Calendar.getInstance();
+        moon = calculationCache.getMoonInfo(moonDate, thingConfig.getLatitude(), thingConfig.getLongitude());
+        return moon;
     }
 
 }
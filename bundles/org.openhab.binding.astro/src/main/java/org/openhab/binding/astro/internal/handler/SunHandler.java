@@ -22,11 +22,13 @@ import java.util.Set;
 import org.eclipse.smarthome.core.scheduler.CronScheduler;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.openhab.binding.astro.internal.calc.AstroCalculationCache;
 import org.openhab.binding.astro.internal.calc.SunCalc;
 import org.openhab.binding.astro.internal.job.DailyJobSun;
 import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Sun;
+import org.openhab.binding.astro.internal.util.DateTimeUtils;
 
 /**
  * The SunHandler is responsible for updating calculated sun data.
@@ -41,27 +43,40 @@ public class SunHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "position#azimuth", "position#elevation",
             "radiation#direct", "radiation#diffuse", "radiation#total" };
     private final SunCalc sunCalc = new SunCalc();
+    private final AstroCalculationCache calculationCache;
     private Sun sun;
+    private Calendar sunDate;
 
     /**
      * Constructor
      */
-    public SunHandler(Thing thing, CronScheduler scheduler) {
+    public SunHandler(Thing thing, CronScheduler scheduler, AstroCalculationCache calculationCache) {
         super(thing, scheduler);
+        this.calculationCache = calculationCache;
     }
 
     @Override
     public void publishDailyInfo() {
         initializeSun();
         publishPositionalInfo();
+        calculationCache.precomputeSunInfo(Calendar.getInstance(), thingConfig.getLatitude(),
+                thingConfig.getLongitude(), thingConfig.getAltitude(), AstroCalculationCache.PRECOMPUTE_DAYS);
     }
 
     @Override
     public void publishPositionalInfo() {
-        initializeSun();
-        sunCalc.setPositionalInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude(),
-                thingConfig.getAltitude(), sun);
-        publishPlanet();
+        Calendar now = Calendar.getInstance();
+        Sun sun = this.sun;
+        if (sun == null || !DateTimeUtils.isSameDay(sunDate, now)) {
+            sun = initializeSun();
+        }
+        // the daily data is shared with all things of the same location
+        synchronized (sun) {
+            sunCalc.setPhaseInfo(now, sun);
+            sunCalc.setPositionalInfo(now, thingConfig.getLatitude(), thingConfig.getLongitude(),
+                    thingConfig.getAltitude(), sun);
+            publishPlanet();
+        }
     }
 
     @Override
@@ -73,6 +88,7 @@ public class SunHandler extends AstroThingHandler {
     public void dispose() {
         super.dispose();
         sun = null;
+        sunDate = null;
     }
 
     @Override
@@ -85,9 +101,11 @@ public class SunHandler extends AstroThingHandler {
         return new DailyJobSun(thing.getUID().getAsString(), this);
     }
 
-    private void initializeSun() {
-        sun = sunCalc.getSunInfo(Calendar.getInstance(), thingConfig.getLatitude(), thingConfig.getLongitude(),
-                thingConfig.getAltitude());
+    private Sun initializeSun() {
+        sunDate = Calendar.getInstance();
+        sun = calculationCache.getSunInfo(sunDate, thingConfig.getLatitude(),
+                thingConfig.getLongitude(), thingConfig.getAltitude());
+        return sun;
     }
 
 }
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.calc;
+
+import static org.junit.Assert.*;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.junit.Test;
+import org.openhab.binding.astro.internal.model.Moon;
+import org.openhab.binding.astro.internal.model.Sun;
+
+/**
+ * Test class for {@link AstroCalculationCache}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class AstroCalculationCacheTest {
+
+    private static final double AMSTERDAM_LATITUDE = 52.367607;
+    private static final double AMSTERDAM_LONGITUDE = 4.8978293;
+    private static final Double AMSTERDAM_ALTITUDE = 0.0;
+
+    private final AstroCalculationCache cache = new AstroCalculationCache();
+
+    @Test
+    public void testSameDayAndLocationIsCalculatedOnce() {
+        Calendar morning = new GregorianCalendar(2019, Calendar.FEBRUARY, 27, 8, 0);
+        Calendar evening = new GregorianCalendar(2019, Calendar.FEBRUARY, 27, 20, 0);
+
+        Sun sun = cache.getSunInfo(morning, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE);
+        assertSame(sun, cache.getSunInfo(evening, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE));
+
+        Moon moon = cache.getMoonInfo(morning, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+        assertSame(moon, cache.getMoonInfo(evening, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE));
+    }
+
+    @Test
+    public void testOtherDayOrLocationIsCalculatedAgain() {
+        Calendar today = new GregorianCalendar(2019, Calendar.FEBRUARY, 27);
+        Calendar tomorrow = new GregorianCalendar(2019, Calendar.FEBRUARY, 28);
+
+        Sun sun = cache.getSunInfo(today, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE);
+        assertNotSame(sun, cache.getSunInfo(tomorrow, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE));
+        assertNotSame(sun, cache.getSunInfo(today, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, 100.0));
+        assertNotSame(sun, cache.getSunInfo(today, 0.0, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE));
+    }
+
+    @Test
+    public void testPrecomputedDayIsReused() {
+        Calendar today = new GregorianCalendar(2019, Calendar.FEBRUARY, 27, 0, 0, 30);
+        Calendar tomorrow = new GregorianCalendar(2019, Calendar.FEBRUARY, 28, 0, 0, 30);
+
+        cache.precomputeSunInfo(today, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, 1);
+        Sun sun = cache.getSunInfo(tomorrow, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE);
+        assertSame(sun, cache.getSunInfo(tomorrow, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE));
+        assertNotNull(sun.getRise().getStart());
+    }
+
+    @Test
+    public void testPositionalUpdateMovesOnToNextApogeeAndPerigee() {
+        Calendar midnight = new GregorianCalendar(2019, Calendar.FEBRUARY, 27);
+        Moon moon = cache.getMoonInfo(midnight, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE);
+
+        Calendar later = (Calendar) moon.getApogee().getDate().clone();
+        later.add(Calendar.HOUR_OF_DAY, 1);
+        new MoonCalc().setPositionalInfo(later, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, moon);
+        assertTrue(moon.getApogee().getDate().after(later));
+        assertTrue(moon.getPerigee().getDate().after(later));
+    }
+}
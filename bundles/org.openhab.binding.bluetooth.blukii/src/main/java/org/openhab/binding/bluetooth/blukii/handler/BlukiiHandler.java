@@ -49,7 +49,7 @@ public class BlukiiHandler extends BeaconBluetoothHandler implements BluetoothDe
     }
 
     @Override
-    public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+    protected void processScanRecord(BluetoothScanNotification scanNotification) {
         final byte[] manufacturerData = scanNotification.getManufacturerData();
         if (manufacturerData != null) {
             final BlukiiData blukiiData = decoder.decode(manufacturerData);
@@ -80,7 +80,7 @@ public class BlukiiHandler extends BeaconBluetoothHandler implements BluetoothDe
                 });
             }
         }
-        super.onScanRecordReceived(scanNotification);
+        super.processScanRecord(scanNotification);
     }
 
 }
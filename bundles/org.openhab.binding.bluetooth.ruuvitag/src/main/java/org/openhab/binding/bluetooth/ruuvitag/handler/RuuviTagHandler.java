@@ -63,8 +63,8 @@ public class RuuviTagHandler extends BeaconBluetoothHandler {
     }
 
     @Override
-    public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
-        super.onScanRecordReceived(scanNotification);
+    protected void processScanRecord(BluetoothScanNotification scanNotification) {
+        super.processScanRecord(scanNotification);
         final byte[] manufacturerData = scanNotification.getManufacturerData();
         if (manufacturerData != null && manufacturerData.length > 0) {
             final RuuviMeasurement ruuvitagData = parser.parse(manufacturerData);
@@ -122,7 +122,7 @@ public class RuuviTagHandler extends BeaconBluetoothHandler {
                     }
                 }
                 if (atLeastOneRuuviFieldPresent) {
-                    // In practice, updated to ONLINE by super.onScanRecordReceived already, based on RSSI value
+                    // In practice, updated to ONLINE by super.processScanRecord already, based on RSSI value
                 } else {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                             "Received Ruuvi Tag data but no fields could be parsed");
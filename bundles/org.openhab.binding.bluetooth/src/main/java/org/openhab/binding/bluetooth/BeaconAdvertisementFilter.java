@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link BeaconAdvertisementFilter} is the first stage of the processing of beacon advertisements.
+ * <p>
+ * Beacons repeat the same advertisement many times per second. The filter smooths the RSSI values with a moving
+ * average over the last advertisements and only accepts an advertisement if its payload or the smoothed RSSI differ
+ * from the last accepted one. It is cheap enough to be called on the thread of the adapter.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class BeaconAdvertisementFilter {
+
+    private final int[] rssiWindow;
+    private int rssiCount;
+    private int rssiIndex;
+    private int rssiSum;
+
+    private byte @Nullable [] lastPayload;
+    private int lastRssi = Integer.MIN_VALUE;
+
+    /**
+     * Constructor
+     *
+     * @param rssiWindowSize the number of RSSI values to average, 1 disables smoothing
+     */
+    public BeaconAdvertisementFilter(int rssiWindowSize) {
+        rssiWindow = new int[Math.max(1, rssiWindowSize)];
+    }
+
+    /**
+     * Adds the advertisement to the filter.
+     *
+     * @param scanNotification the received advertisement
+     * @return true if the advertisement carries a new payload or changes the smoothed RSSI, false if it can be dropped
+     */
+    public synchronized boolean accept(BluetoothScanNotification scanNotification) {
+        boolean changed = false;
+
+        int rssi = scanNotification.getRssi();
+        if (rssi != Integer.MIN_VALUE) {
+            addRssi(rssi);
+            int smoothedRssi = getRssi();
+            if (smoothedRssi != lastRssi) {
+                lastRssi = smoothedRssi;
+                changed = true;
+            }
+        }
+
+        byte[] payload = getPayload(scanNotification);
+        if (payload != null && !Arrays.equals(payload, lastPayload)) {
+            lastPayload = payload;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the RSSI averaged over the last advertisements.
+     *
+     * @return the smoothed RSSI in dBm or Integer.MIN_VALUE if no RSSI has been received yet
+     */
+    public synchronized int getRssi() {
+        return rssiCount == 0 ? Integer.MIN_VALUE : Math.round((float) rssiSum / rssiCount);
+    }
+
+    /**
+     * Forgets all received advertisements.
+     */
+    public synchronized void reset() {
+        rssiCount = 0;
+        rssiIndex = 0;
+        rssiSum = 0;
+        lastPayload = null;
+        lastRssi = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns true if the advertisement carries any data besides the RSSI.
+     */
+    public static boolean hasPayload(BluetoothScanNotification scanNotification) {
+        return getPayload(scanNotification) != null;
+    }
+
+    private static byte @Nullable [] getPayload(BluetoothScanNotification scanNotification) {
+        byte[] manufacturerData = scanNotification.getManufacturerData();
+        return manufacturerData != null ? manufacturerData : scanNotification.getData();
+    }
+
+    private void addRssi(int rssi) {
+        if (rssiCount == rssiWindow.length) {
+            rssiSum -= rssiWindow[rssiIndex];
+        } else {
+            rssiCount++;
+        }
+        rssiWindow[rssiIndex] = rssi;
+        rssiSum += rssi;
+        rssiIndex = (rssiIndex + 1) % rssiWindow.length;
+    }
+}
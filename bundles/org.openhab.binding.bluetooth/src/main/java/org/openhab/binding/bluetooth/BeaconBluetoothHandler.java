@@ -12,9 +12,13 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -28,6 +32,8 @@ import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is a handler for generic Bluetooth devices in beacon-mode (i.e. not connected), which at the same time can be
@@ -38,6 +44,8 @@ import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 @NonNullByDefault
 public class BeaconBluetoothHandler extends BaseThingHandler implements BluetoothDeviceListener {
 
+    private final Logger logger = LoggerFactory.getLogger(BeaconBluetoothHandler.class);
+
     @NonNullByDefault({} /* non-null if initialized */)
     protected BluetoothAdapter adapter;
 
@@ -49,6 +57,14 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     protected final ReentrantLock deviceLock;
 
+    private final AtomicReference<@Nullable BluetoothScanNotification> pendingScanNotification = new AtomicReference<>();
+    private final Object scanRecordLock = new Object();
+    private BeaconAdvertisementFilter advertisementFilter = new BeaconAdvertisementFilter(
+            BluetoothBindingConstants.DEFAULT_RSSI_WINDOW_SIZE);
+    private long minUpdateInterval = BluetoothBindingConstants.DEFAULT_MIN_UPDATE_INTERVAL;
+    private volatile long lastScanRecordProcessed;
+    private @Nullable ScheduledFuture<?> scanRecordJob;
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -78,6 +94,12 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
         adapter = (BluetoothAdapter) bridgeHandler;
 
+        advertisementFilter = new BeaconAdvertisementFilter(getConfigValue(
+                BluetoothBindingConstants.CONFIGURATION_RSSI_WINDOW_SIZE,
+                BluetoothBindingConstants.DEFAULT_RSSI_WINDOW_SIZE).intValue());
+        minUpdateInterval = getConfigValue(BluetoothBindingConstants.CONFIGURATION_MIN_UPDATE_INTERVAL,
+                BluetoothBindingConstants.DEFAULT_MIN_UPDATE_INTERVAL).longValue();
+
         try {
             deviceLock.lock();
             device = adapter.getDevice(address);
@@ -101,6 +123,18 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         } finally {
             deviceLock.unlock();
         }
+
+        ScheduledFuture<?> job = scanRecordJob;
+        if (job != null) {
+            job.cancel(false);
+            scanRecordJob = null;
+        }
+        pendingScanNotification.set(null);
+    }
+
+    private Number getConfigValue(String name, Number defaultValue) {
+        Object value = getConfig().get(name);
+        return value instanceof Number ? (Number) value : defaultValue;
     }
 
     @Override
@@ -142,7 +176,45 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     @Override
     public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
-        int rssi = scanNotification.getRssi();
+        // this is called by the thread of the adapter, so drop repeated advertisements and process the others later
+        if (!advertisementFilter.accept(scanNotification)) {
+            return;
+        }
+        // keep an advertisement with payload if only the RSSI changed, as the RSSI is taken from the filter anyway
+        BluetoothScanNotification previous = pendingScanNotification.getAndAccumulate(scanNotification,
+                (pending, received) -> pending != null && !BeaconAdvertisementFilter.hasPayload(received) ? pending
+                        : received);
+        if (previous == null) {
+            long delay = lastScanRecordProcessed + minUpdateInterval - System.currentTimeMillis();
+            scanRecordJob = scheduler.schedule(this::processPendingScanRecord, Math.max(0, delay),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void processPendingScanRecord() {
+        synchronized (scanRecordLock) {
+            lastScanRecordProcessed = System.currentTimeMillis();
+            BluetoothScanNotification scanNotification = pendingScanNotification.getAndSet(null);
+            if (scanNotification == null || device == null) {
+                return;
+            }
+            try {
+                processScanRecord(scanNotification);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to process advertisement of {}: {}", address, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Processes an advertisement of the device. Repeated advertisements are dropped and the updates of a device are
+     * limited to one per configured interval before this method is called, so subclasses decoding the payload should
+     * override this method instead of {@link #onScanRecordReceived(BluetoothScanNotification)}.
+     *
+     * @param scanNotification the latest advertisement
+     */
+    protected void processScanRecord(BluetoothScanNotification scanNotification) {
+        int rssi = advertisementFilter.getRssi();
         if (rssi != Integer.MIN_VALUE) {
             device.setRssi(rssi);
             updateRSSI();
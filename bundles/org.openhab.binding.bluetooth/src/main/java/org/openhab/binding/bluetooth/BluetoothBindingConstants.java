@@ -38,6 +38,11 @@ public class BluetoothBindingConstants {
     public static final String PROPERTY_MAXCONNECTIONS = "maxconnections";
 
     public static final String CONFIGURATION_ADDRESS = "address";
+    public static final String CONFIGURATION_RSSI_WINDOW_SIZE = "rssiWindowSize";
+    public static final String CONFIGURATION_MIN_UPDATE_INTERVAL = "minUpdateInterval";
+
+    public static final int DEFAULT_RSSI_WINDOW_SIZE = 5;
+    public static final long DEFAULT_MIN_UPDATE_INTERVAL = 1000;
 
     public static final long BLUETOOTH_BASE_UUID = 0x800000805f9b34fbL;
 
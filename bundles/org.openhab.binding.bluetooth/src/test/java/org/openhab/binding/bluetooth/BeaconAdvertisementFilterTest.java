@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Test class for {@link BeaconAdvertisementFilter}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class BeaconAdvertisementFilterTest {
+
+    @Test
+    public void testRepeatedAdvertisementIsDropped() {
+        BeaconAdvertisementFilter filter = new BeaconAdvertisementFilter(1);
+
+        assertTrue(filter.accept(notification(-60, 1, 2, 3)));
+        assertFalse(filter.accept(notification(-60, 1, 2, 3)));
+        assertTrue(filter.accept(notification(-60, 1, 2, 4)));
+        assertTrue(filter.accept(notification(-61, 1, 2, 4)));
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        BeaconAdvertisementFilter filter = new BeaconAdvertisementFilter(4);
+        assertEquals(Integer.MIN_VALUE, filter.getRssi());
+
+        filter.accept(notification(-60));
+        filter.accept(notification(-70));
+        assertEquals(-65, filter.getRssi());
+
+        for (int i = 0; i < 4; i++) {
+            filter.accept(notification(-80));
+        }
+        assertEquals(-80, filter.getRssi());
+    }
+
+    @Test
+    public void testSmallRssiChangesAreDropped() {
+        BeaconAdvertisementFilter filter = new BeaconAdvertisementFilter(10);
+        for (int i = 0; i < 10; i++) {
+            filter.accept(notification(-60));
+        }
+
+        // averaged over 10 values this doesn't change the rounded RSSI
+        assertFalse(filter.accept(notification(-62)));
+    }
+
+    @Test
+    public void testAdvertisementWithoutRssi() {
+        BeaconAdvertisementFilter filter = new BeaconAdvertisementFilter(5);
+
+        assertTrue(filter.accept(notification(Integer.MIN_VALUE, 1)));
+        assertFalse(filter.accept(notification(Integer.MIN_VALUE, 1)));
+        assertEquals(Integer.MIN_VALUE, filter.getRssi());
+    }
+
+    private BluetoothScanNotification notification(int rssi, int... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        if (manufacturerData.length > 0) {
+            byte[] data = new byte[manufacturerData.length];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) manufacturerData[i];
+            }
+            notification.setManufacturerData(data);
+        }
+        return notification;
+    }
+}
@@ -70,7 +70,7 @@ public abstract class AbstractSensorJobExecutor {
         public void run() {
             SensorJob sensorJob = circuit.getNextSensorJob();
             if (sensorJob != null) {
-                sensorJob.execute(dSAPI, connectionManager.getSessionToken());
+                executeSensorJob(circuit, sensorJob, dSAPI, connectionManager.getSessionToken());
             }
             if (circuit.noMoreJobs()) {
                 logger.debug("no more jobs... stop circuit schedduler with id = {}", circuit.getMeterDSID());
@@ -129,6 +129,19 @@ public abstract class AbstractSensorJobExecutor {
         }
     }
 
+    /**
+     * Executes the given {@link SensorJob} of the given {@link CircuitScheduler}.
+     *
+     * @param circuit of the {@link SensorJob}
+     * @param sensorJob to execute
+     * @param dSAPI to use
+     * @param sessionToken to login
+     */
+    protected void executeSensorJob(CircuitScheduler circuit, SensorJob sensorJob, DsAPI dSAPI, String sessionToken) {
+        // can be overridden to execute several jobs of the circuit at once
+        sensorJob.execute(dSAPI, sessionToken);
+    }
+
     /**
      * Adds a high priority {@link SensorJob}.
      *
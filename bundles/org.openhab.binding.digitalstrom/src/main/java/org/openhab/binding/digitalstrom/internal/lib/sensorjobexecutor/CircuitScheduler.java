@@ -12,8 +12,12 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 
 import org.openhab.binding.digitalstrom.internal.lib.config.Config;
@@ -25,6 +29,11 @@ import org.slf4j.LoggerFactory;
 /**
  * This {@link CircuitScheduler} represents a circuit in the digitalSTROM-System and manages the priorities and
  * execution times for the {@link SensorJob}s on this circuit.
+ * <p>
+ * The queued {@link SensorJob}s are indexed by themselves, so a {@link SensorJob} can be added without searching the
+ * queue. If a {@link SensorJob} is replaced by one with a higher priority, the replaced one stays in the queue and is
+ * skipped, when it is polled.
+ * </p>
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -44,6 +53,7 @@ public class CircuitScheduler {
     private final DSID meterDSID;
     private long nextExecutionTime = System.currentTimeMillis();
     private final PriorityQueue<SensorJob> sensorJobQueue = new PriorityQueue<SensorJob>(10, new SensorJobComparator());
+    private final Map<SensorJob, SensorJob> queuedSensorJobs = new HashMap<SensorJob, SensorJob>();
     private final Config config;
 
     /**
@@ -70,6 +80,7 @@ public class CircuitScheduler {
     public CircuitScheduler(SensorJob sensorJob, Config config) {
         this.meterDSID = sensorJob.getMeterDSID();
         this.sensorJobQueue.add(sensorJob);
+        this.queuedSensorJobs.put(sensorJob, sensorJob);
         this.config = config;
         logger.debug("create circuitScheduler: {} and add sensorJob: {}", this.getMeterDSID(),
                 sensorJob.getDSID().toString());
@@ -91,10 +102,16 @@ public class CircuitScheduler {
      */
     public void addSensorJob(SensorJob sensorJob) {
         synchronized (sensorJobQueue) {
-            if (!this.sensorJobQueue.contains(sensorJob)) {
+            SensorJob existSensorJob = queuedSensorJobs.get(sensorJob);
+            if (existSensorJob == null) {
+                queuedSensorJobs.put(sensorJob, sensorJob);
                 sensorJobQueue.add(sensorJob);
                 logger.debug("Add sensorJob: {} to circuitScheduler: {}", sensorJob.toString(), this.getMeterDSID());
-            } else if (checkSensorJobPrio(sensorJob)) {
+            } else if (sensorJob.getInitalisationTime() < existSensorJob.getInitalisationTime()) {
+                // the replaced job is skipped by getNextSensorJob()
+                queuedSensorJobs.put(sensorJob, sensorJob);
+                sensorJobQueue.add(sensorJob);
+                purgeReplacedSensorJobs();
                 logger.debug("add sensorJob: {} with higher priority to circuitScheduler: {}", sensorJob.toString(),
                         this.getMeterDSID());
             } else {
@@ -103,20 +120,15 @@ public class CircuitScheduler {
         }
     }
 
-    private boolean checkSensorJobPrio(SensorJob sensorJob) {
-        synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
-                SensorJob existSensorJob = iter.next();
-                if (existSensorJob.equals(sensorJob)) {
-                    if (sensorJob.getInitalisationTime() < existSensorJob.getInitalisationTime()) {
-                        iter.remove();
-                        sensorJobQueue.add(sensorJob);
-                        return true;
-                    }
-                }
-            }
+    private boolean isQueued(SensorJob sensorJob) {
+        return queuedSensorJobs.get(sensorJob) == sensorJob;
+    }
+
+    private void purgeReplacedSensorJobs() {
+        if (sensorJobQueue.size() > 2 * queuedSensorJobs.size() + 10) {
+            sensorJobQueue.clear();
+            sensorJobQueue.addAll(queuedSensorJobs.values());
         }
-        return false;
     }
 
     /**
@@ -127,15 +139,58 @@ public class CircuitScheduler {
      */
     public SensorJob getNextSensorJob() {
         synchronized (sensorJobQueue) {
-            if (sensorJobQueue.peek() != null && this.nextExecutionTime <= System.currentTimeMillis()) {
-                nextExecutionTime = System.currentTimeMillis() + config.getSensorReadingWaitTime();
-                return sensorJobQueue.poll();
+            if (!queuedSensorJobs.isEmpty() && this.nextExecutionTime <= System.currentTimeMillis()) {
+                SensorJob sensorJob;
+                do {
+                    sensorJob = sensorJobQueue.poll();
+                } while (sensorJob != null && !isQueued(sensorJob));
+                if (sensorJob != null) {
+                    queuedSensorJobs.remove(sensorJob);
+                    nextExecutionTime = System.currentTimeMillis() + config.getSensorReadingWaitTime();
+                }
+                return sensorJob;
             } else {
                 return null;
             }
         }
     }
 
+    /**
+     * Returns all queued {@link SensorJob}s of the given type, e.g. to execute them together with the next
+     * {@link SensorJob}.
+     *
+     * @param type of the {@link SensorJob}s
+     * @return list of queued SensorJobs
+     */
+    public <T extends SensorJob> List<T> getSensorJobs(Class<T> type) {
+        List<T> sensorJobs = new ArrayList<T>();
+        synchronized (sensorJobQueue) {
+            for (SensorJob sensorJob : queuedSensorJobs.values()) {
+                if (type.isInstance(sensorJob)) {
+                    sensorJobs.add(type.cast(sensorJob));
+                }
+            }
+        }
+        return sensorJobs;
+    }
+
+    /**
+     * Removes the given {@link SensorJob}, if it is still queued, e.g. because it was executed together with another
+     * {@link SensorJob}.
+     *
+     * @param sensorJob to remove
+     * @return true, if the {@link SensorJob} was removed
+     */
+    public boolean removeSensorJob(SensorJob sensorJob) {
+        synchronized (sensorJobQueue) {
+            if (isQueued(sensorJob)) {
+                queuedSensorJobs.remove(sensorJob);
+                return true;
+            }
+            return false;
+        }
+    }
+
     /**
      * Returns the time when the next {@link SensorJob} can be executed.
      *
@@ -162,13 +217,14 @@ public class CircuitScheduler {
      */
     public void removeSensorJob(DSID dSID) {
         synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
+            for (Iterator<SensorJob> iter = queuedSensorJobs.values().iterator(); iter.hasNext();) {
                 SensorJob job = iter.next();
                 if (job.getDSID().equals(dSID)) {
                     iter.remove();
                     logger.debug("Remove SensorJob with ID {}.", job.getID());
                 }
             }
+            purgeReplacedSensorJobs();
         }
     }
 
@@ -179,10 +235,11 @@ public class CircuitScheduler {
      */
     public void removeSensorJob(String id) {
         synchronized (sensorJobQueue) {
-            for (Iterator<SensorJob> iter = sensorJobQueue.iterator(); iter.hasNext();) {
+            for (Iterator<SensorJob> iter = queuedSensorJobs.values().iterator(); iter.hasNext();) {
                 SensorJob job = iter.next();
                 if (job.getID().equals(id)) {
                     iter.remove();
+                    purgeReplacedSensorJobs();
                     logger.debug("Remove SensorJob with ID {}.", id);
                     return;
                 }
@@ -198,7 +255,7 @@ public class CircuitScheduler {
      */
     public boolean noMoreJobs() {
         synchronized (sensorJobQueue) {
-            return this.sensorJobQueue.isEmpty();
+            return this.queuedSensorJobs.isEmpty();
         }
     }
 }
@@ -12,11 +12,26 @@
  */
 package org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.openhab.binding.digitalstrom.internal.lib.GeneralLibConstance;
 import org.openhab.binding.digitalstrom.internal.lib.manager.ConnectionManager;
 import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.SensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.sensorjobexecutor.sensorjob.impl.DeviceConsumptionSensorJob;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.DsAPI;
+import org.openhab.binding.digitalstrom.internal.lib.serverconnection.constants.JSONApiResponseKeysEnum;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.constants.SensorEnum;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DSID;
+import org.openhab.binding.digitalstrom.internal.lib.structure.devices.deviceparameters.impl.DeviceSensorValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
 /**
  * The {@link SensorJobExecutor} is the implementation of the {@link AbstractSensorJobExecutor} to execute
  * digitalSTROM-Device {@link SensorJob}'s e.g. {@link DeviceConsumptionSensorJob} and
@@ -30,6 +45,12 @@ import org.slf4j.LoggerFactory;
  * <li>medium priority: read cycles before execution is set in {@link Config}</li>
  * <li>high priority: read cycles before execution 0</li>
  * </ul>
+ * <p>
+ * If more {@link DeviceConsumptionSensorJob}s are queued on a circuit, the sensor values of all devices are read with
+ * one query of the property tree. Every {@link DeviceConsumptionSensorJob} with a valid sensor value, which is not
+ * older than the sensor data refresh interval set at the {@link Config}, is done by this query, all others are
+ * executed one by one as before.
+ * </p>
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -39,6 +60,13 @@ public class SensorJobExecutor extends AbstractSensorJobExecutor {
 
     private final Logger logger = LoggerFactory.getLogger(SensorJobExecutor.class);
 
+    /**
+     * Query to get the sensor values of all devices. Can be executed with
+     * {@link DsAPI#query2(String, String)}.
+     */
+    public static final String GET_DEVICE_SENSOR_VALUES = "/apartment/zones/zone0(*)/devices/*(dSID,meterDSID)"
+            + "/sensorInputs(*)/*(*)";
+
     private final long mediumFactor = super.config.getSensorReadingWaitTime() * super.config.getMediumPriorityFactor();
     private final long lowFactor = super.config.getSensorReadingWaitTime() * super.config.getLowPriorityFactor();
 
@@ -51,6 +79,81 @@ public class SensorJobExecutor extends AbstractSensorJobExecutor {
         super(connectionManager);
     }
 
+    @Override
+    protected void executeSensorJob(CircuitScheduler circuit, SensorJob sensorJob, DsAPI dSAPI, String sessionToken) {
+        List<DeviceConsumptionSensorJob> queuedJobs = sensorJob instanceof DeviceConsumptionSensorJob
+                ? circuit.getSensorJobs(DeviceConsumptionSensorJob.class)
+                : null;
+        if (queuedJobs == null || queuedJobs.isEmpty()) {
+            super.executeSensorJob(circuit, sensorJob, dSAPI, sessionToken);
+            return;
+        }
+        Map<DSID, Map<SensorEnum, DeviceSensorValue>> sensorValues = getSensorValues(circuit.getMeterDSID(), dSAPI,
+                sessionToken);
+        long minTimestamp = System.currentTimeMillis() - config.getSensordataRefreshInterval();
+        if (!updateSensorValue((DeviceConsumptionSensorJob) sensorJob, sensorValues, minTimestamp)) {
+            super.executeSensorJob(circuit, sensorJob, dSAPI, sessionToken);
+        }
+        int count = 0;
+        for (DeviceConsumptionSensorJob queuedJob : queuedJobs) {
+            if (updateSensorValue(queuedJob, sensorValues, minTimestamp) && circuit.removeSensorJob(queuedJob)) {
+                count++;
+            }
+        }
+        logger.debug("Updated {} of {} queued SensorJobs of circuit {} by reading the sensor values at once", count,
+                queuedJobs.size(), circuit.getMeterDSID());
+    }
+
+    private boolean updateSensorValue(DeviceConsumptionSensorJob sensorJob,
+            Map<DSID, Map<SensorEnum, DeviceSensorValue>> sensorValues, long minTimestamp) {
+        Map<SensorEnum, DeviceSensorValue> deviceSensorValues = sensorValues.get(sensorJob.getDSID());
+        DeviceSensorValue sensorValue = deviceSensorValues != null
+                ? deviceSensorValues.get(sensorJob.getSensorType())
+                : null;
+        if (sensorValue == null || !sensorValue.getValid() || sensorValue.getDsValue() == null
+                || sensorValue.getTimestamp() == null || sensorValue.getTimestamp().getTime() < minTimestamp) {
+            return false;
+        }
+        sensorJob.updateSensorValue(sensorValue.getDsValue());
+        return true;
+    }
+
+    private Map<DSID, Map<SensorEnum, DeviceSensorValue>> getSensorValues(DSID meterDSID, DsAPI dSAPI,
+            String sessionToken) {
+        Map<DSID, Map<SensorEnum, DeviceSensorValue>> sensorValues = new HashMap<>();
+        JsonObject result = dSAPI.query2(sessionToken, GET_DEVICE_SENSOR_VALUES);
+        if (result == null || !(result.get(GeneralLibConstance.QUERY_BROADCAST_ZONE_STRING) instanceof JsonObject)) {
+            return sensorValues;
+        }
+        JsonObject zone = result.get(GeneralLibConstance.QUERY_BROADCAST_ZONE_STRING).getAsJsonObject();
+        for (Entry<String, JsonElement> deviceEntry : zone.entrySet()) {
+            if (!deviceEntry.getValue().isJsonObject()) {
+                continue;
+            }
+            JsonObject device = deviceEntry.getValue().getAsJsonObject();
+            JsonElement dSID = device.get(JSONApiResponseKeysEnum.DSID.getKey());
+            JsonElement deviceMeterDSID = device.get(JSONApiResponseKeysEnum.METER_DSID.getKey());
+            JsonElement sensorInputs = device.get(JSONApiResponseKeysEnum.SENSOR_INPUTS.getKey());
+            if (dSID == null || deviceMeterDSID == null || sensorInputs == null || !sensorInputs.isJsonObject()
+                    || !meterDSID.equals(new DSID(deviceMeterDSID.getAsString()))) {
+                continue;
+            }
+            Map<SensorEnum, DeviceSensorValue> deviceSensorValues = new HashMap<SensorEnum, DeviceSensorValue>();
+            for (Entry<String, JsonElement> sensorEntry : sensorInputs.getAsJsonObject().entrySet()) {
+                if (sensorEntry.getValue().isJsonObject()) {
+                    JsonObject sensorInput = sensorEntry.getValue().getAsJsonObject();
+                    JsonElement type = sensorInput.get(JSONApiResponseKeysEnum.TYPE.getKey());
+                    if (type != null && SensorEnum.containsSensor(type.getAsShort())) {
+                        DeviceSensorValue sensorValue = new DeviceSensorValue(sensorInput);
+                        deviceSensorValues.put(sensorValue.getSensorType(), sensorValue);
+                    }
+                }
+            }
+            sensorValues.put(new DSID(dSID.getAsString()), deviceSensorValues);
+        }
+        return sensorValues;
+    }
+
     @Override
     public void addHighPriorityJob(SensorJob sensorJob) {
         if (sensorJob == null) {
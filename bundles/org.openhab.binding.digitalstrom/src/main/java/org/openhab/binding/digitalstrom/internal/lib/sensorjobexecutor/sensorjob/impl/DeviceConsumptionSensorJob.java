@@ -72,11 +72,30 @@ public class DeviceConsumptionSensorJob implements SensorJob {
         int consumption = digitalSTROM.getDeviceSensorValue(token, this.device.getDSID(), null, null,
                 device.getSensorIndex(sensorType));
         logger.debug("Executes {} new device consumption is {}", this.toString(), consumption);
+        updateSensorValue(consumption);
+    }
+
+    /**
+     * Updates the {@link Device} with a sensor value, which was read for several devices at once, instead of
+     * executing this {@link DeviceConsumptionSensorJob}.
+     *
+     * @param consumption dS-value of the sensor
+     */
+    public void updateSensorValue(int consumption) {
         if (updateDevice) {
             device.setDeviceSensorDsValueBySensorJob(sensorType, consumption);
         }
     }
 
+    /**
+     * Returns the {@link SensorEnum} of the sensor to read.
+     *
+     * @return sensor type
+     */
+    public SensorEnum getSensorType() {
+        return sensorType;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof DeviceConsumptionSensorJob) {
@@ -71,6 +71,10 @@ public class SmartyDecrypter implements TelegramParser {
     private final ByteBuffer cipherText = ByteBuffer.allocate(MESSAGES_BUFFER_SIZE);
     private final TelegramParser parser;
     private @Nullable final SecretKeySpec secretKeySpec;
+    /**
+     * The cipher is created once and re-initialized with the iv of each telegram.
+     */
+    private @Nullable Cipher cipher;
 
     private State state = State.WAITING_FOR_START_BYTE;
     private int currentBytePosition;
@@ -201,7 +205,11 @@ public class SmartyDecrypter implements TelegramParser {
     private byte @Nullable [] decrypt() {
         try {
             if (secretKeySpec != null) {
-                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                Cipher cipher = this.cipher;
+                if (cipher == null) {
+                    cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                    this.cipher = cipher;
+                }
                 cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, new GCMParameterSpec(GCM_BITS, iv.array()));
                 cipher.updateAAD(ADD_DECODED);
                 return cipher.doFinal(cipherText.array(), 0, cipherText.position());
@@ -13,7 +13,9 @@
 package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.regex.Matcher;
@@ -115,16 +117,29 @@ public class CosemObject {
     public void parseCosemValues(String cosemValueString) throws ParseException {
         logger.trace("Parsing CosemValue string {}", cosemValueString);
 
-        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
-        int nrOfCosemValues = countCosemValues(cosemValueMatcher);
+        parseCosemValues(splitCosemValues(cosemValueString));
+    }
+
+    /**
+     * Parses the already separated COSEM String values to COSEM objects values.
+     * <p>
+     * When the parser has problems it throws an {@link ParseException}. The
+     * already parsed values will still be available. It is up to the caller how
+     * to handle a partially parsed message.
+     *
+     * @param cosemValueStrings the individual COSEM String values without the enclosing parentheses
+     * @throws ParseException if parsing fails
+     */
+    public void parseCosemValues(List<String> cosemValueStrings) throws ParseException {
+        int nrOfCosemValues = cosemValueStrings.size();
 
         if (type.supportsNrOfValues(nrOfCosemValues)) {
             logger.trace("Received items: {} is supported", nrOfCosemValues);
 
-            int cosemValueItr = 0;
-            while (cosemValueMatcher.find()) {
+            for (int cosemValueItr = 0; cosemValueItr < nrOfCosemValues; cosemValueItr++) {
                 Entry<String, CosemValueDescriptor<?>> valueDescriptorEntry = type.getDescriptor(cosemValueItr);
-                State cosemValue = valueDescriptorEntry.getValue().getStateValue(cosemValueMatcher.group(2));
+                State cosemValue = valueDescriptorEntry.getValue()
+                        .getStateValue(cosemValueStrings.get(cosemValueItr));
 
                 if (cosemValue != null) {
                     if (!cosemValues.containsKey(valueDescriptorEntry.getKey())) {
@@ -134,21 +149,25 @@ public class CosemObject {
                                 cosemValue);
                     }
                 }
-                cosemValueItr++;
             }
         } else {
             throw new ParseException(type + " does not support " + nrOfCosemValues + " items", 0);
         }
     }
 
-    private int countCosemValues(Matcher cosemValueMatcher) {
-        int nrOfCosemValues = 0;
+    /**
+     * Splits a String of COSEM values, each enclosed in parentheses, into the individual values.
+     *
+     * @param cosemValueString the COSEM String values
+     * @return list of the individual values
+     */
+    public static List<String> splitCosemValues(String cosemValueString) {
+        List<String> values = new ArrayList<>();
+        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
 
         while (cosemValueMatcher.find()) {
-            nrOfCosemValues++;
+            values.add(cosemValueMatcher.group(2));
         }
-        // We need the matcher again, reset to initial state
-        cosemValueMatcher.reset();
-        return nrOfCosemValues;
+        return values;
     }
 }
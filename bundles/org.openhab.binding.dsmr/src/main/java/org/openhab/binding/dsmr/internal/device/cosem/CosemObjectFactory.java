@@ -89,11 +89,9 @@ public class CosemObjectFactory {
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
         OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
 
         try {
             obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
         } catch (ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
@@ -101,18 +99,32 @@ public class CosemObjectFactory {
 
         logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
 
+        return getCosemObject(obisId, CosemObject.splitCosemValues(cosemStringValues));
+    }
+
+    /**
+     * Return Cosem Object for the specified OBIS Identifier and the already separated values or null if the values
+     * couldn't be parsed correctly or no corresponding Cosem Object was found
+     *
+     * @param obisId the OBIS message identifier
+     * @param cosemValues the individual Cosem values, without the enclosing parentheses
+     * @return CosemObject or null if parsing failed
+     */
+    public @Nullable CosemObject getCosemObject(OBISIdentifier obisId, List<String> cosemValues) {
+        OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
+
         CosemObject cosemObject = null;
 
         if (obisLookupTableFixed.containsKey(reducedObisId)) {
-            cosemObject = getCosemObjectInternal(obisLookupTableFixed.get(reducedObisId), obisId, cosemStringValues);
+            cosemObject = getCosemObjectInternal(obisLookupTableFixed.get(reducedObisId), obisId, cosemValues);
             logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
         } else if (obisLookupTableDynamic.containsKey(reducedObisId)) {
             logger.trace("Found obisId {} in the dynamic lookup table", reducedObisId);
-            cosemObject = getCosemObjectInternal(obisLookupTableDynamic.get(reducedObisId), obisId, cosemStringValues);
+            cosemObject = getCosemObjectInternal(obisLookupTableDynamic.get(reducedObisId), obisId, cosemValues);
         } else {
             for (CosemObjectType obisMsgType : obisWildcardCosemTypeList) {
                 if (obisMsgType.obisId.equalsWildCard(reducedObisId)) {
-                    cosemObject = getCosemObjectInternal(obisMsgType, obisId, cosemStringValues);
+                    cosemObject = getCosemObjectInternal(obisMsgType, obisId, cosemValues);
                     if (cosemObject != null) {
                         logger.trace("Searched reducedObisId {} in the wild card type list, result: {}", reducedObisId,
                                 cosemObject);
@@ -135,22 +147,21 @@ public class CosemObjectFactory {
      *
      * @param cosemObjectType the type of the CosemObject
      * @param obisIdentifier the actual OBISIdentifier how this cosemObjectType is identified
-     * @param cosemStringValues the values of the CosemObject
+     * @param cosemValues the values of the CosemObject
      *
      * @return a CosemObject or null if parsing failed
      */
     private @Nullable CosemObject getCosemObjectInternal(CosemObjectType cosemObjectType, OBISIdentifier obisIdentifier,
-            String cosemStringValues) {
+            List<String> cosemValues) {
         CosemObject obj = new CosemObject(cosemObjectType, obisIdentifier);
 
         try {
             logger.trace("Parse values for Cosem Object type: {}", cosemObjectType);
-            obj.parseCosemValues(cosemStringValues);
+            obj.parseCosemValues(cosemValues);
 
             return obj;
         } catch (ParseException pe) {
-            logger.trace("Failed to construct Cosem Object for type {}, values: {}", cosemObjectType, cosemStringValues,
-                    pe);
+            logger.trace("Failed to construct Cosem Object for type {}, values: {}", cosemObjectType, cosemValues, pe);
         }
         return null;
     }
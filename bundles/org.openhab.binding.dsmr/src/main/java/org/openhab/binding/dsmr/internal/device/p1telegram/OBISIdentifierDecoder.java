@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.p1telegram;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.dsmr.internal.device.cosem.OBISIdentifier;
+
+/**
+ * Decodes an OBIS identifier (A-B:C.D.E*F) character by character as it is received.
+ * <p>
+ * The groups are accumulated as numbers, so no intermediate String is created and no regular expression is needed.
+ * The decoded groups are packed into a compact numeric key, which is used to reuse the {@link OBISIdentifier}
+ * instances of identifiers that have been seen before. Since a meter sends the same identifiers in every telegram,
+ * after the first telegram no new {@link OBISIdentifier} objects are created.
+ * <p>
+ * The accepted syntax is the same as the one accepted by {@link OBISIdentifier#OBISIdentifier(String)}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+class OBISIdentifierDecoder {
+
+    /**
+     * Maximum number of numbers in an OBIS identifier: A, B, C, D, E and F.
+     */
+    private static final int MAX_NUMBERS = 6;
+
+    /**
+     * Numbers larger than this can't be packed into the compact key.
+     */
+    private static final int MAX_KEY_GROUP_VALUE = 0xFF;
+
+    /**
+     * Guard to not overflow when a meter sends garbage.
+     */
+    private static final int MAX_GROUP_VALUE = 99999;
+
+    /**
+     * Upper limit of cached identifiers, so corrupt data can't fill the cache.
+     */
+    private static final int MAX_CACHED_IDENTIFIERS = 256;
+
+    private static final char NO_SEPARATOR = 0;
+
+    private final int[] numbers = new int[MAX_NUMBERS];
+    private final char[] separators = new char[MAX_NUMBERS];
+    private final Map<Long, OBISIdentifier> identifiers = new HashMap<>();
+
+    private int count;
+    private int current = -1;
+    private boolean invalid;
+
+    /**
+     * Clears the decoder to start decoding a new OBIS identifier.
+     */
+    public void reset() {
+        count = 0;
+        current = -1;
+        invalid = false;
+    }
+
+    /**
+     * @return true if no character has been processed since the last reset
+     */
+    public boolean isEmpty() {
+        return count == 0 && current < 0 && !invalid;
+    }
+
+    /**
+     * Processes a single character of the OBIS identifier.
+     *
+     * @param c the character to process
+     */
+    public void process(char c) {
+        if (invalid) {
+            return;
+        }
+        if (c >= '0' && c <= '9') {
+            current = (current < 0 ? 0 : current * 10) + (c - '0');
+            if (current > MAX_GROUP_VALUE) {
+                invalid = true;
+            }
+        } else if ((c == '-' || c == ':' || c == '.' || c == '*' || Character.isWhitespace(c)) && current >= 0
+                && count < MAX_NUMBERS) {
+            // the string based parser accepts any character before group F, so whitespace is also stored here
+            numbers[count] = current;
+            separators[count] = c;
+            count++;
+            current = -1;
+        } else {
+            invalid = true;
+        }
+    }
+
+    /**
+     * Returns the decoded OBIS identifier.
+     *
+     * @return the {@link OBISIdentifier} or null if the processed characters don't form a valid OBIS identifier
+     */
+    public @Nullable OBISIdentifier getOBISIdentifier() {
+        if (invalid || current < 0 || count >= MAX_NUMBERS) {
+            return null;
+        }
+        numbers[count] = current;
+        separators[count] = NO_SEPARATOR;
+        int length = count + 1;
+
+        int idx = 0;
+        int groupA = 0;
+        Integer groupB = null;
+
+        if (separators[idx] == '-') {
+            groupA = numbers[idx++];
+        }
+        if (separators[idx] == ':') {
+            groupB = numbers[idx++];
+        }
+        // Group C must be followed by a '.' and group D is required
+        if (idx + 1 >= length || separators[idx] != '.') {
+            return null;
+        }
+        int groupC = numbers[idx++];
+        int groupD = numbers[idx++];
+        Integer groupE = null;
+        Integer groupF = null;
+
+        if (idx < length && separators[idx - 1] == '.') {
+            groupE = numbers[idx++];
+        }
+        if (idx < length) {
+            groupF = numbers[idx++];
+        }
+        if (idx < length) {
+            // more numbers than groups
+            return null;
+        }
+        return lookup(groupA, groupB, groupC, groupD, groupE, groupF);
+    }
+
+    private OBISIdentifier lookup(int groupA, @Nullable Integer groupB, int groupC, int groupD,
+            @Nullable Integer groupE, @Nullable Integer groupF) {
+        if (groupA > MAX_KEY_GROUP_VALUE || exceedsKey(groupB) || groupC > MAX_KEY_GROUP_VALUE
+                || groupD > MAX_KEY_GROUP_VALUE || exceedsKey(groupE) || exceedsKey(groupF)) {
+            return new OBISIdentifier(groupA, groupB, groupC, groupD, groupE, groupF);
+        }
+        long key = groupA;
+        key = (key << 9) | keyPart(groupB);
+        key = (key << 8) | groupC;
+        key = (key << 8) | groupD;
+        key = (key << 9) | keyPart(groupE);
+        key = (key << 9) | keyPart(groupF);
+
+        OBISIdentifier obisIdentifier = identifiers.get(key);
+        if (obisIdentifier == null) {
+            obisIdentifier = new OBISIdentifier(groupA, groupB, groupC, groupD, groupE, groupF);
+            if (identifiers.size() < MAX_CACHED_IDENTIFIERS) {
+                identifiers.put(key, obisIdentifier);
+            }
+        }
+        return obisIdentifier;
+    }
+
+    private static boolean exceedsKey(@Nullable Integer group) {
+        return group != null && group > MAX_KEY_GROUP_VALUE;
+    }
+
+    /**
+     * Optional groups use 9 bits: the highest bit marks the group present.
+     */
+    private static long keyPart(@Nullable Integer group) {
+        return group == null ? 0 : (0x100 | group);
+    }
+}
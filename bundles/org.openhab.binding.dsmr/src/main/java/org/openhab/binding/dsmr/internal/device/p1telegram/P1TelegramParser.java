@@ -17,11 +17,11 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObjectFactory;
+import org.openhab.binding.dsmr.internal.device.cosem.OBISIdentifier;
 import org.openhab.binding.dsmr.internal.device.p1telegram.P1Telegram.TelegramState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +32,9 @@ import org.slf4j.LoggerFactory;
  *
  * Data can be parsed in chunks. If a full P1 telegram is received, listeners are notified
  *
+ * The OBIS identifier, the CRC value and the boundaries of the individual COSEM values are decoded while the bytes
+ * are received. No regular expressions are applied to the raw data.
+ *
  * @author M. Volaart - Initial contribution
  * @author Hilbrand Bouwkamp - Removed asynchronous call and some clean up
  */
@@ -59,24 +62,34 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of hexadecimal digits of the CRC-code
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_DIGITS = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
     /* internal state variables */
 
     /**
-     * current obisId buffer.
+     * Decoder of the current OBIS identifier.
+     */
+    private final OBISIdentifierDecoder obisIdDecoder = new OBISIdentifierDecoder();
+
+    /**
+     * In lenient mode the current obisId is also kept as String to report unknown cosem objects.
      */
     private final StringBuilder obisId = new StringBuilder();
 
     /**
-     * Current cosem object values buffer.
+     * Buffer of the cosem value that is currently received.
      */
     private final StringBuilder obisValue = new StringBuilder();
 
+    /**
+     * The already completely received values of the current cosem object.
+     */
+    private final List<String> obisValues = new ArrayList<>();
+
     /**
      * In lenient mode store raw data and log when a complete message is received.
      */
@@ -85,7 +98,17 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * Current crc value read.
      */
-    private final StringBuilder crcValue = new StringBuilder();
+    private int crcValue;
+
+    /**
+     * Number of crc characters read.
+     */
+    private int crcDigits;
+
+    /**
+     * Set if a crc character is not a hexadecimal digit.
+     */
+    private boolean crcInvalid;
 
     /**
      * CRC calculation helper
@@ -241,18 +264,18 @@ public class P1TelegramParser implements TelegramParser {
                      * P1 telegram is correctly finished
                      */
                     if (c == '\r' || c == '/') {
-                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
+                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState,
+                                Integer.toHexString(crcValue));
                         // Only perform CRC check if telegram is still ok
-                        if (telegramState == TelegramState.OK && crcValue.length() > 0) {
-                            if (Pattern.matches(CRC_PATTERN, crcValue)) {
-                                int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+                        if (telegramState == TelegramState.OK && crcDigits > 0) {
+                            if (!crcInvalid && crcDigits == CRC_DIGITS) {
                                 int calculatedCRC = crc.getCurrentCRCCode();
 
-                                if (logger.isDebugEnabled()) {
-                                    logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValue,
-                                            String.format("%04X", calculatedCRC));
+                                if (logger.isTraceEnabled()) {
+                                    logger.trace("received CRC value: {}, calculated CRC value: 0x{}",
+                                            String.format("%04X", crcValue), String.format("%04X", calculatedCRC));
                                 }
-                                if (crcP1Telegram != calculatedCRC) {
+                                if (crcValue != calculatedCRC) {
                                     logger.trace("CRC value does not match, p1 Telegram failed");
 
                                     telegramState = TelegramState.CRC_ERROR;
@@ -322,22 +345,40 @@ public class P1TelegramParser implements TelegramParser {
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_ID:
-                obisId.append(c);
+                obisIdDecoder.process(c);
+                if (lenientMode) {
+                    obisId.append(c);
+                }
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_VALUE:
-                obisValue.append(c);
+                if (c == '(') {
+                    // start of a new value
+                    obisValue.setLength(0);
+                } else {
+                    obisValue.append(c);
+                }
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_VALUE_END:
-                obisValue.append(c);
+                if (c == ')') {
+                    obisValues.add(obisValue.toString());
+                    obisValue.setLength(0);
+                }
                 crc.processByte((byte) c);
                 break;
             case CRC_VALUE:
                 if (c == '!') {
                     crc.processByte((byte) c);
                 } else {
-                    crcValue.append(c);
+                    int digit = Character.digit(c, 16);
+
+                    if (digit < 0) {
+                        crcInvalid = true;
+                    } else {
+                        crcValue = (crcValue << 4) | digit;
+                    }
+                    crcDigits++;
                 }
                 // CRC data is not part of received data
                 break;
@@ -350,10 +391,11 @@ public class P1TelegramParser implements TelegramParser {
      * Clears all internal state
      */
     private void clearInternalData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        clearObisData();
         rawData.setLength(0);
-        crcValue.setLength(0);
+        crcValue = 0;
+        crcDigits = 0;
+        crcInvalid = false;
         crc.initialize();
         cosemObjects.clear();
         unknownCosemObjects.clear();
@@ -365,23 +407,31 @@ public class P1TelegramParser implements TelegramParser {
      * - current OBIS value
      */
     private void clearObisData() {
+        obisIdDecoder.reset();
         obisId.setLength(0);
         obisValue.setLength(0);
+        obisValues.clear();
     }
 
     /**
      * Store the current CosemObject in the list of received cosem Objects
      */
     private void storeCurrentCosemObject() {
-        String obisIdString = obisId.toString();
+        if (!obisIdDecoder.isEmpty()) {
+            OBISIdentifier obisIdentifier = obisIdDecoder.getOBISIdentifier();
+            CosemObject cosemObject = null;
 
-        if (!obisIdString.isEmpty()) {
-            final String obisValueString = obisValue.toString();
-            CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+            if (obisIdentifier == null) {
+                logger.debug("Received invalid OBIS identifier");
+            } else {
+                logger.trace("Received obisId: {}, values: {}", obisIdentifier, obisValues);
+                cosemObject = factory.getCosemObject(obisIdentifier, obisValues);
+            }
 
             if (cosemObject == null) {
                 if (lenientMode) {
-                    unknownCosemObjects.add(new SimpleEntry<String, String>(obisIdString, obisValueString));
+                    unknownCosemObjects.add(new SimpleEntry<String, String>(obisId.toString(),
+                            obisValues.isEmpty() ? "" : "(" + String.join(")(", obisValues) + ")"));
                 }
             } else {
                 logger.trace("Adding {} to list of Cosem Objects", cosemObject);
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.p1telegram;
+
+import static org.junit.Assert.*;
+
+import java.text.ParseException;
+
+import org.junit.Test;
+import org.openhab.binding.dsmr.internal.device.cosem.OBISIdentifier;
+
+/**
+ * Test class for {@link OBISIdentifierDecoder}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class OBISIdentifierDecoderTest {
+
+    private final OBISIdentifierDecoder decoder = new OBISIdentifierDecoder();
+
+    @Test
+    public void testSameResultAsStringParsing() throws ParseException {
+        for (String obisId : new String[] { "1-0:1.8.1", "0-0:96.1.1", "0-1:24.2.1", "1-3:0.2.8", "0-0:1.0.0",
+                "1.8.1", "0:96.1", "1-0:99.97.0*255", "1.8*2", "1-0:1.8 1" }) {
+            OBISIdentifier expected = new OBISIdentifier(obisId);
+            OBISIdentifier decoded = decode(obisId);
+
+            assertNotNull("Should decode " + obisId, decoded);
+            assertEquals("Should decode " + obisId, expected.toString(), decoded.toString());
+            assertEquals("Should decode " + obisId, expected, decoded);
+        }
+    }
+
+    @Test
+    public void testInvalidIdentifiers() {
+        for (String obisId : new String[] { "1", "1-0:1", "1-0:1.", "1-0:1.8.1.2.3", "1-0:1 8", "1-0:1:8" }) {
+            assertNull("Should not decode " + obisId, decode(obisId));
+        }
+    }
+
+    @Test
+    public void testIdentifierInstancesAreReused() {
+        assertSame(decode("1-0:1.8.1"), decode("1-0:1.8.1"));
+        assertNotSame(decode("1-0:1.8.1"), decode("1-0:1.8.2"));
+    }
+
+    private OBISIdentifier decode(String obisId) {
+        decoder.reset();
+        for (char c : obisId.toCharArray()) {
+            decoder.process(c);
+        }
+        return decoder.getOBISIdentifier();
+    }
+}
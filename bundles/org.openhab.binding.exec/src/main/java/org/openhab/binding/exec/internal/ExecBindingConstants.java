@@ -36,4 +36,8 @@ public class ExecBindingConstants {
     public static final String RUN = "run";
     public static final String LAST_EXECUTION = "lastexecution";
 
+    // Binding configuration
+    public static final String MAX_CONCURRENT_EXECUTIONS = "maxConcurrentExecutions";
+    public static final int DEFAULT_MAX_CONCURRENT_EXECUTIONS = 4;
+
 }
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecCoProcess} keeps a command running and exchanges requests and responses with it. Every request is
+ * written as a single line to the standard input of the process and the next line written to its standard output is
+ * the response. The process is started with the first request and restarted if it has ended.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcess {
+
+    private static final long TERMINATION_TIMEOUT_MS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoProcess.class);
+
+    private final String commandLine;
+    private final BlockingQueue<String> responses = new LinkedBlockingQueue<>();
+
+    private @Nullable Process process;
+    private @Nullable Writer requestWriter;
+    private int lastExitValue;
+
+    int references;
+
+    ExecCoProcess(String commandLine) {
+        this.commandLine = commandLine;
+    }
+
+    /**
+     * Sends a request to the process and waits for its response.
+     *
+     * @param request the request, line breaks are replaced by spaces
+     * @param timeout the time to wait for the response in milliseconds
+     * @return the response
+     * @throws IOException if the process can't be started or has ended
+     * @throws TimeoutException if the process didn't respond in time, the process is terminated in that case
+     * @throws InterruptedException if the thread has been interrupted while waiting
+     */
+    public synchronized String exchange(String request, long timeout)
+            throws IOException, TimeoutException, InterruptedException {
+        Writer writer = requestWriter;
+        Process process = this.process;
+        if (writer == null || process == null || !process.isAlive()) {
+            writer = start();
+        }
+
+        // responses to requests which timed out before are dropped
+        responses.clear();
+        try {
+            writer.write(request.replace('\r', ' ').replace('\n', ' '));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException e) {
+            stop();
+            throw e;
+        }
+
+        String response = responses.poll(timeout, TimeUnit.MILLISECONDS);
+        if (response == null) {
+            process = this.process;
+            if (process != null && process.isAlive()) {
+                stop();
+                throw new TimeoutException();
+            }
+            stop();
+            throw new IOException("The process ended with exit value " + lastExitValue);
+        }
+        return response;
+    }
+
+    /**
+     * Returns the exit value of the last ended process.
+     */
+    public synchronized int getLastExitValue() {
+        return lastExitValue;
+    }
+
+    /**
+     * Terminates the process.
+     */
+    public synchronized void stop() {
+        Process process = this.process;
+        Writer writer = requestWriter;
+        this.process = null;
+        requestWriter = null;
+        if (writer != null) {
+            try {
+                // a well behaving process ends when its standard input is closed
+                writer.close();
+            } catch (IOException e) {
+                logger.trace("Closing the standard input of '{}' failed: {}", commandLine, e.getMessage());
+            }
+        }
+        if (process != null) {
+            try {
+                if (!process.waitFor(TERMINATION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    logger.debug("Forcibly terminating the process ('{}')", commandLine);
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+            if (!process.isAlive()) {
+                lastExitValue = process.exitValue();
+            }
+        }
+    }
+
+    private Writer start() throws IOException {
+        stop();
+        logger.debug("Starting the process '{}'", commandLine);
+        Process process = Runtime.getRuntime().exec(commandLine);
+        Writer writer = new OutputStreamWriter(process.getOutputStream());
+        startReader(process.getInputStream(), "OUTPUT", true);
+        startReader(process.getErrorStream(), "ERROR", false);
+        this.process = process;
+        this.requestWriter = writer;
+        return writer;
+    }
+
+    private void startReader(InputStream stream, String name, boolean response) {
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    logger.debug("Exec [{}]: '{}'", name, line);
+                    if (response) {
+                        responses.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                logger.trace("Reading the {} of '{}' stopped: {}", name, commandLine, e.getMessage());
+            }
+        }, "OH-binding-exec-" + name.toLowerCase());
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ExecCoProcessManager} shares one {@link ExecCoProcess} between all things executing the same command.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoProcessManager {
+
+    private final Map<String, ExecCoProcess> coProcesses = new HashMap<>();
+
+    /**
+     * Returns the co-process of the command. Every call must be followed by a call of
+     * {@link #release(ExecCoProcess)} once the co-process isn't used anymore.
+     *
+     * @param commandLine the command to execute
+     * @return the co-process
+     */
+    public synchronized ExecCoProcess acquire(String commandLine) {
+        ExecCoProcess coProcess = coProcesses.computeIfAbsent(commandLine, ExecCoProcess::new);
+        coProcess.references++;
+        return coProcess;
+    }
+
+    /**
+     * Releases the co-process and terminates it, if it isn't used by another thing.
+     *
+     * @param coProcess the co-process
+     */
+    public void release(ExecCoProcess coProcess) {
+        synchronized (this) {
+            if (--coProcess.references > 0) {
+                return;
+            }
+            coProcesses.values().remove(coProcess);
+        }
+        coProcess.stop();
+    }
+
+    /**
+     * Terminates all co-processes.
+     */
+    public void dispose() {
+        ExecCoProcess[] all;
+        synchronized (this) {
+            all = coProcesses.values().toArray(new ExecCoProcess[0]);
+            coProcesses.clear();
+        }
+        for (ExecCoProcess coProcess : all) {
+            coProcess.stop();
+        }
+    }
+}
@@ -12,9 +12,11 @@
  */
 package org.openhab.binding.exec.internal;
 
-import static org.openhab.binding.exec.internal.ExecBindingConstants.THING_COMMAND;
+import static org.openhab.binding.exec.internal.ExecBindingConstants.*;
 
+import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -25,7 +27,13 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.openhab.binding.exec.internal.handler.ExecHandler;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link ExecHandlerFactory} is responsible for creating things and thing
@@ -39,6 +47,39 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_COMMAND);
 
+    private final Logger logger = LoggerFactory.getLogger(ExecHandlerFactory.class);
+
+    private final ExecutionLimiter executionLimiter = new ExecutionLimiter(DEFAULT_MAX_CONCURRENT_EXECUTIONS);
+    private final ExecCoProcessManager coProcessManager = new ExecCoProcessManager();
+
+    @Activate
+    protected void activate(ComponentContext componentContext, Map<String, Object> config) {
+        super.activate(componentContext);
+        modified(config);
+    }
+
+    @Override
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+        super.deactivate(componentContext);
+        coProcessManager.dispose();
+    }
+
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        int maxConcurrentExecutions = DEFAULT_MAX_CONCURRENT_EXECUTIONS;
+        Object value = config.get(MAX_CONCURRENT_EXECUTIONS);
+        if (value != null) {
+            try {
+                maxConcurrentExecutions = new BigDecimal(value.toString()).intValue();
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' of '{}', using {}", value, MAX_CONCURRENT_EXECUTIONS,
+                        DEFAULT_MAX_CONCURRENT_EXECUTIONS);
+            }
+        }
+        executionLimiter.setMaxConcurrentExecutions(maxConcurrentExecutions);
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -49,7 +90,7 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_COMMAND)) {
-            return new ExecHandler(thing);
+            return new ExecHandler(thing, executionLimiter, coProcessManager);
         }
 
         return null;
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.exec.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ExecutionLimiter} limits the number of commands executed at the same time by all things of the binding.
+ * Executions exceeding the limit wait until a running execution has finished. The number of executions and the time
+ * they had to wait are counted.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class ExecutionLimiter {
+
+    private final Logger logger = LoggerFactory.getLogger(ExecutionLimiter.class);
+
+    private int maxConcurrentExecutions;
+    private int runningExecutions;
+    private int waitingExecutions;
+
+    private long executionCount;
+    private long queuedCount;
+    private long totalWaitTime;
+    private long maxWaitTime;
+
+    /**
+     * Constructor
+     *
+     * @param maxConcurrentExecutions the maximum number of concurrent executions, 0 for no limit
+     */
+    public ExecutionLimiter(int maxConcurrentExecutions) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+    }
+
+    /**
+     * Changes the maximum number of concurrent executions.
+     *
+     * @param maxConcurrentExecutions the maximum number of concurrent executions, 0 for no limit
+     */
+    public synchronized void setMaxConcurrentExecutions(int maxConcurrentExecutions) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        notifyAll();
+    }
+
+    /**
+     * Waits until the execution may start. Every successful call must be followed by a call of {@link #release()}.
+     *
+     * @throws InterruptedException if the thread has been interrupted while waiting
+     */
+    public synchronized void acquire() throws InterruptedException {
+        executionCount++;
+        if (!isLimitReached()) {
+            runningExecutions++;
+            return;
+        }
+
+        long start = System.nanoTime();
+        queuedCount++;
+        waitingExecutions++;
+        try {
+            while (isLimitReached()) {
+                wait();
+            }
+        } finally {
+            waitingExecutions--;
+        }
+        runningExecutions++;
+
+        long waitTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        totalWaitTime += waitTime;
+        maxWaitTime = Math.max(maxWaitTime, waitTime);
+        logger.debug("Execution waited {} ms for one of {} running executions to finish; {}", waitTime,
+                maxConcurrentExecutions, this);
+    }
+
+    /**
+     * Signals the end of an execution.
+     */
+    public synchronized void release() {
+        runningExecutions--;
+        notifyAll();
+    }
+
+    private boolean isLimitReached() {
+        return maxConcurrentExecutions > 0 && runningExecutions >= maxConcurrentExecutions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("executions: %d, running: %d, waiting: %d, queued: %d, average wait: %d ms, "
+                + "maximum wait: %d ms", executionCount, runningExecutions, waitingExecutions, queuedCount,
+                queuedCount == 0 ? 0 : totalWaitTime / queuedCount, maxWaitTime);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Calendar;
 import java.util.IllegalFormatException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -42,6 +43,9 @@ import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.exec.internal.ExecCoProcess;
+import org.openhab.binding.exec.internal.ExecCoProcessManager;
+import org.openhab.binding.exec.internal.ExecutionLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,17 +66,24 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
     private @Nullable ScheduledFuture<?> executionJob;
     private @Nullable String lastInput;
+    private @Nullable ExecCoProcess coProcess;
 
     private static Runtime rt = Runtime.getRuntime();
 
-    public ExecHandler(Thing thing) {
+    private final ExecutionLimiter executionLimiter;
+    private final ExecCoProcessManager coProcessManager;
+
+    public ExecHandler(Thing thing, ExecutionLimiter executionLimiter, ExecCoProcessManager coProcessManager) {
         super(thing);
+        this.executionLimiter = executionLimiter;
+        this.coProcessManager = coProcessManager;
     }
 
     @Override
@@ -105,6 +116,12 @@ public class ExecHandler extends BaseThingHandler {
 
     @Override
     public void initialize() {
+        String commandLine = (String) getConfig().get(COMMAND);
+        if (getConfig().get(PERSISTENT) != null && ((Boolean) getConfig().get(PERSISTENT)).booleanValue()
+                && commandLine != null && !commandLine.isEmpty()) {
+            coProcess = coProcessManager.acquire(commandLine);
+        }
+
         if (executionJob == null || executionJob.isCancelled()) {
             if (((BigDecimal) getConfig().get(INTERVAL)) != null
                     && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
@@ -123,6 +140,11 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        ExecCoProcess coProcess = this.coProcess;
+        if (coProcess != null) {
+            this.coProcess = null;
+            coProcessManager.release(coProcess);
+        }
     }
 
     protected Runnable periodicExecutionRunnable = new Runnable() {
@@ -139,107 +161,160 @@ public class ExecHandler extends BaseThingHandler {
             if (commandLine != null && !commandLine.isEmpty()) {
                 updateState(RUN, OnOffType.ON);
 
-                // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
-                // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
-                // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
-                // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
-                // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
-                // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
-                // problem for external commands that generate a lot of output, but this will be dependent on the limits
-                // of the underlying operating system.
-
                 try {
-                    if (lastInput != null) {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
-                    } else {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime());
-                    }
-                } catch (IllegalFormatException e) {
-                    logger.error(
-                            "An exception occurred while formatting the command line with the current time and input values : '{}'",
-                            e.getMessage());
+                    executionLimiter.acquire();
+                } catch (InterruptedException e) {
                     updateState(RUN, OnOffType.OFF);
+                    Thread.currentThread().interrupt();
                     return;
                 }
-
-                logger.trace("The command to be executed will be '{}'", commandLine);
-
-                Process proc = null;
                 try {
-                    proc = rt.exec(commandLine.toString());
-                } catch (Exception e) {
-                    logger.error("An exception occurred while executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
+                    ExecCoProcess coProcess = ExecHandler.this.coProcess;
+                    if (coProcess != null) {
+                        exchange(coProcess, commandLine, timeOut);
+                    } else {
+                        execute(commandLine, timeOut);
+                    }
+                } finally {
+                    executionLimiter.release();
                 }
+                logger.trace("Executed '{}', {}", commandLine, executionLimiter);
+            }
+        }
 
-                StringBuilder outputBuilder = new StringBuilder();
-                StringBuilder errorBuilder = new StringBuilder();
+    };
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        outputBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
-                    }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+    private void execute(String commandLine, int timeOut) {
+        // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
+        // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
+        // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
+        // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
+        // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
+        // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
+        // problem for external commands that generate a lot of output, but this will be dependent on the limits
+        // of the underlying operating system.
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        errorBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "ERROR", line);
-                    }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+        try {
+            if (lastInput != null) {
+                commandLine = String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
+            } else {
+                commandLine = String.format(commandLine, Calendar.getInstance().getTime());
+            }
+        } catch (IllegalFormatException e) {
+            logger.error(
+                    "An exception occurred while formatting the command line with the current time and input values : '{}'",
+                    e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            return;
+        }
 
-                boolean exitVal = false;
-                try {
-                    exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+        logger.trace("The command to be executed will be '{}'", commandLine);
 
-                if (!exitVal) {
-                    logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
-                            new Object[] { commandLine.toString(), timeOut });
-                    proc.destroyForcibly();
-                }
+        Process proc = null;
+        try {
+            proc = rt.exec(commandLine.toString());
+        } catch (Exception e) {
+            logger.error("An exception occurred while executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return;
+        }
 
-                updateState(RUN, OnOffType.OFF);
-                updateState(EXIT, new DecimalType(proc.exitValue()));
+        StringBuilder outputBuilder = new StringBuilder();
+        StringBuilder errorBuilder = new StringBuilder();
+
+        try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
+                BufferedReader br = new BufferedReader(isr);) {
+            String line = null;
+            while ((line = br.readLine()) != null) {
+                outputBuilder.append(line).append("\n");
+                logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+            }
+            isr.close();
+        } catch (IOException e) {
+            logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
 
-                outputBuilder.append(errorBuilder.toString());
+        try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
+                BufferedReader br = new BufferedReader(isr);) {
+            String line = null;
+            while ((line = br.readLine()) != null) {
+                errorBuilder.append(line).append("\n");
+                logger.debug("Exec [{}]: '{}'", "ERROR", line);
+            }
+            isr.close();
+        } catch (IOException e) {
+            logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
 
-                outputBuilder.append(errorBuilder.toString());
+        boolean exitVal = false;
+        try {
+            exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
+                    new Object[] { commandLine.toString(), e.getMessage() });
+        }
 
-                String transformedResponse = StringUtils.chomp(outputBuilder.toString());
-                String transformation = (String) getConfig().get(TRANSFORM);
+        if (!exitVal) {
+            logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
+                    new Object[] { commandLine.toString(), timeOut });
+            proc.destroyForcibly();
+        }
 
-                if (transformation != null && transformation.length() > 0) {
-                    transformedResponse = transformResponse(transformedResponse, transformation);
-                }
+        updateState(RUN, OnOffType.OFF);
+        updateState(EXIT, new DecimalType(proc.exitValue()));
 
-                updateState(OUTPUT, new StringType(transformedResponse));
+        outputBuilder.append(errorBuilder.toString());
 
-                DateTimeType stampType = new DateTimeType(ZonedDateTime.now());
-                updateState(LAST_EXECUTION, stampType);
-            }
+        outputBuilder.append(errorBuilder.toString());
+
+        updateOutput(StringUtils.chomp(outputBuilder.toString()));
+    }
+
+    private void exchange(ExecCoProcess coProcess, String commandLine, int timeOut) {
+        String request = lastInput != null ? lastInput : "";
+        logger.trace("The request to be sent to '{}' will be '{}'", commandLine, request);
+
+        String response;
+        try {
+            response = coProcess.exchange(request, timeOut);
+        } catch (IOException e) {
+            logger.error("An exception occurred while executing '{}' : '{}'", commandLine, e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(EXIT, new DecimalType(coProcess.getLastExitValue()));
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            return;
+        } catch (TimeoutException e) {
+            logger.warn("Forcibly termininating the process ('{}') after no response within a timeout of {} ms",
+                    commandLine, timeOut);
+            updateState(RUN, OnOffType.OFF);
+            return;
+        } catch (InterruptedException e) {
+            updateState(RUN, OnOffType.OFF);
+            Thread.currentThread().interrupt();
+            return;
         }
 
-    };
+        updateState(RUN, OnOffType.OFF);
+        updateOutput(response);
+    }
+
+    private void updateOutput(String output) {
+        String transformedResponse = output;
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        if (transformation != null && transformation.length() > 0) {
+            transformedResponse = transformResponse(transformedResponse, transformation);
+        }
+
+        updateState(OUTPUT, new StringType(transformedResponse));
+
+        DateTimeType stampType = new DateTimeType(ZonedDateTime.now());
+        updateState(LAST_EXECUTION, stampType);
+    }
 
     protected @Nullable String transformResponse(String response, String transformation) {
         String transformedResponse;
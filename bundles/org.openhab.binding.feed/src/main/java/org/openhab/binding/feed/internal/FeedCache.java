@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.feed.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rometools.rome.feed.synd.SyndContent;
+import com.rometools.rome.feed.synd.SyndEntry;
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+
+/**
+ * The {@link FeedCache} downloads and parses the feeds for all feed things, so things with the same URL share the
+ * downloaded feed. The server is asked with conditional requests, whether the feed has been modified since the last
+ * download, and a feed is only parsed again if its content has changed.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class FeedCache {
+
+    private final Logger logger = LoggerFactory.getLogger(FeedCache.class);
+
+    private final Map<String, FeedEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the feed of the URL. The feed is downloaded again if the last download is older than the given age.
+     *
+     * @param urlString URL of the feed
+     * @param maxAge the maximum age of a previously downloaded feed in milliseconds
+     * @return the feed
+     * @throws IOException if the feed couldn't be downloaded
+     * @throws FeedException if the feed couldn't be parsed
+     * @throws IllegalArgumentException if the URL is null
+     */
+    public CachedFeed getFeed(String urlString, long maxAge) throws IOException, FeedException {
+        if (urlString == null) {
+            throw new IllegalArgumentException("Feed URL is null");
+        }
+        FeedEntry entry = entries.computeIfAbsent(urlString, url -> new FeedEntry());
+        synchronized (entry) {
+            CachedFeed feed = entry.feed;
+            long now = System.currentTimeMillis();
+            if (feed != null && now - entry.downloadTime < maxAge) {
+                logger.trace("Using feed '{}' downloaded {} ms ago", urlString, now - entry.downloadTime);
+                return feed;
+            }
+
+            URLConnection connection = new URL(urlString).openConnection();
+            connection.setRequestProperty("Accept-Encoding", "gzip");
+            if (feed != null) {
+                if (entry.etag != null) {
+                    connection.setRequestProperty("If-None-Match", entry.etag);
+                }
+                if (entry.lastModified != null) {
+                    connection.setRequestProperty("If-Modified-Since", entry.lastModified);
+                }
+            }
+
+            if (feed != null && connection instanceof HttpURLConnection
+                    && ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                logger.debug("Feed '{}' has not been modified", urlString);
+                entry.downloadTime = now;
+                return feed;
+            }
+
+            byte[] content = readContent(connection);
+            entry.etag = connection.getHeaderField("ETag");
+            entry.lastModified = connection.getHeaderField("Last-Modified");
+            entry.downloadTime = now;
+            if (feed != null && Arrays.equals(content, entry.content)) {
+                logger.debug("Content of feed '{}' has not changed", urlString);
+                return feed;
+            }
+
+            SyndFeedInput input = new SyndFeedInput();
+            SyndFeed syndFeed = input.build(new InputStreamReader(new ByteArrayInputStream(content)));
+            feed = new CachedFeed(syndFeed);
+            entry.content = content;
+            entry.feed = feed;
+            return feed;
+        }
+    }
+
+    private byte[] readContent(URLConnection connection) throws IOException {
+        InputStream in = connection.getInputStream();
+        if ("gzip".equals(connection.getContentEncoding())) {
+            in = new GZIPInputStream(in);
+        }
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static class FeedEntry {
+        private CachedFeed feed;
+        private byte[] content;
+        private String etag;
+        private String lastModified;
+        private long downloadTime;
+    }
+
+    /**
+     * A parsed feed with a key identifying the data published by the feed channels.
+     */
+    public static class CachedFeed {
+        private final SyndFeed feed;
+        private final String contentKey;
+
+        CachedFeed(SyndFeed feed) {
+            this.feed = feed;
+            this.contentKey = createContentKey(feed);
+        }
+
+        public SyndFeed getFeed() {
+            return feed;
+        }
+
+        /**
+         * Returns a key, which changes if the newest entry or the feed properties published by the channels change.
+         */
+        public String getContentKey() {
+            return contentKey;
+        }
+
+        private static String createContentKey(SyndFeed feed) {
+            StringBuilder key = new StringBuilder();
+            key.append(feed.getTitle()).append('\n').append(feed.getDescription()).append('\n')
+                    .append(feed.getAuthor()).append('\n');
+            List<SyndEntry> entries = feed.getEntries();
+            key.append(entries.size()).append('\n');
+            if (!entries.isEmpty()) {
+                SyndEntry newest = entries.get(0);
+                SyndContent description = newest.getDescription();
+                key.append(newest.getUri()).append('\n').append(newest.getLink()).append('\n')
+                        .append(newest.getTitle()).append('\n')
+                        .append(description != null ? description.getValue() : null).append('\n')
+                        .append(getTime(newest.getPublishedDate())).append('\n')
+                        .append(getTime(newest.getUpdatedDate()));
+            }
+            return key.toString();
+        }
+
+        private static Long getTime(Date date) {
+            return date != null ? date.getTime() : null;
+        }
+    }
+}
@@ -14,20 +14,15 @@ package org.openhab.binding.feed.internal.handler;
 
 import static org.openhab.binding.feed.internal.FeedBindingConstants.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -42,13 +37,14 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.feed.internal.FeedCache;
+import org.openhab.binding.feed.internal.FeedCache.CachedFeed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
-import com.rometools.rome.io.SyndFeedInput;
 
 /**
  * The {@link FeedHandler } is responsible for handling commands, which are
@@ -64,10 +60,14 @@ public class FeedHandler extends BaseThingHandler {
     private BigDecimal refreshTime;
     private ScheduledFuture<?> refreshTask;
     private SyndFeed currentFeedState;
+    private String currentContentKey;
     private long lastRefreshTime;
 
-    public FeedHandler(Thing thing) {
+    private final FeedCache feedCache;
+
+    public FeedHandler(Thing thing, FeedCache feedCache) {
         super(thing);
+        this.feedCache = feedCache;
         currentFeedState = null;
     }
 
@@ -108,7 +108,8 @@ public class FeedHandler extends BaseThingHandler {
     }
 
     private void refreshFeedState() {
-        SyndFeed feed = fetchFeedData(urlString);
+        // things with the same URL share a feed downloaded within half of the refresh time
+        CachedFeed feed = fetchFeedData(urlString, TimeUnit.MINUTES.toMillis(refreshTime.longValue()) / 2);
         boolean feedUpdated = updateFeedIfChanged(feed);
 
         if (feedUpdated) {
@@ -181,16 +182,16 @@ public class FeedHandler extends BaseThingHandler {
 
     /**
      * This method updates the {@link #currentFeedState}, only if there are changes on the server, since the last check.
-     * It compares the content on the server with the local
-     * stored {@link #currentFeedState} in the {@link FeedHandler}.
+     * It compares the content key of the newest entry and the feed properties on the server with the key of the
+     * local stored {@link #currentFeedState} in the {@link FeedHandler}.
      *
      * @return <code>true</code> if new content is available on the server since the last update or <code>false</code>
      *         otherwise
      */
-    private synchronized boolean updateFeedIfChanged(SyndFeed newFeedState) {
-        // SyndFeed class has implementation of equals ()
-        if (newFeedState != null && !newFeedState.equals(currentFeedState)) {
-            currentFeedState = newFeedState;
+    private synchronized boolean updateFeedIfChanged(CachedFeed newFeedState) {
+        if (newFeedState != null && !newFeedState.getContentKey().equals(currentContentKey)) {
+            currentFeedState = newFeedState.getFeed();
+            currentContentKey = newFeedState.getContentKey();
             logger.debug("New content available!");
             return true;
         }
@@ -199,34 +200,22 @@ public class FeedHandler extends BaseThingHandler {
     }
 
     /**
-     * This method tries to make connection with the server and fetch data from the feed.
+     * This method fetches the data of the feed from the {@link FeedCache}, which downloads it from the server if
+     * necessary.
      * The status of the feed thing is set to {@link ThingStatus#ONLINE}, if the fetching was successful.
      * Otherwise the status will be set to {@link ThingStatus#OFFLINE} with
      * {@link ThingStatusDetail#CONFIGURATION_ERROR} or
      * {@link ThingStatusDetail#COMMUNICATION_ERROR} and adequate message.
      *
      * @param urlString URL of the Feed
-     * @return {@link SyndFeed} instance with the feed data, if the connection attempt was successful and
+     * @param maxAge the maximum age of feed data downloaded before in milliseconds
+     * @return {@link CachedFeed} instance with the feed data, if the connection attempt was successful and
      *         <code>null</code> otherwise
      */
-    private SyndFeed fetchFeedData(String urlString) {
-        SyndFeed feed = null;
+    private CachedFeed fetchFeedData(String urlString, long maxAge) {
+        CachedFeed feed = null;
         try {
-            URL url = new URL(urlString);
-
-            URLConnection connection = url.openConnection();
-            connection.setRequestProperty("Accept-Encoding", "gzip");
-
-            BufferedReader in = null;
-            if ("gzip".equals(connection.getContentEncoding())) {
-                in = new BufferedReader(new InputStreamReader(new GZIPInputStream(connection.getInputStream())));
-            } else {
-                in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            }
-
-            SyndFeedInput input = new SyndFeedInput();
-            feed = input.build(in);
-            in.close();
+            feed = feedCache.getFeed(urlString, maxAge);
 
             if (this.thing.getStatus() != ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
@@ -276,7 +265,7 @@ public class FeedHandler extends BaseThingHandler {
         if (command instanceof RefreshType) {
             // safeguard for multiple REFRESH commands for different channels in a row
             if (isMinimumRefreshTimeExceeded()) {
-                SyndFeed feed = fetchFeedData(urlString);
+                CachedFeed feed = fetchFeedData(urlString, MINIMUM_REFRESH_TIME);
                 updateFeedIfChanged(feed);
             }
             publishChannelIfLinked(channelUID);
@@ -20,11 +20,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +45,7 @@ import org.openhab.binding.homematic.internal.communicator.client.UnknownParamet
 import org.openhab.binding.homematic.internal.communicator.client.XmlRpcClient;
 import org.openhab.binding.homematic.internal.communicator.parser.ListBidcosInterfacesParser;
 import org.openhab.binding.homematic.internal.communicator.server.BinRpcServer;
+import org.openhab.binding.homematic.internal.communicator.server.RpcEvent;
 import org.openhab.binding.homematic.internal.communicator.server.RpcEventListener;
 import org.openhab.binding.homematic.internal.communicator.server.RpcServer;
 import org.openhab.binding.homematic.internal.communicator.server.XmlRpcServer;
@@ -90,6 +96,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     public static final double DEFAULT_DISABLE_DELAY = 2.0;
     private static final long CONNECTION_TRACKER_INTERVAL_SECONDS = 15;
     private static final String GATEWAY_POOL_NAME = "homematicGateway";
+    private static final String METADATA_POOL_NAME = "homematicMetadata";
 
     private final Map<TransferMode, RpcClient<?>> rpcClients = new HashMap<TransferMode, RpcClient<?>>();
     private final Map<TransferMode, RpcServer> rpcServers = new HashMap<TransferMode, RpcServer>();
@@ -106,11 +113,13 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private final Map<String, HmDevice> devices = Collections.synchronizedMap(new HashMap<String, HmDevice>());
     private final Map<HmInterface, TransferMode> availableInterfaces = new TreeMap<HmInterface, TransferMode>();
     private static List<VirtualDatapointHandler> virtualDatapointHandlers = new ArrayList<VirtualDatapointHandler>();
-    private boolean cancelLoadAllMetadata;
-    private boolean initialized;
+    private volatile boolean cancelLoadAllMetadata;
+    private volatile boolean initialized;
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final ParamsetDescriptionCache paramsetDescriptionCache;
+    private final Object deviceLoadedLock = new Object();
 
     static {
         // loads all virtual datapoints
@@ -134,10 +143,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     }
 
     public AbstractHomematicGateway(String id, HomematicConfig config, HomematicGatewayAdapter gatewayAdapter,
-            HttpClient httpClient) {
+            HttpClient httpClient, ParamsetDescriptionCache paramsetDescriptionCache) {
         this.id = id;
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
+        this.paramsetDescriptionCache = paramsetDescriptionCache;
         this.httpClient = httpClient;
     }
 
@@ -371,9 +381,54 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         // load all device descriptions
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
 
-        // loading datapoints for all channels
-        Set<String> loadedDevices = new HashSet<String>();
-        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new HashMap<String, Collection<HmDatapoint>>();
+        // loading datapoints for all channels, the devices of each interface are loaded in parallel. A separate pool
+        // is used, as the caller blocks until all interfaces are loaded
+        Map<HmInterface, List<HmDevice>> devicesByInterface = new TreeMap<HmInterface, List<HmDevice>>();
+        for (HmDevice device : deviceDescriptions) {
+            devicesByInterface.computeIfAbsent(device.getHmInterface(), hmInterface -> new ArrayList<HmDevice>())
+                    .add(device);
+        }
+        Set<String> loadedDevices = Collections.synchronizedSet(new HashSet<String>());
+        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new ConcurrentHashMap<>();
+        List<HmChannel> storedChannels = Collections.synchronizedList(new ArrayList<HmChannel>());
+
+        ExecutorService metadataPool = ThreadPoolManager.getPool(METADATA_POOL_NAME);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        List<List<HmDevice>> deviceGroups = new ArrayList<List<HmDevice>>(devicesByInterface.values());
+        for (int i = 1; i < deviceGroups.size(); i++) {
+            List<HmDevice> interfaceDevices = deviceGroups.get(i);
+            futures.add(metadataPool.submit(() -> loadDeviceMetadata(interfaceDevices, loadedDevices,
+                    datapointsByChannelIdCache, storedChannels)));
+        }
+        if (!deviceGroups.isEmpty()) {
+            loadDeviceMetadata(deviceGroups.get(0), loadedDevices, datapointsByChannelIdCache, storedChannels);
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelLoadAllMetadata = true;
+            } catch (ExecutionException ex) {
+                logger.warn("Can't load devices from gateway '{}': {}", id, ex.getCause().getMessage(), ex.getCause());
+            }
+        }
+
+        if (!cancelLoadAllMetadata) {
+            devices.keySet().retainAll(loadedDevices);
+            paramsetDescriptionCache.retainDevices(deviceDescriptions);
+        }
+        initialized = true;
+        if (!cancelLoadAllMetadata) {
+            refreshParamsetDescriptions(storedChannels);
+        }
+    }
+
+    /**
+     * Loads the datapoints of all channels of the given devices.
+     */
+    private void loadDeviceMetadata(List<HmDevice> deviceDescriptions, Set<String> loadedDevices,
+            Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache, List<HmChannel> storedChannels) {
         for (HmDevice device : deviceDescriptions) {
             if (!cancelLoadAllMetadata) {
                 try {
@@ -397,6 +452,10 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                                 if (cachedDatapoints != null) {
                                     // clone all datapoints
                                     cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
+                                } else if (paramsetDescriptionCache.loadChannelDatapoints(channel)) {
+                                    logger.trace("    Loaded stored datapoints into channel {}", channel);
+                                    datapointsByChannelIdCache.put(channelId, channel.getDatapoints());
+                                    storedChannels.add(channel);
                                 } else {
                                     logger.trace("    Loading datapoints into channel {}", channel);
                                     addChannelDatapoints(channel, HmParamsetType.MASTER);
@@ -406,24 +465,63 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                                     // the data point set might change depending on the selected mode.
                                     if (!channel.isReconfigurable()) {
                                         datapointsByChannelIdCache.put(channelId, channel.getDatapoints());
+                                        paramsetDescriptionCache.storeChannelDatapoints(channel);
                                     }
                                 }
                             }
                         }
                     }
-                    prepareDevice(device);
-                    loadedDevices.add(device.getAddress());
-                    gatewayAdapter.onDeviceLoaded(device);
+                    // the type generator and the thing handlers are not prepared for parallel updates
+                    synchronized (deviceLoadedLock) {
+                        prepareDevice(device);
+                        loadedDevices.add(device.getAddress());
+                        gatewayAdapter.onDeviceLoaded(device);
+                    }
                 } catch (IOException ex) {
                     logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(), id,
                             ex.getMessage());
                 }
             }
         }
-        if (!cancelLoadAllMetadata) {
-            devices.keySet().retainAll(loadedDevices);
+    }
+
+    /**
+     * Loads the paramset descriptions of the channels, which were initialized with the stored descriptions, from the
+     * gateway in the background and updates the stored descriptions if they changed.
+     */
+    private void refreshParamsetDescriptions(List<HmChannel> storedChannels) {
+        if (storedChannels.isEmpty()) {
+            return;
         }
-        initialized = true;
+        List<HmChannel> channels = new ArrayList<HmChannel>(storedChannels);
+        scheduler.submit(() -> {
+            int changedChannels = 0;
+            for (HmChannel channel : channels) {
+                if (!initialized || cancelLoadAllMetadata) {
+                    return;
+                }
+                HmChannel loadedChannel = new HmChannel(channel.getType(), channel.getNumber());
+                loadedChannel.setDevice(channel.getDevice());
+                try {
+                    addChannelDatapoints(loadedChannel, HmParamsetType.MASTER);
+                    addChannelDatapoints(loadedChannel, HmParamsetType.VALUES);
+                } catch (IOException ex) {
+                    logger.debug("Can't refresh paramset descriptions from gateway '{}': {}", id, ex.getMessage());
+                    return;
+                }
+                if (loadedChannel.isReconfigurable()) {
+                    paramsetDescriptionCache.removeChannelDatapoints(loadedChannel);
+                    changedChannels++;
+                } else if (!paramsetDescriptionCache.refreshChannelDatapoints(loadedChannel)) {
+                    changedChannels++;
+                }
+            }
+            if (changedChannels > 0) {
+                logger.info(
+                        "The paramset descriptions of {} channels changed on gateway '{}', they are used after the next restart of the bridge",
+                        changedChannels, id);
+            }
+        });
     }
 
     /**
@@ -722,34 +820,59 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
 
     @Override
     public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
-        String className = newValue == null ? "Unknown" : newValue.getClass().getSimpleName();
-        logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue, dpInfo,
-                id);
-
-        if (echoEvents.remove(dpInfo)) {
-            logger.debug("Echo event detected, ignoring '{}'", dpInfo);
-        } else {
-            try {
-                if (connectionTrackerThread != null && dpInfo.isPong() && id.equals(newValue)) {
-                    connectionTrackerThread.pongReceived();
-                }
-                if (initialized) {
-                    final HmDatapoint dp = getDatapoint(dpInfo);
-                    HmDatapointConfig config = gatewayAdapter.getDatapointConfig(dp);
-                    receiveDelayedExecutor.start(dpInfo, config.getReceiveDelay(), () -> {
-                        dp.setValue(newValue);
+        eventsReceived(Collections.singletonList(new RpcEvent(dpInfo, newValue)));
+    }
 
-                        gatewayAdapter.onStateUpdated(dp);
-                        handleVirtualDatapointEvent(dp, true);
-                        if (dp.isPressDatapoint() && MiscUtils.isTrueValue(dp.getValue())) {
-                            disableDatapoint(dp, DEFAULT_DISABLE_DELAY);
+    @Override
+    public void eventsReceived(List<RpcEvent> events) {
+        Set<HmDatapoint> updatedDatapoints = new LinkedHashSet<HmDatapoint>();
+        for (RpcEvent event : events) {
+            HmDatapointInfo dpInfo = event.getDatapointInfo();
+            Object newValue = event.getValue();
+            String className = newValue == null ? "Unknown" : newValue.getClass().getSimpleName();
+            logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue,
+                    dpInfo, id);
+
+            if (echoEvents.remove(dpInfo)) {
+                logger.debug("Echo event detected, ignoring '{}'", dpInfo);
+            } else {
+                try {
+                    if (connectionTrackerThread != null && dpInfo.isPong() && id.equals(newValue)) {
+                        connectionTrackerThread.pongReceived();
+                    }
+                    if (initialized) {
+                        final HmDatapoint dp = getDatapoint(dpInfo);
+                        HmDatapointConfig config = gatewayAdapter.getDatapointConfig(dp);
+                        if (config.getReceiveDelay() > 0.0 || dp.isPressDatapoint()) {
+                            receiveDelayedExecutor.start(dpInfo, config.getReceiveDelay(), () -> {
+                                dp.setValue(newValue);
+                                publishDatapointEvent(dp);
+                            });
+                        } else {
+                            // only the last value of a datapoint within the batch is published
+                            dp.setValue(newValue);
+                            updatedDatapoints.add(dp);
                         }
-                    });
+                    }
+                } catch (HomematicClientException | IOException ex) {
+                    // ignore
                 }
-            } catch (HomematicClientException | IOException ex) {
-                // ignore
             }
         }
+        for (HmDatapoint dp : updatedDatapoints) {
+            publishDatapointEvent(dp);
+        }
+    }
+
+    /**
+     * Populates the new value of a datapoint received from the gateway.
+     */
+    private void publishDatapointEvent(HmDatapoint dp) {
+        gatewayAdapter.onStateUpdated(dp);
+        handleVirtualDatapointEvent(dp, true);
+        if (dp.isPressDatapoint() && MiscUtils.isTrueValue(dp.getValue())) {
+            disableDatapoint(dp, DEFAULT_DISABLE_DELAY);
+        }
     }
 
     @Override
@@ -30,15 +30,15 @@ public class HomematicGatewayFactory {
      * Creates the HomematicGateway.
      */
     public static HomematicGateway createGateway(String id, HomematicConfig config,
-            HomematicGatewayAdapter gatewayAdapter, HttpClient httpClient)
-            throws IOException {
+            HomematicGatewayAdapter gatewayAdapter, HttpClient httpClient,
+            ParamsetDescriptionCache paramsetDescriptionCache) throws IOException {
         loadGatewayInfo(config, id, httpClient);
         if (config.getGatewayInfo().isCCU()) {
-            return new CcuGateway(id, config, gatewayAdapter, httpClient);
+            return new CcuGateway(id, config, gatewayAdapter, httpClient, paramsetDescriptionCache);
         } else if (config.getGatewayInfo().isHomegear()) {
-            return new HomegearGateway(id, config, gatewayAdapter, httpClient);
+            return new HomegearGateway(id, config, gatewayAdapter, httpClient, paramsetDescriptionCache);
         } else {
-            return new DefaultGateway(id, config, gatewayAdapter, httpClient);
+            return new DefaultGateway(id, config, gatewayAdapter, httpClient, paramsetDescriptionCache);
         }
     }
 
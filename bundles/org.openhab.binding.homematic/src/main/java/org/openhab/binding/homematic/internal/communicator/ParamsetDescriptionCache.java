@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.smarthome.core.storage.Storage;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ParamsetDescriptionCache} persists the paramset descriptions of the device channels, so they don't have
+ * to be loaded from the gateway again after a restart. The descriptions are stored by device type, firmware, channel
+ * number and paramset type, a firmware update therefore automatically invalidates the stored descriptions.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+    private static final HmParamsetType[] PARAMSET_TYPES = { HmParamsetType.MASTER, HmParamsetType.VALUES };
+
+    private final Storage<ParamsetDescription> storage;
+
+    public ParamsetDescriptionCache(Storage<ParamsetDescription> storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the key of the paramset description of the channel.
+     */
+    public static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        HmDevice device = channel.getDevice();
+        return String.format("%s:%s:%s:%s", device.getType(), device.getFirmware(), channel.getNumber(),
+                paramsetType);
+    }
+
+    /**
+     * Adds the stored datapoints of all paramsets to the channel. Returns false and leaves the channel untouched, if
+     * the descriptions of the channel are not stored.
+     */
+    public boolean loadChannelDatapoints(HmChannel channel) {
+        List<HmDatapoint> datapoints = new ArrayList<HmDatapoint>();
+        for (HmParamsetType paramsetType : PARAMSET_TYPES) {
+            String key = getKey(channel, paramsetType);
+            ParamsetDescription description = storage.get(key);
+            if (description == null) {
+                return false;
+            }
+            try {
+                for (DatapointDescription dpDescription : description.datapoints) {
+                    datapoints.add(dpDescription.toDatapoint(paramsetType));
+                }
+            } catch (RuntimeException ex) {
+                logger.debug("Removing invalid paramset description '{}': {}", key, ex.getMessage());
+                storage.remove(key);
+                return false;
+            }
+        }
+        for (HmDatapoint dp : datapoints) {
+            channel.addDatapoint(dp);
+        }
+        return true;
+    }
+
+    /**
+     * Stores the descriptions of all paramsets of the channel.
+     */
+    public void storeChannelDatapoints(HmChannel channel) {
+        for (HmParamsetType paramsetType : PARAMSET_TYPES) {
+            ParamsetDescription description = createDescription(channel, paramsetType);
+            if (description != null) {
+                storage.put(getKey(channel, paramsetType), description);
+            }
+        }
+    }
+
+    /**
+     * Removes the descriptions of all paramsets of the channel.
+     */
+    public void removeChannelDatapoints(HmChannel channel) {
+        for (HmParamsetType paramsetType : PARAMSET_TYPES) {
+            storage.remove(getKey(channel, paramsetType));
+        }
+    }
+
+    /**
+     * Compares the descriptions of a channel freshly loaded from the gateway with the stored descriptions and stores
+     * them if they are different.
+     *
+     * @return true, if the stored descriptions were up to date
+     */
+    public boolean refreshChannelDatapoints(HmChannel channel) {
+        boolean upToDate = true;
+        for (HmParamsetType paramsetType : PARAMSET_TYPES) {
+            String key = getKey(channel, paramsetType);
+            ParamsetDescription description = createDescription(channel, paramsetType);
+            if (description == null) {
+                storage.remove(key);
+                upToDate = false;
+            } else if (!description.equals(storage.get(key))) {
+                storage.put(key, description);
+                upToDate = false;
+            }
+        }
+        return upToDate;
+    }
+
+    /**
+     * Removes the descriptions of all device types and firmwares which are not used by the given devices anymore.
+     */
+    public void retainDevices(Collection<HmDevice> devices) {
+        Set<String> usedKeys = new HashSet<String>();
+        for (HmDevice device : devices) {
+            for (HmChannel channel : device.getChannels()) {
+                for (HmParamsetType paramsetType : PARAMSET_TYPES) {
+                    usedKeys.add(getKey(channel, paramsetType));
+                }
+            }
+        }
+        for (String key : new ArrayList<String>(storage.getKeys())) {
+            if (!usedKeys.contains(key)) {
+                logger.trace("Removing unused paramset description '{}'", key);
+                storage.remove(key);
+            }
+        }
+    }
+
+    private ParamsetDescription createDescription(HmChannel channel, HmParamsetType paramsetType) {
+        ParamsetDescription description = new ParamsetDescription();
+        try {
+            for (HmDatapoint dp : channel.getDatapoints()) {
+                if (dp.getParamsetType() == paramsetType && !dp.isVirtual()) {
+                    description.datapoints.add(new DatapointDescription(dp));
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            logger.debug("Can't store paramset description of channel {}: {}", channel, ex.getMessage());
+            return null;
+        }
+        return description;
+    }
+
+    /**
+     * The stored description of a paramset.
+     */
+    public static class ParamsetDescription {
+        private List<DatapointDescription> datapoints = new ArrayList<DatapointDescription>();
+
+        @Override
+        public int hashCode() {
+            return datapoints.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ParamsetDescription && datapoints.equals(((ParamsetDescription) obj).datapoints);
+        }
+    }
+
+    /**
+     * The stored description of a datapoint. Values are stored together with their type, as they can't be inferred
+     * from the datapoint type.
+     */
+    public static class DatapointDescription {
+        private String name;
+        private String description;
+        private String type;
+        private String unit;
+        private String[] options;
+        private String minValue;
+        private String maxValue;
+        private String step;
+        private String defaultValue;
+        private boolean readOnly;
+        private boolean readable;
+
+        public DatapointDescription() {
+        }
+
+        DatapointDescription(HmDatapoint dp) {
+            name = dp.getName();
+            description = dp.getDescription();
+            type = dp.getType().toString();
+            unit = dp.getUnit();
+            options = dp.getOptions();
+            minValue = encode(dp.getMinValue());
+            maxValue = encode(dp.getMaxValue());
+            step = encode(dp.getStep());
+            defaultValue = encode(dp.getDefaultValue());
+            readOnly = dp.isReadOnly();
+            readable = dp.isReadable();
+        }
+
+        HmDatapoint toDatapoint(HmParamsetType paramsetType) {
+            Object defaultValue = decode(this.defaultValue);
+            HmDatapoint dp = new HmDatapoint(name, description, HmValueType.valueOf(type), defaultValue, readOnly,
+                    paramsetType);
+            dp.setUnit(unit);
+            dp.setOptions(options);
+            dp.setMinValue((Number) decode(minValue));
+            dp.setMaxValue((Number) decode(maxValue));
+            dp.setStep((Number) decode(step));
+            dp.setDefaultValue(defaultValue);
+            dp.setReadable(readable);
+            return dp;
+        }
+
+        private static String encode(Object value) {
+            if (value == null) {
+                return null;
+            } else if (value instanceof String) {
+                return "S" + value;
+            } else if (value instanceof Boolean) {
+                return "B" + value;
+            } else if (value instanceof Integer) {
+                return "I" + value;
+            } else if (value instanceof Long) {
+                return "L" + value;
+            } else if (value instanceof Float) {
+                return "F" + value;
+            } else if (value instanceof Double) {
+                return "D" + value;
+            } else if (value instanceof BigDecimal) {
+                return "M" + value;
+            } else if (value instanceof BigInteger) {
+                return "N" + value;
+            }
+            throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+        }
+
+        private static Object decode(String value) {
+            if (value == null) {
+                return null;
+            }
+            String content = value.substring(1);
+            switch (value.charAt(0)) {
+                case 'S':
+                    return content;
+                case 'B':
+                    return Boolean.valueOf(content);
+                case 'I':
+                    return Integer.valueOf(content);
+                case 'L':
+                    return Long.valueOf(content);
+                case 'F':
+                    return Float.valueOf(content);
+                case 'D':
+                    return Double.valueOf(content);
+                case 'M':
+                    return new BigDecimal(content);
+                case 'N':
+                    return new BigInteger(content);
+                default:
+                    throw new IllegalArgumentException("Unsupported value " + value);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type, minValue, maxValue, defaultValue);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DatapointDescription)) {
+                return false;
+            }
+            DatapointDescription other = (DatapointDescription) obj;
+            return Objects.equals(name, other.name) && Objects.equals(description, other.description)
+                    && Objects.equals(type, other.type) && Objects.equals(unit, other.unit)
+                    && Arrays.equals(options, other.options) && Objects.equals(minValue, other.minValue)
+                    && Objects.equals(maxValue, other.maxValue) && Objects.equals(step, other.step)
+                    && Objects.equals(defaultValue, other.defaultValue) && readOnly == other.readOnly
+                    && readable == other.readable;
+        }
+    }
+}
@@ -14,40 +14,75 @@ package org.openhab.binding.homematic.internal.communicator.server;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
 import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Waits for a message from the Homematic gateway and starts the RpcCallbackHandler to handle the message.
+ * Waits non-blocking for messages from the Homematic gateway on all connections and hands every complete message to
+ * the RPC pool. A pool thread is therefore only used while a message is handled and not for the whole lifetime of a
+ * connection. The receive buffers are reused for all connections.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcNetworkService implements Runnable {
+    private final Logger logger = LoggerFactory.getLogger(BinRpcNetworkService.class);
+
     private static final byte BIN_EMPTY_STRING[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 0, 3, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_ARRAY[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 1, 0, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_EVENT_LIST[] = { 'B', 'i', 'n', 1, 0, 0, 0, 21, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0,
             3, 0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
 
     private static final String RPC_POOL_NAME = "homematicRpc";
-    private ServerSocket serverSocket;
-    private boolean accept = true;
+    private static final int HEADER_LENGTH = 8;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOLED_BUFFERS = 16;
+    private static final int MAX_MESSAGE_LENGTH = 8 * 1024 * 1024;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean accept = true;
     private HomematicConfig config;
     private RpcResponseHandler<byte[]> rpcResponseHandler;
 
+    private final Deque<ByteBuffer> bufferPool = new ArrayDeque<ByteBuffer>();
+    private final Queue<Connection> completedConnections = new ConcurrentLinkedQueue<Connection>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
     /**
      * Creates the socket for listening to events from the Homematic gateway.
      */
     public BinRpcNetworkService(RpcEventListener listener, HomematicConfig config) throws IOException {
         this.config = config;
 
-        serverSocket = new ServerSocket();
-        serverSocket.setReuseAddress(true);
-        serverSocket.bind(new InetSocketAddress(config.getBindAddress(), config.getBinCallbackPort()));
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.socket().setReuseAddress(true);
+            serverChannel.bind(new InetSocketAddress(config.getBindAddress(), config.getBinCallbackPort()));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ex) {
+            shutdown();
+            throw ex;
+        }
 
         this.rpcResponseHandler = new RpcResponseHandler<byte[]>(listener) {
 
@@ -74,31 +109,241 @@ public class BinRpcNetworkService implements Runnable {
     }
 
     /**
-     * Listening for events and starts the callbackHandler if a event received.
+     * Listening for events and starts the callbackHandler if a complete message has been received.
      */
     @Override
     public void run() {
         while (accept) {
             try {
-                Socket cs = serverSocket.accept();
-                BinRpcResponseHandler rpcHandler = new BinRpcResponseHandler(cs, rpcResponseHandler, config);
-                ThreadPoolManager.getPool(RPC_POOL_NAME).execute(rpcHandler);
+                selector.select();
+
+                Connection completed;
+                while ((completed = completedConnections.poll()) != null) {
+                    try {
+                        completed.onMessageHandled();
+                    } catch (RuntimeException ex) {
+                        logger.warn("Closing BIN-RPC connection: {}", ex.getMessage(), ex);
+                        completed.close();
+                    }
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        acceptConnection();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                connection.read();
+                            } else if (key.isWritable()) {
+                                connection.write();
+                            }
+                        } catch (IOException ex) {
+                            logger.trace("Closing BIN-RPC connection: {}", ex.getMessage());
+                            connection.close();
+                        } catch (RuntimeException ex) {
+                            // e.g. the RPC pool rejected the message, the other connections are not affected
+                            logger.warn("Closing BIN-RPC connection: {}", ex.getMessage(), ex);
+                            connection.close();
+                        }
+                    }
+                }
+            } catch (ClosedSelectorException ex) {
+                break;
             } catch (IOException ex) {
                 // ignore
+            } catch (RuntimeException ex) {
+                logger.warn("Error while waiting for BIN-RPC messages: {}", ex.getMessage(), ex);
             }
         }
     }
 
+    private void acceptConnection() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel != null) {
+            channel.configureBlocking(false);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.add(connection);
+        }
+    }
+
+    private ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    private void returnBuffer(ByteBuffer buffer) {
+        if (buffer.capacity() == BUFFER_SIZE && bufferPool.size() < MAX_POOLED_BUFFERS) {
+            buffer.clear();
+            bufferPool.push(buffer);
+        }
+    }
+
     /**
      * Stops the listening.
      */
     public void shutdown() {
         accept = false;
         try {
-            serverSocket.close();
+            selector.close();
         } catch (IOException ioe) {
             // ignore
         }
+        try {
+            serverChannel.close();
+        } catch (IOException ioe) {
+            // ignore
+        }
+        for (Connection connection : connections) {
+            connection.closeChannel();
+        }
     }
 
+    /**
+     * A connection from the Homematic gateway. The gateway waits for the result of a message before it sends the next
+     * one, so only one message per connection is handled at the same time. All methods except the handling of the
+     * message are called from the selector thread.
+     */
+    private class Connection {
+        private final SocketChannel channel;
+        private final long created = System.currentTimeMillis();
+        private SelectionKey key;
+        private ByteBuffer input;
+        private ByteBuffer output;
+        private volatile byte[] result;
+
+        public Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Reads the available data and handles the message as soon as it is complete.
+         */
+        public void read() throws IOException {
+            if (input == null) {
+                input = borrowBuffer();
+            }
+            if (channel.read(input) == -1) {
+                close();
+                return;
+            }
+            handleNextMessage();
+        }
+
+        /**
+         * Starts the handling of the next message, if it has been received completely.
+         */
+        private void handleNextMessage() throws IOException {
+            if (input.position() < HEADER_LENGTH) {
+                return;
+            }
+            byte[] data = input.array();
+            if (data[0] != 'B' || data[1] != 'i' || data[2] != 'n') {
+                throw new IOException("No BinX signature");
+            }
+            int messageLength = HEADER_LENGTH + BinRpcMessage.getInt(data, 4);
+            if (messageLength < HEADER_LENGTH || messageLength > MAX_MESSAGE_LENGTH) {
+                throw new IOException("Invalid BIN-RPC message length " + messageLength);
+            }
+            if (input.position() < messageLength) {
+                if (input.capacity() < messageLength) {
+                    ByteBuffer larger = ByteBuffer.allocate(messageLength);
+                    input.flip();
+                    larger.put(input);
+                    returnBuffer(input);
+                    input = larger;
+                }
+                return;
+            }
+
+            byte[] message = new byte[messageLength];
+            input.flip();
+            input.get(message);
+            input.compact();
+            if (input.position() == 0) {
+                returnBuffer(input);
+                input = null;
+            }
+
+            key.interestOps(0);
+            ThreadPoolManager.getPool(RPC_POOL_NAME).execute(() -> handleMessage(message));
+        }
+
+        /**
+         * Decodes the message and handles the method call, called from the RPC pool.
+         */
+        private void handleMessage(byte[] message) {
+            try {
+                BinRpcMessage binRpcMessage = new BinRpcMessage(message, true, config.getEncoding());
+                logger.trace("Event BinRpcMessage: {}", binRpcMessage);
+                result = rpcResponseHandler.handleMethodCall(binRpcMessage.getMethodName(),
+                        binRpcMessage.getResponseData());
+            } catch (Exception e) {
+                logger.warn("{}", e.getMessage(), e);
+                result = null;
+            }
+            completedConnections.add(this);
+            selector.wakeup();
+        }
+
+        /**
+         * Sends the result of the handled message or closes the connection if the handling failed.
+         */
+        public void onMessageHandled() {
+            if (!key.isValid()) {
+                return;
+            }
+            if (result == null) {
+                close();
+            } else {
+                output = ByteBuffer.wrap(result);
+                result = null;
+                key.interestOps(SelectionKey.OP_WRITE);
+            }
+        }
+
+        /**
+         * Writes the result and continues with the next message.
+         */
+        public void write() throws IOException {
+            channel.write(output);
+            if (output.hasRemaining()) {
+                return;
+            }
+            output = null;
+            if (System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000)) {
+                close();
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+                if (input != null) {
+                    handleNextMessage();
+                }
+            }
+        }
+
+        public void close() {
+            key.cancel();
+            closeChannel();
+            if (input != null) {
+                returnBuffer(input);
+                input = null;
+            }
+        }
+
+        public void closeChannel() {
+            connections.remove(this);
+            try {
+                channel.close();
+            } catch (IOException ioe) {
+                // ignore
+            }
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import org.openhab.binding.homematic.internal.model.HmDatapointInfo;
+
+/**
+ * A single datapoint event received from a Homematic gateway.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class RpcEvent {
+    private final HmDatapointInfo dpInfo;
+    private final Object value;
+
+    public RpcEvent(HmDatapointInfo dpInfo, Object value) {
+        this.dpInfo = dpInfo;
+        this.value = value;
+    }
+
+    /**
+     * Returns the info of the datapoint the event is for.
+     */
+    public HmDatapointInfo getDatapointInfo() {
+        return dpInfo;
+    }
+
+    /**
+     * Returns the new value of the datapoint.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return dpInfo + "=" + value;
+    }
+}
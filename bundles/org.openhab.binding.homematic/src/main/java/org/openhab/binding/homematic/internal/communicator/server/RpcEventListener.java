@@ -28,6 +28,11 @@ public interface RpcEventListener {
      */
     public void eventReceived(HmDatapointInfo dpInfo, Object newValue);
 
+    /**
+     * Called when a batch of events, e.g. from a system.multicall, is received from a Homematic gateway.
+     */
+    public void eventsReceived(List<RpcEvent> events);
+
     /**
      * Called when new devices has been detected on the Homeamtic gateway.
      */
@@ -60,14 +60,7 @@ public abstract class RpcResponseHandler<T> {
             msg.addArg(getListMethods());
             return msg.createMessage();
         } else if (RPC_METHODNAME_SYSTEM_MULTICALL.equals(methodName)) {
-            for (Object o : (Object[]) responseData[0]) {
-                Map<?, ?> call = (Map<?, ?>) o;
-                if (call != null) {
-                    String method = ObjectUtils.toString(call.get("methodName"));
-                    Object[] data = (Object[]) call.get("params");
-                    handleMethodCall(method, data);
-                }
-            }
+            handleMultiCall((Object[]) responseData[0]);
             return getEmptyEventListResult();
         } else if (RPC_METHODNAME_SET_CONFIG_READY.equals(methodName)) {
             return getEmptyEventListResult();
@@ -89,6 +82,41 @@ public abstract class RpcResponseHandler<T> {
         return events;
     }
 
+    /**
+     * Handles all calls of a system.multicall. The events are collected and populated to the listener as one batch,
+     * other calls are handled in between, so the order of the calls is kept.
+     */
+    private void handleMultiCall(Object[] calls) throws IOException {
+        List<RpcEvent> events = new ArrayList<RpcEvent>(calls.length);
+        for (Object o : calls) {
+            Map<?, ?> call = (Map<?, ?>) o;
+            if (call != null) {
+                String method = ObjectUtils.toString(call.get("methodName"));
+                Object[] data = (Object[]) call.get("params");
+                if (RPC_METHODNAME_EVENT.equals(method)) {
+                    events.add(parseEvent(data));
+                } else {
+                    populateEvents(events);
+                    handleMethodCall(method, data);
+                }
+            }
+        }
+        populateEvents(events);
+    }
+
+    private void populateEvents(List<RpcEvent> events) {
+        if (!events.isEmpty()) {
+            listener.eventsReceived(events);
+            events.clear();
+        }
+    }
+
+    private RpcEvent parseEvent(Object[] message) throws IOException {
+        EventParser eventParser = new EventParser();
+        HmDatapointInfo dpInfo = eventParser.parse(message);
+        return new RpcEvent(dpInfo, eventParser.getValue());
+    }
+
     /**
      * Populates the extracted event to the listener.
      */
@@ -39,6 +39,7 @@ import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.HomematicGateway;
 import org.openhab.binding.homematic.internal.communicator.HomematicGatewayAdapter;
 import org.openhab.binding.homematic.internal.communicator.HomematicGatewayFactory;
+import org.openhab.binding.homematic.internal.communicator.ParamsetDescriptionCache;
 import org.openhab.binding.homematic.internal.discovery.HomematicDeviceDiscoveryService;
 import org.openhab.binding.homematic.internal.misc.HomematicClientException;
 import org.openhab.binding.homematic.internal.model.HmDatapoint;
@@ -72,6 +73,7 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
     private HomematicGateway gateway;
     private final HomematicTypeGenerator typeGenerator;
     private final HttpClient httpClient;
+    private final ParamsetDescriptionCache paramsetDescriptionCache;
 
     private HomematicDeviceDiscoveryService discoveryService;
     private ServiceRegistration<?> discoveryServiceRegistration;
@@ -81,11 +83,12 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
     private int dutyCycleRatio = 0;
 
     public HomematicBridgeHandler(@NonNull Bridge bridge, HomematicTypeGenerator typeGenerator, String ipv4Address,
-            HttpClient httpClient) {
+            HttpClient httpClient, ParamsetDescriptionCache paramsetDescriptionCache) {
         super(bridge);
         this.typeGenerator = typeGenerator;
         this.ipv4Address = ipv4Address;
         this.httpClient = httpClient;
+        this.paramsetDescriptionCache = paramsetDescriptionCache;
     }
 
     @Override
@@ -103,7 +106,8 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
 
             try {
                 String id = getThing().getUID().getId();
-                gateway = HomematicGatewayFactory.createGateway(id, config, this, httpClient);
+                gateway = HomematicGatewayFactory.createGateway(id, config, this, httpClient,
+                        paramsetDescriptionCache);
                 configureThingProperties();
                 gateway.initialize();
 
@@ -16,6 +16,7 @@ import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.smarthome.core.net.NetworkAddressService;
+import org.eclipse.smarthome.core.storage.StorageService;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
@@ -23,6 +24,7 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.thing.binding.ThingHandlerFactory;
 import org.eclipse.smarthome.io.net.http.HttpClientFactory;
+import org.openhab.binding.homematic.internal.communicator.ParamsetDescriptionCache;
 import org.openhab.binding.homematic.internal.type.HomematicTypeGenerator;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -37,6 +39,7 @@ public class HomematicThingHandlerFactory extends BaseThingHandlerFactory {
     private HomematicTypeGenerator typeGenerator;
     private NetworkAddressService networkAddressService;
     private HttpClient httpClient;
+    private StorageService storageService;
 
     @Reference
     protected void setTypeGenerator(HomematicTypeGenerator typeGenerator) {
@@ -65,6 +68,15 @@ public class HomematicThingHandlerFactory extends BaseThingHandlerFactory {
         this.networkAddressService = null;
     }
 
+    @Reference
+    protected void setStorageService(StorageService storageService) {
+        this.storageService = storageService;
+    }
+
+    protected void unsetStorageService(StorageService storageService) {
+        this.storageService = null;
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return BINDING_ID.equals(thingTypeUID.getBindingId());
@@ -73,8 +85,11 @@ public class HomematicThingHandlerFactory extends BaseThingHandlerFactory {
     @Override
     protected ThingHandler createHandler(Thing thing) {
         if (THING_TYPE_BRIDGE.equals(thing.getThingTypeUID())) {
+            ParamsetDescriptionCache paramsetDescriptionCache = new ParamsetDescriptionCache(
+                    storageService.getStorage(thing.getUID().getAsString() + ".paramsets",
+                            ParamsetDescriptionCache.class.getClassLoader()));
             return new HomematicBridgeHandler((Bridge) thing, typeGenerator,
-                    networkAddressService.getPrimaryIpv4HostAddress(), httpClient);
+                    networkAddressService.getPrimaryIpv4HostAddress(), httpClient, paramsetDescriptionCache);
         } else {
             return new HomematicThingHandler(thing);
         }
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.smarthome.core.storage.Storage;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.homematic.internal.communicator.ParamsetDescriptionCache.ParamsetDescription;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDatapoint;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmInterface;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.internal.model.HmValueType;
+
+/**
+ * Tests for {@link ParamsetDescriptionCache}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest {
+
+    private final Map<String, ParamsetDescription> stored = new HashMap<>();
+    private ParamsetDescriptionCache cache;
+
+    @Before
+    public void setup() {
+        cache = new ParamsetDescriptionCache(new MapStorage(stored));
+    }
+
+    @Test
+    public void testStoredDatapointsAreRestored() {
+        HmChannel channel = createChannel("1.4");
+        HmDatapoint level = new HmDatapoint("LEVEL", "LEVEL", HmValueType.FLOAT, 0.0, false, HmParamsetType.VALUES);
+        level.setMinValue(0.0);
+        level.setMaxValue(1.01);
+        level.setUnit("100%");
+        level.setDefaultValue(0.0);
+        channel.addDatapoint(level);
+        HmDatapoint mode = new HmDatapoint("MODE", "MODE", HmValueType.ENUM, 1, false, HmParamsetType.MASTER);
+        mode.setOptions(new String[] { "OFF", "ON" });
+        mode.setMinValue(0);
+        mode.setMaxValue(1);
+        mode.setDefaultValue(1);
+        channel.addDatapoint(mode);
+
+        cache.storeChannelDatapoints(channel);
+
+        HmChannel restoredChannel = createChannel("1.4");
+        assertThat(cache.loadChannelDatapoints(restoredChannel), is(true));
+        assertThat(restoredChannel.getDatapoints().size(), is(2));
+        assertThat(restoredChannel.getDatapoint(HmParamsetType.VALUES, "LEVEL").toString(), is(level.toString()));
+        assertThat(restoredChannel.getDatapoint(HmParamsetType.MASTER, "MODE").toString(), is(mode.toString()));
+        assertThat(cache.refreshChannelDatapoints(restoredChannel), is(true));
+    }
+
+    @Test
+    public void testOtherFirmwareIsNotRestored() {
+        cache.storeChannelDatapoints(createChannel("1.4"));
+
+        assertThat(cache.loadChannelDatapoints(createChannel("1.5")), is(false));
+    }
+
+    @Test
+    public void testUnusedDescriptionsAreRemoved() {
+        HmChannel oldChannel = createChannel("1.4");
+        HmChannel newChannel = createChannel("1.5");
+        cache.storeChannelDatapoints(oldChannel);
+        cache.storeChannelDatapoints(newChannel);
+
+        cache.retainDevices(Collections.singletonList(newChannel.getDevice()));
+
+        assertThat(cache.loadChannelDatapoints(createChannel("1.4")), is(false));
+        assertThat(cache.loadChannelDatapoints(createChannel("1.5")), is(true));
+    }
+
+    private HmChannel createChannel(String firmware) {
+        HmDevice device = new HmDevice("ABC1234567", HmInterface.RF, "HM-LC-Dim1T-Pl-3", "ccu", null, firmware);
+        HmChannel channel = new HmChannel("DIMMER", 1);
+        device.addChannel(channel);
+        return channel;
+    }
+
+    private static class MapStorage implements Storage<ParamsetDescription> {
+        private final Map<String, ParamsetDescription> map;
+
+        MapStorage(Map<String, ParamsetDescription> map) {
+            this.map = map;
+        }
+
+        @Override
+        public ParamsetDescription put(String key, ParamsetDescription value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public ParamsetDescription remove(String key) {
+            return map.remove(key);
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public ParamsetDescription get(String key) {
+            return map.get(key);
+        }
+
+        @Override
+        public Collection<String> getKeys() {
+            return map.keySet();
+        }
+
+        @Override
+        public Collection<ParamsetDescription> getValues() {
+            return map.values();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
+import org.openhab.binding.homematic.internal.model.HmDatapointInfo;
+
+/**
+ * Tests for {@link RpcResponseHandler}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class RpcResponseHandlerTest {
+
+    private final List<List<RpcEvent>> batches = new ArrayList<List<RpcEvent>>();
+    private final List<String> newDevices = new ArrayList<String>();
+
+    private final RpcResponseHandler<String> handler = new RpcResponseHandler<String>(new RpcEventListener() {
+
+        @Override
+        public void eventReceived(HmDatapointInfo dpInfo, Object newValue) {
+            batches.add(Collections.singletonList(new RpcEvent(dpInfo, newValue)));
+        }
+
+        @Override
+        public void eventsReceived(List<RpcEvent> events) {
+            batches.add(new ArrayList<RpcEvent>(events));
+        }
+
+        @Override
+        public void newDevices(List<String> adresses) {
+            newDevices.addAll(adresses);
+        }
+
+        @Override
+        public void deleteDevices(List<String> addresses) {
+        }
+    }) {
+
+        @Override
+        protected String getEmptyStringResult() {
+            return "string";
+        }
+
+        @Override
+        protected String getEmptyArrayResult() {
+            return "array";
+        }
+
+        @Override
+        protected String getEmptyEventListResult() {
+            return "eventList";
+        }
+
+        @Override
+        protected RpcRequest<String> createRpcRequest() {
+            return null;
+        }
+    };
+
+    @Test
+    public void testSingleEvent() throws Exception {
+        assertThat(handler.handleMethodCall("event", event("ABC1234567:1", "LEVEL", 0.5)), is("string"));
+
+        assertThat(batches.size(), is(1));
+        assertEvent(batches.get(0).get(0), "ABC1234567", 1, "LEVEL", 0.5);
+    }
+
+    @Test
+    public void testMulticallEventsAreHandledAsBatch() throws Exception {
+        Object[] calls = { call("event", event("ABC1234567:1", "LEVEL", 0.5)),
+                call("event", event("ABC1234567:1", "WORKING", true)),
+                call("event", event("DEF1234567:2", "STATE", false)) };
+
+        assertThat(handler.handleMethodCall("system.multicall", new Object[] { calls }), is("eventList"));
+
+        assertThat(batches.size(), is(1));
+        List<RpcEvent> batch = batches.get(0);
+        assertThat(batch.size(), is(3));
+        assertEvent(batch.get(0), "ABC1234567", 1, "LEVEL", 0.5);
+        assertEvent(batch.get(1), "ABC1234567", 1, "WORKING", true);
+        assertEvent(batch.get(2), "DEF1234567", 2, "STATE", false);
+    }
+
+    @Test
+    public void testMulticallKeepsOrderOfOtherCalls() throws Exception {
+        Map<String, Object> device = new HashMap<String, Object>();
+        device.put("ADDRESS", "GHI1234567");
+        Object[] calls = { call("event", event("ABC1234567:1", "LEVEL", 0.5)),
+                call("newDevices", new Object[] { "id", new Object[] { device } }),
+                call("event", event("DEF1234567:2", "STATE", false)) };
+
+        handler.handleMethodCall("system.multicall", new Object[] { calls });
+
+        assertThat(newDevices, is(Collections.singletonList("GHI1234567")));
+        assertThat(batches.size(), is(2));
+        assertEvent(batches.get(0).get(0), "ABC1234567", 1, "LEVEL", 0.5);
+        assertEvent(batches.get(1).get(0), "DEF1234567", 2, "STATE", false);
+    }
+
+    private void assertEvent(RpcEvent event, String address, int channel, String name, Object value) {
+        HmDatapointInfo dpInfo = event.getDatapointInfo();
+        assertThat(dpInfo.getAddress(), is(address));
+        assertThat(dpInfo.getChannel(), is(channel));
+        assertThat(dpInfo.getName(), is(name));
+        assertThat(event.getValue(), is(value));
+    }
+
+    private Object[] event(String address, String name, Object value) {
+        return new Object[] { "id", address, name, value };
+    }
+
+    private Map<String, Object> call(String methodName, Object[] params) {
+        Map<String, Object> call = new HashMap<String, Object>();
+        call.put("methodName", methodName);
+        call.put("params", params);
+        return call;
+    }
+}
@@ -23,9 +23,12 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -45,6 +48,7 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 
@@ -62,12 +66,14 @@ public class HueBridge {
     private final Logger logger = LoggerFactory.getLogger(HueBridge.class);
 
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final long FINGERPRINT_PRIME = 1099511628211L;
 
     private final String ip;
     private final String baseUrl;
     private @Nullable String username;
 
     private final Gson gson = new GsonBuilder().setDateFormat(DATE_FORMAT).create();
+    private final JsonParser jsonParser = new JsonParser();
     private HttpClient http = new HttpClient();
     private final ScheduledExecutorService scheduler;
 
@@ -240,6 +246,111 @@ public class HueBridge {
         return sensorList;
     }
 
+    /**
+     * Returns the lights whose representation on the bridge changed since the last call.
+     *
+     * A fingerprint of the raw JSON of every light is compared against the fingerprint stored in
+     * {@code lastFingerprints}, and only lights that differ are deserialized. After the call, the key set of
+     * {@code lastFingerprints} contains the ids of all lights currently known to the bridge.
+     *
+     * @param lastFingerprints fingerprints of the lights returned by the previous call, updated in place
+     * @return list of added or changed lights as {@link FullLight}s
+     * @throws UnauthorizedException thrown if the user no longer exists
+     */
+    public List<FullLight> getChangedFullLights(Map<String, Long> lastFingerprints) throws IOException, ApiException {
+        if (ApiVersionUtils.supportsFullLights(getVersion())) {
+            return getChangedObjects("lights", FullLight.class, lastFingerprints);
+        } else {
+            // old bridges only report full lights as part of the configuration, so every light is reported
+            List<FullLight> lights = getFullConfig().getLights();
+            lastFingerprints.clear();
+            for (FullLight light : lights) {
+                lastFingerprints.put(light.getId(), 0L);
+            }
+            return lights;
+        }
+    }
+
+    /**
+     * Returns the sensors whose representation on the bridge changed since the last call.
+     *
+     * @param lastFingerprints fingerprints of the sensors returned by the previous call, updated in place
+     * @return list of added or changed sensors
+     * @throws UnauthorizedException thrown if the user no longer exists
+     * @see #getChangedFullLights(Map)
+     */
+    public List<FullSensor> getChangedSensors(Map<String, Long> lastFingerprints) throws IOException, ApiException {
+        return getChangedObjects("sensors", FullSensor.class, lastFingerprints);
+    }
+
+    private <T extends HueObject> List<T> getChangedObjects(String path, Class<T> classOfT,
+            Map<String, Long> lastFingerprints) throws IOException, ApiException {
+        requireAuthentication();
+
+        Result result = http.get(getRelativeURL(path));
+
+        handleErrors(result);
+
+        JsonObject objects;
+        try {
+            objects = jsonParser.parse(result.getBody()).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new ApiException("API returned unexpected result: " + e.getMessage());
+        }
+
+        Set<String> ids = new HashSet<>();
+        List<T> changedObjects = new ArrayList<>();
+        for (Entry<String, JsonElement> entry : objects.entrySet()) {
+            String id = entry.getKey();
+            JsonElement json = entry.getValue();
+            ids.add(id);
+            Long fingerprint = fingerprint(json);
+            if (fingerprint.equals(lastFingerprints.get(id))) {
+                continue;
+            }
+            T object = safeFromJson(json, classOfT);
+            object.setId(id);
+            lastFingerprints.put(id, fingerprint);
+            changedObjects.add(object);
+        }
+        lastFingerprints.keySet().retainAll(ids);
+
+        return changedObjects;
+    }
+
+    /**
+     * Calculates a 64 bit fingerprint of a JSON element, which covers e.g. the lastupdated time and the state values of
+     * a sensor. Only the fingerprints of the polled objects are kept instead of the JSON.
+     */
+    static long fingerprint(JsonElement json) {
+        long hash;
+        if (json.isJsonObject()) {
+            hash = 1;
+            for (Entry<String, JsonElement> member : json.getAsJsonObject().entrySet()) {
+                hash = fingerprint(hash, member.getKey());
+                hash = hash * FINGERPRINT_PRIME + fingerprint(member.getValue());
+            }
+        } else if (json.isJsonArray()) {
+            hash = 2;
+            for (JsonElement element : json.getAsJsonArray()) {
+                hash = hash * FINGERPRINT_PRIME + fingerprint(element);
+            }
+        } else if (json.isJsonNull()) {
+            hash = 3;
+        } else {
+            hash = fingerprint(json.getAsJsonPrimitive().isString() ? 4 : 5, json.getAsString());
+        }
+        return hash;
+    }
+
+    private static long fingerprint(long hash, String value) {
+        long result = hash;
+        for (int i = 0; i < value.length(); i++) {
+            result = result * FINGERPRINT_PRIME + value.charAt(i);
+        }
+        return result * FINGERPRINT_PRIME + value.length();
+    }
+
     /**
      * Returns the last time a search for new lights was started.
      * If a search is currently running, the current time will be
@@ -976,6 +1087,14 @@ public class HueBridge {
         }
     }
 
+    private <T> T safeFromJson(JsonElement json, Class<T> classOfT) throws ApiException {
+        try {
+            return gson.fromJson(json, classOfT);
+        } catch (JsonParseException e) {
+            throw new ApiException("API returned unexpected result: " + e.getMessage());
+        }
+    }
+
     // Used as assert in all requests to elegantly catch common errors
     public void handleErrors(Result result) throws IOException, ApiException {
         if (result.getResponseCode() != 200) {
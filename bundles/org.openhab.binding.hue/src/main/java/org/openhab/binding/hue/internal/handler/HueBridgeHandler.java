@@ -43,7 +43,6 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.ConfigStatusBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
-import org.openhab.binding.hue.internal.ApiVersionUtils;
 import org.openhab.binding.hue.internal.Config;
 import org.openhab.binding.hue.internal.ConfigUpdate;
 import org.openhab.binding.hue.internal.FullConfig;
@@ -162,6 +161,13 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Map<String, FullLight> lastLightStates = new ConcurrentHashMap<>();
     private final Map<String, FullSensor> lastSensorStates = new ConcurrentHashMap<>();
 
+    // fingerprints of the last polled lights and sensors, only accessed while holding the polling lock
+    private final Map<String, Long> lastLightFingerprints = new HashMap<>();
+    private final Map<String, Long> lastSensorFingerprints = new HashMap<>();
+
+    private final PollingStatistics lightPollingStatistics = new PollingStatistics();
+    private final PollingStatistics sensorPollingStatistics = new PollingStatistics();
+
     private boolean lastBridgeConnectionState = false;
 
     private boolean propertiesInitializedSuccessfully = false;
@@ -178,9 +184,11 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Runnable sensorPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
+            long start = System.nanoTime();
             Map<String, FullSensor> lastSensorStateCopy = new HashMap<>(lastSensorStates);
 
-            for (final FullSensor sensor : hueBridge.getSensors()) {
+            List<FullSensor> changedSensors = hueBridge.getChangedSensors(lastSensorFingerprints);
+            for (final FullSensor sensor : changedSensors) {
                 String sensorId = sensor.getId();
                 if (lastSensorStateCopy.containsKey(sensorId)) {
                     final FullSensor lastFullSensor = lastSensorStateCopy.remove(sensorId);
@@ -198,6 +206,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 }
             }
 
+            // Sensors which did not change are still known to the bridge
+            lastSensorStateCopy.keySet().removeAll(lastSensorFingerprints.keySet());
+
             // Check for removed sensors
             for (Entry<String, FullSensor> fullSensorEntry : lastSensorStateCopy.entrySet()) {
                 lastSensorStates.remove(fullSensorEntry.getKey());
@@ -210,22 +221,22 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     }
                 }
             }
+
+            if (sensorPollingStatistics.recordPoll(System.nanoTime() - start, changedSensors.size())) {
+                logger.debug("Hue sensor polls of bridge '{}': {}", getThing().getUID(), sensorPollingStatistics);
+                sensorPollingStatistics.reset();
+            }
         }
     };
 
     private final Runnable lightPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
+            long start = System.nanoTime();
             Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
 
-            List<FullLight> lights;
-            if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
-                lights = hueBridge.getFullLights();
-            } else {
-                lights = hueBridge.getFullConfig().getLights();
-            }
-
-            for (final FullLight fullLight : lights) {
+            List<FullLight> changedLights = hueBridge.getChangedFullLights(lastLightFingerprints);
+            for (final FullLight fullLight : changedLights) {
                 final String lightId = fullLight.getId();
                 if (lastLightStateCopy.containsKey(lightId)) {
                     final FullLight lastFullLight = lastLightStateCopy.remove(lightId);
@@ -242,6 +253,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 }
             }
 
+            // Lights which did not change are still known to the bridge
+            lastLightStateCopy.keySet().removeAll(lastLightFingerprints.keySet());
+
             // Check for removed lights
             for (Entry<String, FullLight> fullLightEntry : lastLightStateCopy.entrySet()) {
                 lastLightStates.remove(fullLightEntry.getKey());
@@ -254,6 +268,11 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     }
                 }
             }
+
+            if (lightPollingStatistics.recordPoll(System.nanoTime() - start, changedLights.size())) {
+                logger.debug("Hue light polls of bridge '{}': {}", getThing().getUID(), lightPollingStatistics);
+                lightPollingStatistics.reset();
+            }
         }
     };
 
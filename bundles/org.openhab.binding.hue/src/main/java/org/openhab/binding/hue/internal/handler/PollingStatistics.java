@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * {@link PollingStatistics} collects timing information about the polling jobs of the {@link HueBridgeHandler}, which
+ * is reported and reset once per report interval.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class PollingStatistics {
+
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private long startNanos = System.nanoTime();
+    private long pollCount;
+    private long changedCount;
+    private long maxDurationNanos;
+    private long totalDurationNanos;
+
+    /**
+     * Records a single completed poll.
+     *
+     * @param durationNanos duration of the poll in nanoseconds
+     * @param changed number of objects that were reported as added or changed
+     * @return true if the report interval has passed and the statistics should be reported and reset
+     */
+    public synchronized boolean recordPoll(long durationNanos, int changed) {
+        pollCount++;
+        changedCount += changed;
+        maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+        totalDurationNanos += durationNanos;
+        return System.nanoTime() - startNanos >= REPORT_INTERVAL_NANOS;
+    }
+
+    public synchronized void reset() {
+        startNanos = System.nanoTime();
+        pollCount = 0;
+        changedCount = 0;
+        maxDurationNanos = 0;
+        totalDurationNanos = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        long averageDurationNanos = pollCount == 0 ? 0 : totalDurationNanos / pollCount;
+        return "polls=" + pollCount + ", changed=" + changedCount + ", avg="
+                + TimeUnit.NANOSECONDS.toMillis(averageDurationNanos) + "ms, max="
+                + TimeUnit.NANOSECONDS.toMillis(maxDurationNanos) + "ms";
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for the change detection fingerprints of {@link HueBridge}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class HueBridgeFingerprintTest {
+
+    private final JsonParser parser = new JsonParser();
+
+    @Test
+    public void testSameJsonHasSameFingerprint() {
+        String sensor = "{\"state\":{\"buttonevent\":1002,\"lastupdated\":\"2019-03-01T10:00:00\"},"
+                + "\"config\":{\"on\":true,\"battery\":100}}";
+        assertEquals(fingerprint(sensor), fingerprint(sensor));
+    }
+
+    @Test
+    public void testChangedJsonHasOtherFingerprint() {
+        assertNotEquals(fingerprint("{\"state\":{\"lastupdated\":\"2019-03-01T10:00:00\"}}"),
+                fingerprint("{\"state\":{\"lastupdated\":\"2019-03-01T10:00:01\"}}"));
+        assertNotEquals(fingerprint("{\"config\":{\"battery\":100}}"), fingerprint("{\"config\":{\"battery\":99}}"));
+        assertNotEquals(fingerprint("{\"a\":\"1\"}"), fingerprint("{\"a\":1}"));
+        assertNotEquals(fingerprint("{\"ab\":\"c\"}"), fingerprint("{\"a\":\"bc\"}"));
+        assertNotEquals(fingerprint("{\"xy\":[1,[2]]}"), fingerprint("{\"xy\":[[1],2]}"));
+        assertNotEquals(fingerprint("{\"a\":null}"), fingerprint("{\"a\":{}}"));
+    }
+
+    private long fingerprint(String json) {
+        return HueBridge.fingerprint(parser.parse(json));
+    }
+}
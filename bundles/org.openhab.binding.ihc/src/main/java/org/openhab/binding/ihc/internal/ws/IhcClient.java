@@ -424,6 +424,17 @@ public class IhcClient {
         return resourceInteractionService.resourceUpdate(value);
     }
 
+    /**
+     * Update several resource values to controller with a single request.
+     *
+     *
+     * @param values Resource values.
+     * @return True if values are successfully updated.
+     */
+    public boolean resourceUpdate(List<WSResourceValue> values) throws IhcExecption {
+        return resourceInteractionService.resourceUpdate(values);
+    }
+
     /**
      * The IhcReader runs as a separate thread.
      *
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ihc.internal.ws.datatypes;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSBooleanValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSDateValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSEnumValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSFloatingPointValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSIntegerValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSResourceValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSTimeValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSTimerValue;
+import org.openhab.binding.ihc.internal.ws.resourcevalues.WSWeekdayValue;
+
+/**
+ * Class to parse resource value envelopes from SOAP responses.
+ *
+ * Response is read in a single pass with a streaming parser, which is much
+ * cheaper than building a DOM and evaluating XPath expressions per field
+ * when a notification contains lots of resource values.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class ResourceValueParser {
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+
+    /**
+     * Parse resource values from the response.
+     *
+     * @param xml SOAP response.
+     * @param parentName Local name of the element containing the resource value envelopes,
+     *            e.g. waitForResourceValueChanges2.
+     * @param envelopeName Local name of the resource value envelopes, e.g. arrayItem. If same as
+     *            parentName, parent element is the only envelope.
+     * @return List of resource values or null if parent element is not found. Envelopes without
+     *         resource identifier are skipped.
+     */
+    public static List<WSResourceValue> parseResourceValues(String xml, String parentName, String envelopeName)
+            throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && parentName.equals(reader.getLocalName())) {
+                    List<WSResourceValue> values = new ArrayList<WSResourceValue>();
+                    if (parentName.equals(envelopeName)) {
+                        addResourceValue(values, reader);
+                    } else {
+                        parseEnvelopes(values, reader, envelopeName);
+                    }
+                    return values;
+                }
+            }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void parseEnvelopes(List<WSResourceValue> values, XMLStreamReader reader, String envelopeName)
+            throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (depth == 1 && envelopeName.equals(reader.getLocalName())) {
+                    addResourceValue(values, reader);
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static void addResourceValue(List<WSResourceValue> values, XMLStreamReader reader)
+            throws XMLStreamException {
+        WSResourceValue value = parseEnvelope(reader);
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    /**
+     * Parse a resource value envelope, reader is positioned on the start element of the envelope and
+     * left on the end element of the envelope.
+     */
+    private static WSResourceValue parseEnvelope(XMLStreamReader reader) throws XMLStreamException {
+        String resourceId = null;
+        Map<String, String> fields = new HashMap<String, String>();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (depth == 1 && "resourceID".equals(name)) {
+                    resourceId = reader.getElementText();
+                } else if (depth == 1 && "value".equals(name)) {
+                    parseValueFields(fields, reader);
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return createResourceValue(resourceId, fields);
+    }
+
+    private static void parseValueFields(Map<String, String> fields, XMLStreamReader reader)
+            throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (depth == 1) {
+                    String name = reader.getLocalName();
+                    fields.put(name, reader.getElementText());
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static WSResourceValue createResourceValue(String resourceId, Map<String, String> fields) {
+        if (StringUtils.isBlank(resourceId)) {
+            return null;
+        }
+        int id = Integer.parseInt(resourceId.trim());
+
+        // Parse floating point value
+        String floatingPointValue = fields.get("floatingPointValue");
+        if (StringUtils.isNotBlank(floatingPointValue)) {
+            return new WSFloatingPointValue(id, Double.valueOf(floatingPointValue),
+                    Double.valueOf(fields.get("minimumValue")), Double.valueOf(fields.get("maximumValue")));
+        }
+
+        // Parse boolean value
+        String value = fields.get("value");
+        if (StringUtils.isNotBlank(value)) {
+            return new WSBooleanValue(id, Boolean.valueOf(value));
+        }
+
+        // Parse integer value
+        String integer = fields.get("integer");
+        if (StringUtils.isNotBlank(integer)) {
+            return new WSIntegerValue(id, Integer.valueOf(integer), Integer.valueOf(fields.get("minimumValue")),
+                    Integer.valueOf(fields.get("maximumValue")));
+        }
+
+        // Parse timer value
+        String milliseconds = fields.get("milliseconds");
+        if (StringUtils.isNotBlank(milliseconds)) {
+            return new WSTimerValue(id, Integer.valueOf(milliseconds));
+        }
+
+        // Parse time value
+        String hours = fields.get("hours");
+        if (StringUtils.isNotBlank(hours)) {
+            return new WSTimeValue(id, Integer.valueOf(hours), Integer.valueOf(fields.get("minutes")),
+                    Integer.valueOf(fields.get("seconds")));
+        }
+
+        // Parse date value
+        String year = fields.get("year");
+        if (StringUtils.isNotBlank(year)) {
+            return new WSDateValue(id, Short.valueOf(year), Byte.valueOf(fields.get("month")),
+                    Byte.valueOf(fields.get("day")));
+        }
+
+        // Parse enum value
+        String definitionTypeID = fields.get("definitionTypeID");
+        if (StringUtils.isNotBlank(definitionTypeID)) {
+            return new WSEnumValue(id, Integer.valueOf(definitionTypeID), Integer.valueOf(fields.get("enumValueID")),
+                    fields.get("enumName"));
+        }
+
+        // Parse week day value
+        value = fields.get("weekdayNumber");
+        if (StringUtils.isNotBlank(value)) {
+            return new WSWeekdayValue(id, Integer.valueOf(value));
+        }
+
+        // Unknown value type
+        throw new IllegalArgumentException("Unsupported value type");
+    }
+}
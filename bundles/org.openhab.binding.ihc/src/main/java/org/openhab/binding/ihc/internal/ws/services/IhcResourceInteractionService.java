@@ -14,13 +14,13 @@ package org.openhab.binding.ihc.internal.ws.services;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPathExpressionException;
 
-import org.apache.commons.lang.StringUtils;
+import org.openhab.binding.ihc.internal.ws.datatypes.ResourceValueParser;
 import org.openhab.binding.ihc.internal.ws.datatypes.XPathUtils;
 import org.openhab.binding.ihc.internal.ws.exeptions.IhcExecption;
 import org.openhab.binding.ihc.internal.ws.http.IhcConnectionPool;
@@ -33,8 +33,6 @@ import org.openhab.binding.ihc.internal.ws.resourcevalues.WSResourceValue;
 import org.openhab.binding.ihc.internal.ws.resourcevalues.WSTimeValue;
 import org.openhab.binding.ihc.internal.ws.resourcevalues.WSTimerValue;
 import org.openhab.binding.ihc.internal.ws.resourcevalues.WSWeekdayValue;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * Class to handle IHC / ELKO LS Controller's resource interaction service.
@@ -68,102 +66,28 @@ public class IhcResourceInteractionService extends IhcBaseService {
 
         String query = String.format(soapQuery, String.valueOf(resoureId));
         String response = sendSoapQuery(null, query);
-        NodeList nodeList;
         try {
-            nodeList = XPathUtils.parseList(response, "/SOAP-ENV:Envelope/SOAP-ENV:Body/ns1:getRuntimeValue2");
+            List<WSResourceValue> values = ResourceValueParser.parseResourceValues(response, "getRuntimeValue2",
+                    "getRuntimeValue2");
 
-            if (nodeList != null && nodeList.getLength() == 1) {
-                WSResourceValue val = parseResourceValue(nodeList.item(0));
+            if (values != null && values.size() == 1) {
+                WSResourceValue val = values.get(0);
 
-                if (val != null && val.resourceID == resoureId) {
+                if (val.resourceID == resoureId) {
                     return val;
                 } else {
                     throw new IhcExecption("No resource id found");
                 }
+            } else if (values != null) {
+                throw new IhcExecption("No resource id found");
             } else {
                 throw new IhcExecption("No resource value found");
             }
-        } catch (XPathExpressionException | NumberFormatException | IOException e) {
+        } catch (XMLStreamException | IllegalArgumentException e) {
             throw new IhcExecption("Error occured during XML data parsing", e);
         }
     }
 
-    private WSResourceValue parseResourceValue(Node n) throws XPathExpressionException, NumberFormatException {
-        // parse resource id
-        String resourceId = XPathUtils.getSpeficValueFromNode(n, "ns1:resourceID");
-
-        if (StringUtils.isNotBlank(resourceId)) {
-            int id = Integer.parseInt(resourceId);
-
-            // Parse floating point value
-            String floatingPointValue = getValue(n, "floatingPointValue");
-            if (StringUtils.isNotBlank(floatingPointValue)) {
-                String min = getValue(n, "minimumValue");
-                String max = getValue(n, "maximumValue");
-                return new WSFloatingPointValue(id, Double.valueOf(floatingPointValue), Double.valueOf(min),
-                        Double.valueOf(max));
-            }
-
-            // Parse boolean value
-            String value = getValue(n, "value");
-            if (StringUtils.isNotBlank(value)) {
-                return new WSBooleanValue(id, Boolean.valueOf(value));
-            }
-
-            // Parse integer value
-            String integer = getValue(n, "integer");
-            if (StringUtils.isNotBlank(integer)) {
-                String min = getValue(n, "minimumValue");
-                String max = getValue(n, "maximumValue");
-                return new WSIntegerValue(id, Integer.valueOf(integer), Integer.valueOf(min), Integer.valueOf(max));
-            }
-
-            // Parse timer value
-            String milliseconds = getValue(n, "milliseconds");
-            if (StringUtils.isNotBlank(milliseconds)) {
-                return new WSTimerValue(id, Integer.valueOf(milliseconds));
-            }
-
-            // Parse time value
-            String hours = getValue(n, "hours");
-            if (StringUtils.isNotBlank(hours)) {
-                String minutes = getValue(n, "minutes");
-                String seconds = getValue(n, "seconds");
-                return new WSTimeValue(id, Integer.valueOf(hours), Integer.valueOf(minutes), Integer.valueOf(seconds));
-            }
-
-            // Parse date value
-            String year = getValue(n, "year");
-            if (StringUtils.isNotBlank(year)) {
-                String month = getValue(n, "month");
-                String day = getValue(n, "day");
-                return new WSDateValue(id, Short.valueOf(year), Byte.valueOf(month), Byte.valueOf(day));
-            }
-
-            // Parse enum value
-            String definitionTypeID = getValue(n, "definitionTypeID");
-            if (StringUtils.isNotBlank(definitionTypeID)) {
-                String enumValueID = getValue(n, "enumValueID");
-                String enumName = getValue(n, "enumName");
-                return new WSEnumValue(id, Integer.valueOf(definitionTypeID), Integer.valueOf(enumValueID), enumName);
-            }
-
-            // Parse week day value
-            value = getValue(n, "weekdayNumber");
-            if (StringUtils.isNotBlank(value)) {
-                return new WSWeekdayValue(id, Integer.valueOf(value));
-            }
-
-            // Unknown value type
-            throw new IllegalArgumentException("Unsupported value type");
-        }
-        return null;
-    }
-
-    private String getValue(Node n, String value) throws XPathExpressionException {
-        return XPathUtils.getSpeficValueFromNode(n, "ns1:value/" + XPathUtils.createIgnoreNameSpaceSyntaxExpr(value));
-    }
-
     /**
      * Update resource value to controller.
      *
@@ -376,6 +300,95 @@ public class IhcResourceInteractionService extends IhcBaseService {
         return doResourceUpdate(query);
     }
 
+    /**
+     * Update several resource values to controller with a single request.
+     *
+     * @param values Resource values.
+     * @return True if values are successfully updated.
+     */
+    public boolean resourceUpdate(List<WSResourceValue> values) throws IhcExecption {
+        if (values.isEmpty()) {
+            return true;
+        }
+        if (values.size() == 1) {
+            return resourceUpdate(values.get(0));
+        }
+
+        // @formatter:off
+        final String soapQueryPrefix =
+                  "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + " <soap:Body>\n"
+                + "  <setResourceValues1 xmlns=\"utcs\">\n";
+
+        final String soapQueryItem =
+                  "   <arrayItem>\n"
+                + "    <value xmlns:q1=\"utcs.values\" xsi:type=\"q1:%s\">\n"
+                + "%s"
+                + "    </value>\n"
+                + "    <resourceID>%s</resourceID>\n"
+                + "    <isValueRuntime>true</isValueRuntime>\n"
+                + "   </arrayItem>\n";
+
+        final String soapQuerySuffix =
+                  "  </setResourceValues1>\n"
+                + " </soap:Body>\n"
+                + "</soap:Envelope>";
+        // @formatter:on
+
+        StringBuilder query = new StringBuilder(soapQueryPrefix);
+        for (WSResourceValue value : values) {
+            query.append(String.format(soapQueryItem, value.getClass().getSimpleName(), getValueFields(value),
+                    value.resourceID));
+        }
+        query.append(soapQuerySuffix);
+
+        String response = sendSoapQuery(null, query.toString());
+        try {
+            return Boolean.parseBoolean(
+                    XPathUtils.parseXMLValue(response, "/SOAP-ENV:Envelope/SOAP-ENV:Body/ns1:setResourceValues2"));
+        } catch (IOException | XPathExpressionException e) {
+            throw new IhcExecption(e);
+        }
+    }
+
+    private String getValueFields(WSResourceValue value) throws IhcExecption {
+        final String field = "     <q1:%1$s>%2$s</q1:%1$s>\n";
+
+        if (value instanceof WSFloatingPointValue) {
+            WSFloatingPointValue val = (WSFloatingPointValue) value;
+            return String.format(field, "maximumValue", val.maximumValue)
+                    + String.format(field, "minimumValue", val.minimumValue)
+                    + String.format(field, "floatingPointValue", val.value);
+        } else if (value instanceof WSBooleanValue) {
+            return String.format(field, "value", ((WSBooleanValue) value).value ? "true" : "false");
+        } else if (value instanceof WSIntegerValue) {
+            WSIntegerValue val = (WSIntegerValue) value;
+            return String.format(field, "maximumValue", val.maximumValue)
+                    + String.format(field, "minimumValue", val.minimumValue)
+                    + String.format(field, "integer", val.value);
+        } else if (value instanceof WSTimerValue) {
+            return String.format(field, "milliseconds", ((WSTimerValue) value).milliseconds);
+        } else if (value instanceof WSWeekdayValue) {
+            return String.format(field, "weekdayNumber", ((WSWeekdayValue) value).weekdayNumber);
+        } else if (value instanceof WSEnumValue) {
+            WSEnumValue val = (WSEnumValue) value;
+            return String.format(field, "definitionTypeID", val.definitionTypeID)
+                    + String.format(field, "enumValueID", val.enumValueID)
+                    + String.format(field, "enumName", val.enumName);
+        } else if (value instanceof WSTimeValue) {
+            WSTimeValue val = (WSTimeValue) value;
+            return String.format(field, "hours", val.hours) + String.format(field, "minutes", val.minutes)
+                    + String.format(field, "seconds", val.seconds);
+        } else if (value instanceof WSDateValue) {
+            WSDateValue val = (WSDateValue) value;
+            return String.format(field, "month", val.month) + String.format(field, "year", val.year)
+                    + String.format(field, "day", val.day);
+        } else {
+            throw new IhcExecption("Unsupported value type " + value.getClass().toString());
+        }
+    }
+
     private boolean doResourceUpdate(String query) throws IhcExecption {
         String response = sendSoapQuery(null, query);
         try {
@@ -438,32 +451,17 @@ public class IhcResourceInteractionService extends IhcBaseService {
 
         String query = String.format(soapQuery, timeoutInSeconds);
         String response = sendSoapQuery(null, query, getTimeout() + timeoutInSeconds * 1000);
-        List<WSResourceValue> resourceValueList = new ArrayList<WSResourceValue>();
 
         try {
-            NodeList nodeList = XPathUtils.parseList(response,
-                    "/SOAP-ENV:Envelope/SOAP-ENV:Body/ns1:waitForResourceValueChanges2/ns1:arrayItem");
-
-            if (nodeList != null) {
-                if (nodeList.getLength() == 1) {
-                    String resourceId = XPathUtils.getSpeficValueFromNode(nodeList.item(0), "ns1:resourceID");
-                    if (resourceId == null || resourceId.isEmpty()) {
-                        // IHC controller indicates timeout, return empty list
-                        return resourceValueList;
-                    }
-                }
+            // IHC controller indicates timeout with an empty resource id, which the parser skips
+            List<WSResourceValue> resourceValueList = ResourceValueParser.parseResourceValues(response,
+                    "waitForResourceValueChanges2", "arrayItem");
 
-                for (int i = 0; i < nodeList.getLength(); i++) {
-                    WSResourceValue newVal = parseResourceValue(nodeList.item(i));
-                    if (newVal != null) {
-                        resourceValueList.add(newVal);
-                    }
-                }
-            } else {
+            if (resourceValueList == null) {
                 throw new IhcExecption("Illegal resource value notification response received");
             }
             return resourceValueList;
-        } catch (XPathExpressionException | NumberFormatException | IOException e) {
+        } catch (XMLStreamException | IllegalArgumentException e) {
             throw new IhcExecption("Error occured during XML data parsing", e);
         }
     }
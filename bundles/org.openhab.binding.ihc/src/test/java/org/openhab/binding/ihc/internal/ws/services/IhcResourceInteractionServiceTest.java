@@ -110,6 +110,12 @@ public class IhcResourceInteractionServiceTest {
         doReturn(updateFailureResult).when(ihcResourceInteractionService).sendQuery(eq(url), any(), eq(update100011),
                 anyInt());
 
+        final String updateValuesOkResult = ResourceFileUtils.getFileContent("ResourceValuesUpdateOkResult.xml");
+        final String update900001 = ResourceFileUtils.getFileContent("ResourceValuesUpdate900001.xml");
+
+        doReturn(updateValuesOkResult).when(ihcResourceInteractionService).sendQuery(eq(url), any(),
+                eq(update900001), anyInt());
+
         final String resourceValueNotificationsQuery = ResourceFileUtils
                 .getFileContent("ResourceValueNotificationsQuery.xml");
         final String resourceValueNotificationsResponse = ResourceFileUtils
@@ -241,6 +247,16 @@ public class IhcResourceInteractionServiceTest {
         assertTrue(result);
     }
 
+    @Test
+    public void testMultipleValuesUpdate() throws IhcExecption {
+        List<WSResourceValue> values = new ArrayList<WSResourceValue>();
+        values.add(new WSBooleanValue(900001, true));
+        values.add(new WSIntegerValue(900002, 201, -1000, 1000));
+        values.add(new WSEnumValue(900003, 11111, 22222, "test123"));
+        boolean result = ihcResourceInteractionService.resourceUpdate(values);
+        assertTrue(result);
+    }
+
     @Test
     public void testResourceValueNotifications() throws IhcExecption, SocketTimeoutException {
         final List<WSResourceValue> list = ihcResourceInteractionService.waitResourceValueNotifications(1);
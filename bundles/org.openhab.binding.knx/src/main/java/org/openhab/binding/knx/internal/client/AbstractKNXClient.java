@@ -14,10 +14,10 @@ package org.openhab.binding.knx.internal.client;
 
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -33,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import tuwien.auto.calimero.CloseEvent;
+import tuwien.auto.calimero.DataUnitBuilder;
 import tuwien.auto.calimero.DetachEvent;
 import tuwien.auto.calimero.FrameEvent;
 import tuwien.auto.calimero.GroupAddress;
@@ -64,6 +65,12 @@ import tuwien.auto.calimero.process.ProcessListener;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int GROUP_READ = 0x00;
+    // reads are sent without waiting for the response, but no more than this number may be unanswered
+    private static final int MAX_PENDING_READS = 10;
+    // above this number of telegrams per second the pause between reads is extended proportionally
+    private static final double BUS_LOAD_LIMIT = 20.0;
+    private static final long MAX_READING_PAUSE = 5000;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
     private final KNXTypeMapper typeHelper = new KNXCoreTypeMapper();
@@ -84,9 +91,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable DeviceInfoClient deviceInfoClient;
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
+    private final Object busJobLock = new Object();
+    private int busJobGeneration;
 
     private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final ReadDatapointQueue readDatapoints = new ReadDatapointQueue();
+
+    private final AtomicInteger telegramCount = new AtomicInteger();
+    private long telegramCountStart;
+    private double telegramRate;
+    private double confirmationLatency;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -103,6 +117,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            readDatapoints.received(e.getDestination());
             processEvent("Group Write", e, (listener, source, destination, asdu) -> {
                 listener.onGroupWrite(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -117,6 +132,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
+            readDatapoints.received(e.getDestination());
             processEvent("Group Read Response", e, (listener, source, destination, asdu) -> {
                 listener.onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu);
             });
@@ -196,8 +212,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
             link.addLinkListener(this);
 
-            busJob = knxScheduler.scheduleWithFixedDelay(() -> readNextQueuedDatapoint(), 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            startReading();
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -224,7 +239,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
         readDatapoints.clear();
-        busJob = nullify(busJob, j -> j.cancel(true));
+        synchronized (busJobLock) {
+            busJob = nullify(busJob, j -> j.cancel(true));
+        }
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
         managementClient = nullify(managementClient, mc -> mc.detach());
@@ -250,6 +267,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         GroupAddress destination = event.getDestination();
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
+        telegramCount.incrementAndGet();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
         for (GroupAddressListener listener : groupAddressListeners) {
             if (listener.listensTo(destination)) {
@@ -270,33 +288,109 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         return typeHelper.toDPTValue(type, dpt);
     }
 
-    private void readNextQueuedDatapoint() {
+    private void startReading() {
+        synchronized (busJobLock) {
+            int generation = ++busJobGeneration;
+            telegramCount.set(0);
+            telegramCountStart = System.currentTimeMillis();
+            telegramRate = 0;
+            confirmationLatency = 0;
+            busJob = knxScheduler.schedule(() -> readNextQueuedDatapoint(generation), 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void readNextQueuedDatapoint(int generation) {
+        long pause = readingPause;
+        try {
+            pause = sendNextQueuedRead();
+        } finally {
+            synchronized (busJobLock) {
+                // a new connection has started its own job in the meantime or the connection has been released
+                if (busJob != null && generation == busJobGeneration) {
+                    busJob = knxScheduler.schedule(() -> readNextQueuedDatapoint(generation), pause,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the Group Read Request for the next queued datapoint. The request is not waiting for the response, which
+     * is delivered to the listeners like any other telegram, only for the confirmation of the link.
+     *
+     * @return the pause before the next read in milliseconds
+     */
+    private long sendNextQueuedRead() {
+        long now = System.currentTimeMillis();
+        for (ReadDatapoint datapoint : readDatapoints.removeUnanswered(now, responseTimeout * 1000L)) {
+            retryRead(datapoint, "no response received");
+        }
+        updateTelegramRate(now);
+        if (readDatapoints.pendingSize() >= MAX_PENDING_READS) {
+            return readingPause;
+        }
         if (!connectIfNotAutomatic()) {
-            return;
+            return readingPause;
         }
-        ProcessCommunicator processCommunicator = this.processCommunicator;
-        if (processCommunicator == null) {
-            return;
+        KNXNetworkLink link = this.link;
+        if (link == null) {
+            return readingPause;
         }
         ReadDatapoint datapoint = readDatapoints.poll();
+        if (datapoint == null) {
+            return readingPause;
+        }
 
         datapoint.incrementRetries();
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
         try {
-            logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-            processCommunicator.read(datapoint.getDatapoint());
+            logger.trace("Sending a Group Read Request telegram for {}", groupAddress);
+            long start = System.nanoTime();
+            link.sendRequestWait(groupAddress, datapoint.getDatapoint().getPriority(),
+                    DataUnitBuilder.createCompactAPDU(GROUP_READ, new byte[0]));
+            readDatapoints.sent(datapoint, System.currentTimeMillis());
+            double latency = (System.nanoTime() - start) / 1000000.0;
+            confirmationLatency = confirmationLatency == 0 ? latency : 0.8 * confirmationLatency + 0.2 * latency;
         } catch (KNXException e) {
-            if (datapoint.getRetries() < datapoint.getLimit()) {
-                readDatapoints.add(datapoint);
-                logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                        datapoint.getDatapoint().getMainAddress(), e.getMessage());
-            } else {
-                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                        datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-            }
+            retryRead(datapoint, e.getMessage());
         } catch (InterruptedException e) {
             logger.debug("Interrupted sending KNX read request");
-            return;
+            Thread.currentThread().interrupt();
         }
+        return getReadingPause();
+    }
+
+    private void retryRead(ReadDatapoint datapoint, @Nullable String reason) {
+        if (datapoint.getRetries() < datapoint.getLimit()) {
+            datapoint.setPriority(READ_PRIORITY_LOW);
+            readDatapoints.add(datapoint);
+            logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
+                    datapoint.getDatapoint().getMainAddress(), reason);
+        } else {
+            logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                    datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
+        }
+    }
+
+    private void updateTelegramRate(long now) {
+        long elapsed = now - telegramCountStart;
+        if (elapsed >= 1000) {
+            double rate = telegramCount.getAndSet(0) * 1000.0 / elapsed;
+            telegramCountStart = now;
+            telegramRate = 0.5 * telegramRate + 0.5 * rate;
+        }
+    }
+
+    /**
+     * Returns the pause before the next read: at least the configured reading pause, but not less than the time the
+     * link needs to confirm a telegram and extended proportionally if the bus is busy.
+     */
+    private long getReadingPause() {
+        double pause = Math.max(readingPause, confirmationLatency);
+        if (telegramRate > BUS_LOAD_LIMIT) {
+            pause *= telegramRate / BUS_LOAD_LIMIT;
+        }
+        return Math.min(Math.max(readingPause, MAX_READING_PAUSE), Math.round(pause));
     }
 
     public void dispose() {
@@ -364,13 +458,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, int priority) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority));
     }
 
     @Override
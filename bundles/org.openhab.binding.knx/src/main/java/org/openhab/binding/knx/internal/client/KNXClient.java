@@ -29,6 +29,21 @@ import tuwien.auto.calimero.datapoint.Datapoint;
 @NonNullByDefault
 public interface KNXClient {
 
+    /**
+     * Priority of reads requested explicitly, e.g. by a REFRESH command.
+     */
+    int READ_PRIORITY_HIGH = 0;
+
+    /**
+     * Priority of the initial reads of linked channels.
+     */
+    int READ_PRIORITY_NORMAL = 1;
+
+    /**
+     * Priority of periodic reads and retries.
+     */
+    int READ_PRIORITY_LOW = 2;
+
     /**
      * Check whether the client is connected
      *
@@ -80,8 +95,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read, one of the READ_PRIORITY constants
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, int priority);
 
     /**
      * Write a command to the KNX bus.
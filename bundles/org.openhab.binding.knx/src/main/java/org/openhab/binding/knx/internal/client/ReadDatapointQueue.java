@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of the datapoints to be read from the KNX bus, which keeps track of the read requests waiting for a response.
+ * <p>
+ * Each group address is queued at most once. Datapoints are polled by priority and in the order they were added
+ * within the same priority. Reading a queued group address again with a higher priority moves it forward.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class ReadDatapointQueue {
+
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+    private final List<ArrayDeque<ReadDatapoint>> queues = new ArrayList<>();
+    private final Map<GroupAddress, PendingRead> pending = new HashMap<>();
+
+    private static class PendingRead {
+        private final ReadDatapoint datapoint;
+        private final long sendTime;
+
+        PendingRead(ReadDatapoint datapoint, long sendTime) {
+            this.datapoint = datapoint;
+            this.sendTime = sendTime;
+        }
+    }
+
+    public ReadDatapointQueue() {
+        for (int priority = KNXClient.READ_PRIORITY_HIGH; priority <= KNXClient.READ_PRIORITY_LOW; priority++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Adds the datapoint to the queue, unless its group address is queued or waiting for a response already.
+     *
+     * @param datapoint the datapoint to read
+     * @return true if the datapoint has been added or its priority has been raised
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        int priority = Math.max(KNXClient.READ_PRIORITY_HIGH,
+                Math.min(KNXClient.READ_PRIORITY_LOW, datapoint.getPriority()));
+        ReadDatapoint queuedDatapoint = queued.get(address);
+        if (queuedDatapoint == null) {
+            if (pending.containsKey(address)) {
+                return false;
+            }
+            datapoint.setPriority(priority);
+            queued.put(address, datapoint);
+            queues.get(priority).add(datapoint);
+            return true;
+        } else if (priority < queuedDatapoint.getPriority()) {
+            // the entry in the queue of the lower priority becomes stale and is skipped when polled
+            queuedDatapoint.setPriority(priority);
+            queues.get(priority).add(queuedDatapoint);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the datapoint with the highest priority from the queue.
+     *
+     * @return the datapoint or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (int priority = 0; priority < queues.size(); priority++) {
+            ArrayDeque<ReadDatapoint> queue = queues.get(priority);
+            ReadDatapoint datapoint;
+            while ((datapoint = queue.poll()) != null) {
+                GroupAddress address = datapoint.getDatapoint().getMainAddress();
+                if (queued.get(address) == datapoint && datapoint.getPriority() == priority) {
+                    queued.remove(address);
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remembers that a read request for the datapoint has been sent and a response is expected.
+     *
+     * @param datapoint the datapoint
+     * @param sendTime the time the request has been sent in milliseconds
+     */
+    public synchronized void sent(ReadDatapoint datapoint, long sendTime) {
+        pending.put(datapoint.getDatapoint().getMainAddress(), new PendingRead(datapoint, sendTime));
+    }
+
+    /**
+     * Removes the group address from the queue and from the reads waiting for a response, as its value has been
+     * received.
+     *
+     * @param address the group address
+     * @return true if the group address was queued or waiting for a response
+     */
+    public synchronized boolean received(GroupAddress address) {
+        boolean wasQueued = queued.remove(address) != null;
+        return pending.remove(address) != null || wasQueued;
+    }
+
+    /**
+     * Removes and returns the reads which haven't been answered in time.
+     *
+     * @param now the current time in milliseconds
+     * @param timeout the response timeout in milliseconds
+     * @return the datapoints of the unanswered reads
+     */
+    public synchronized List<ReadDatapoint> removeUnanswered(long now, long timeout) {
+        List<ReadDatapoint> unanswered = new ArrayList<>();
+        for (Iterator<PendingRead> iterator = pending.values().iterator(); iterator.hasNext();) {
+            PendingRead pendingRead = iterator.next();
+            if (now - pendingRead.sendTime >= timeout) {
+                iterator.remove();
+                unanswered.add(pendingRead.datapoint);
+            }
+        }
+        return unanswered;
+    }
+
+    /**
+     * Returns the number of queued datapoints.
+     */
+    public synchronized int size() {
+        return queued.size();
+    }
+
+    /**
+     * Returns the number of reads waiting for a response.
+     */
+    public synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    public synchronized void clear() {
+        queued.clear();
+        pending.clear();
+        queues.forEach(ArrayDeque::clear);
+    }
+}
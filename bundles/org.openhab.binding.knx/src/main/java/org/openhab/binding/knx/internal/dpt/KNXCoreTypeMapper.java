@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -38,6 +39,7 @@ import org.eclipse.smarthome.core.library.types.UpDownType;
 import org.eclipse.smarthome.core.types.Type;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.openhab.binding.knx.internal.KNXTypeMapper;
+import org.openhab.binding.knx.internal.dpt.KNXDatapointCodec.Decoder;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,6 +97,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     private static final String TIME_DAY_FORMAT = new String("EEE, HH:mm:ss");
     private static final String DATE_FORMAT = new String("yyyy-MM-dd");
 
+    private static final DecimalType DECIMAL_ZERO = new DecimalType(0);
+    private static final DecimalType DECIMAL_ONE = new DecimalType(1);
+
     /**
      * stores the openHAB type class for (supported) KNX datapoint types in a generic way.
      * dptTypeMap stores more specific type class and exceptions.
@@ -107,6 +112,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /** stores the resolved codec for each KNX datapoint type in use */
+    private final Map<String, KNXDatapointCodec> codecs = new ConcurrentHashMap<>();
+
     public KNXCoreTypeMapper() {
 
         @SuppressWarnings("unused")
@@ -573,25 +581,13 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public String toDPTValue(Type type, String dptID) {
-
-        DPT dpt;
-        int mainNumber = getMainNumber(dptID);
-        if (mainNumber == -1) {
-            logger.error("toDPTValue couldn't identify mainnumber in dptID: {}", dptID);
-            return null;
-        }
-        int subNumber = getSubNumber(dptID);
-        if (subNumber == -1) {
-            logger.debug("toType: couldn't identify sub number in dptID: {}.", dptID);
-            return null;
-        }
-
-        try {
-            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
-            dpt = translator.getType();
-        } catch (KNXException e) {
+        KNXDatapointCodec codec = getCodec(dptID);
+        if (codec == null) {
             return null;
         }
+        DPT dpt = codec.getDPT();
+        int mainNumber = codec.getMainNumber();
+        int subNumber = codec.getSubNumber();
 
         try {
             // check for HSBType first, because it extends PercentType as well
@@ -674,191 +670,245 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
+        KNXDatapointCodec codec = getCodec(datapoint.getDPT());
+        if (codec == null) {
+            return null;
+        }
+        logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
-            translator.setData(data);
-            String value = translator.getValue();
-
-            String id = translator.getType().getID();
-            logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
+            return codec.decode(data);
+        } catch (KNXFormatException kfe) {
+            logger.info("Translator couldn't parse data for datapoint type '{}' (KNXFormatException).",
+                    datapoint.getDPT());
+        } catch (KNXIllegalArgumentException kiae) {
+            logger.info("Translator couldn't parse data for datapoint type '{}' (KNXIllegalArgumentException).",
+                    datapoint.getDPT());
+        } catch (KNXException e) {
+            logger.warn("Failed translating data for datapoint type '{}'.", datapoint.getDPT(), e);
+        }
+        return null;
+    }
 
-            int mainNumber = getMainNumber(id);
-            if (mainNumber == -1) {
-                logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
-                return null;
-            }
-            int subNumber = getSubNumber(id);
-            if (subNumber == -1) {
-                logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
-                return null;
+    /**
+     * Returns the codec of the datapoint type, which is resolved on first use.
+     *
+     * @param dptID the datapoint type id
+     * @return the codec or null if the datapoint type id is invalid or not known to calimero
+     */
+    private KNXDatapointCodec getCodec(String dptID) {
+        KNXDatapointCodec codec = codecs.get(dptID);
+        if (codec == null) {
+            codec = createCodec(dptID);
+            if (codec != null) {
+                codecs.put(dptID, codec);
             }
-            /*
-             * Following code section deals with specific mapping of values from KNX to openHAB types were the String
-             * received from the DPTXlator is not sufficient to set the openHAB type or has bugs
-             */
-            switch (mainNumber) {
-                case 1:
-                    DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
-                    switch (subNumber) {
-                        case 8:
-                            return translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
-                        case 9:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 10:
-                            return translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
-                        case 19:
-                            return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
-                        case 22:
-                            return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
-                        default:
-                            return translatorBoolean.getValueBoolean() ? OnOffType.ON : OnOffType.OFF;
-                    }
-                case 2:
+        }
+        return codec;
+    }
+
+    private KNXDatapointCodec createCodec(String dptID) {
+        int mainNumber = getMainNumber(dptID);
+        if (mainNumber == -1) {
+            logger.debug("Couldn't identify mainnumber in dptID: {}.", dptID);
+            return null;
+        }
+        DPTXlator translator;
+        try {
+            translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+        } catch (KNXException e) {
+            logger.warn("Failed creating a translator for datapoint type '{}'.", dptID, e);
+            return null;
+        }
+
+        String id = translator.getType().getID();
+        mainNumber = getMainNumber(id);
+        if (mainNumber == -1) {
+            logger.debug("Couldn't identify mainnumber in dptID: {}.", id);
+            return null;
+        }
+        int subNumber = getSubNumber(id);
+        if (subNumber == -1) {
+            logger.debug("Couldn't identify sub number in dptID: {}.", id);
+            return null;
+        }
+        Class<? extends Type> typeClass = toTypeClass(id);
+        return new KNXDatapointCodec(mainNumber, subNumber, typeClass, translator,
+                createDecoder(mainNumber, subNumber, typeClass, dptID));
+    }
+
+    /**
+     * Creates the decoder of a datapoint type. The specific mappings of the main types, where the String received
+     * from the DPTXlator is not sufficient to set the openHAB type or has bugs, are selected here once instead of for
+     * every telegram.
+     */
+    private Decoder createDecoder(int mainNumber, int subNumber, Class<? extends Type> typeClass, String dptID) {
+        switch (mainNumber) {
+            case 1:
+                switch (subNumber) {
+                    case 8:
+                        return (translator, data) -> ((DPTXlatorBoolean) translator).getValueBoolean() ? UpDownType.DOWN
+                                : UpDownType.UP;
+                    case 9:
+                    case 19:
+                        return (translator, data) -> ((DPTXlatorBoolean) translator).getValueBoolean()
+                                ? OpenClosedType.OPEN
+                                : OpenClosedType.CLOSED;
+                    case 10:
+                        return (translator, data) -> ((DPTXlatorBoolean) translator).getValueBoolean()
+                                ? StopMoveType.MOVE
+                                : StopMoveType.STOP;
+                    case 22:
+                        return (translator, data) -> ((DPTXlatorBoolean) translator).getValueBoolean() ? DECIMAL_ONE
+                                : DECIMAL_ZERO;
+                    default:
+                        return (translator, data) -> ((DPTXlatorBoolean) translator).getValueBoolean() ? OnOffType.ON
+                                : OnOffType.OFF;
+                }
+            case 2:
+                return (translator, data) -> {
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
-                    int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
-                            + (translator1BitControlled.getValueBit() ? 1 : 0);
-                    return new DecimalType(decValue);
-                case 3:
-                    DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
-                    if (translator3BitControlled.getStepCode() == 0) {
+                    return new DecimalType((translator1BitControlled.getControlBit() ? 2 : 0)
+                            + (translator1BitControlled.getValueBit() ? 1 : 0));
+                };
+            case 3:
+                Decoder controlDecoder;
+                switch (subNumber) {
+                    case 7:
+                        controlDecoder = (translator, data) -> ((DPTXlator3BitControlled) translator).getControlBit()
+                                ? IncreaseDecreaseType.INCREASE
+                                : IncreaseDecreaseType.DECREASE;
+                        break;
+                    case 8:
+                        controlDecoder = (translator, data) -> ((DPTXlator3BitControlled) translator).getControlBit()
+                                ? UpDownType.DOWN
+                                : UpDownType.UP;
+                        break;
+                    default:
+                        controlDecoder = createTypeClassDecoder(typeClass, dptID, DPTXlator::getValue);
+                        break;
+                }
+                return (translator, data) -> {
+                    if (((DPTXlator3BitControlled) translator).getStepCode() == 0) {
                         logger.debug("toType: KNX DPT_Control_Dimming: break received.");
                         return UnDefType.UNDEF;
                     }
-                    switch (subNumber) {
-                        case 7:
-                            return translator3BitControlled.getControlBit() ? IncreaseDecreaseType.INCREASE
-                                    : IncreaseDecreaseType.DECREASE;
-                        case 8:
-                            return translator3BitControlled.getControlBit() ? UpDownType.DOWN : UpDownType.UP;
-                    }
-                case 14:
-                    /*
-                     * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a
-                     * locale when
-                     * translating a Float to String. It could happen the a ',' is used as separator, such as
-                     * 3,14159E20.
-                     * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
-                     * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation
-                     * there.
-                     */
-                    DPTXlator4ByteFloat translator4ByteFloat = (DPTXlator4ByteFloat) translator;
-                    Float f = translator4ByteFloat.getValueFloat();
-                    if (Math.abs(f) < 100000) {
-                        value = String.valueOf(f);
-                    } else {
-                        NumberFormat dcf = NumberFormat.getInstance(Locale.US);
-                        if (dcf instanceof DecimalFormat) {
-                            ((DecimalFormat) dcf).applyPattern("0.#####E0");
-                        }
-                        value = dcf.format(f);
-                    }
-                    break;
-                case 18:
+                    return controlDecoder.decode(translator, data);
+                };
+            case 14:
+                return createTypeClassDecoder(typeClass, dptID,
+                        translator -> formatFloat(((DPTXlator4ByteFloat) translator).getValueFloat()));
+            case 18:
+                return createTypeClassDecoder(typeClass, dptID, translator -> {
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translatorSceneControl.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
-                    value = String.valueOf(decimalValue);
-
-                    break;
-                case 19:
-                    DPTXlatorDateTime translatorDateTime = (DPTXlatorDateTime) translator;
-                    if (translatorDateTime.isFaultyClock()) {
-                        // Not supported: faulty clock
-                        logger.debug("toType: KNX clock msg ignored: clock faulty bit set, which is not supported");
-                        return null;
-                    } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
-                        // Not supported: "/1/1" (month and day without year)
-                        logger.debug(
-                                "toType: KNX clock msg ignored: no year, but day and month, which is not supported");
-                        return null;
-                    } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
-                        // Not supported: "1900" (year without month and day)
-                        logger.debug(
-                                "toType: KNX clock msg ignored: no day and month, but year, which is not supported");
-                        return null;
-                    } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)
-                            && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-                        // Not supported: No year, no date and no time
-                        logger.debug("toType: KNX clock msg ignored: no day and month or year, which is not supported");
-                        return null;
-                    }
-
-                    Calendar cal = Calendar.getInstance();
-                    if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-                        // Pure date format, no time information
-                        cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-                        return DateTimeType.valueOf(value);
-                    } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-                        // Pure time format, no date information
-                        cal.clear();
-                        cal.set(Calendar.HOUR_OF_DAY, translatorDateTime.getHour());
-                        cal.set(Calendar.MINUTE, translatorDateTime.getMinute());
-                        cal.set(Calendar.SECOND, translatorDateTime.getSecond());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-                        return DateTimeType.valueOf(value);
-                    } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                            && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-                        // Date format and time information
-                        cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-                        value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-                        return DateTimeType.valueOf(value);
-                    }
-                    break;
-            }
-
-            Class<? extends Type> typeClass = toTypeClass(id);
-            if (typeClass == null) {
-                return null;
-            }
+                    return String.valueOf(decimalValue);
+                });
+            case 19:
+                return (translator, data) -> toDateTimeType((DPTXlatorDateTime) translator);
+            default:
+                return createTypeClassDecoder(typeClass, dptID, DPTXlator::getValue);
+        }
+    }
 
-            if (typeClass.equals(PercentType.class)) {
-                return new PercentType(BigDecimal.valueOf(Math.round(translator.getNumericValue())));
-            }
-            if (typeClass.equals(DecimalType.class)) {
-                return new DecimalType(translator.getNumericValue());
-            }
-            if (typeClass.equals(StringType.class)) {
-                return StringType.valueOf(value);
-            }
+    @FunctionalInterface
+    private interface ValueFormatter {
+        String format(DPTXlator translator) throws KNXException;
+    }
 
-            if (typeClass.equals(DateTimeType.class)) {
-                String date = formatDateTime(value, datapoint.getDPT());
+    /**
+     * Creates the decoder mapping the value of the translator to the openHAB type class. The formatter is only used
+     * for the types which need the value as String.
+     */
+    private Decoder createTypeClassDecoder(Class<? extends Type> typeClass, String dptID, ValueFormatter formatter) {
+        if (typeClass == null) {
+            return (translator, data) -> null;
+        } else if (typeClass.equals(PercentType.class)) {
+            return (translator, data) -> new PercentType(BigDecimal.valueOf(Math.round(translator.getNumericValue())));
+        } else if (typeClass.equals(DecimalType.class)) {
+            return (translator, data) -> new DecimalType(translator.getNumericValue());
+        } else if (typeClass.equals(StringType.class)) {
+            return (translator, data) -> StringType.valueOf(formatter.format(translator));
+        } else if (typeClass.equals(DateTimeType.class)) {
+            return (translator, data) -> {
+                String date = formatDateTime(formatter.format(translator), dptID);
                 if ((date == null) || (date.isEmpty())) {
                     logger.debug("toType: KNX clock msg ignored: date object null or empty {}.", date);
                     return null;
                 } else {
                     return DateTimeType.valueOf(date);
                 }
-            }
-
-            if (typeClass.equals(HSBType.class)) {
-                // value has format of "r:<red value> g:<green value> b:<blue value>"
-                int r = Integer.parseInt(value.split(" ")[0].split(":")[1]);
-                int g = Integer.parseInt(value.split(" ")[1].split(":")[1]);
-                int b = Integer.parseInt(value.split(" ")[2].split(":")[1]);
+            };
+        } else if (typeClass.equals(HSBType.class)) {
+            // the ASDU holds the red, green and blue values, which the translator would format as "r:.. g:.. b:.."
+            return (translator, data) -> HSBType.fromRGB(data[0] & 0xff, data[1] & 0xff, data[2] & 0xff);
+        }
+        return (translator, data) -> null;
+    }
 
-                return HSBType.fromRGB(r, g, b);
+    /**
+     * FIXME: Workaround for a bug in Calimero / Openhab DPTXlator4ByteFloat.makeString(): is using a locale when
+     * translating a Float to String. It could happen the a ',' is used as separator, such as 3,14159E20.
+     * Openhab's DecimalType expects this to be in US format and expects '.': 3.14159E20.
+     * There is no issue with DPTXlator2ByteFloat since calimero is using a non-localized translation there.
+     */
+    private static String formatFloat(float f) {
+        if (Math.abs(f) < 100000) {
+            return String.valueOf(f);
+        } else {
+            NumberFormat dcf = NumberFormat.getInstance(Locale.US);
+            if (dcf instanceof DecimalFormat) {
+                ((DecimalFormat) dcf).applyPattern("0.#####E0");
             }
+            return dcf.format(f);
+        }
+    }
 
-        } catch (KNXFormatException kfe) {
-            logger.info("Translator couldn't parse data for datapoint type '{}' (KNXFormatException).",
-                    datapoint.getDPT());
-        } catch (KNXIllegalArgumentException kiae) {
-            logger.info("Translator couldn't parse data for datapoint type '{}' (KNXIllegalArgumentException).",
-                    datapoint.getDPT());
-        } catch (KNXException e) {
-            logger.warn("Failed creating a translator for datapoint type '{}'.", datapoint.getDPT(), e);
+    private Type toDateTimeType(DPTXlatorDateTime translatorDateTime) throws KNXException {
+        if (translatorDateTime.isFaultyClock()) {
+            // Not supported: faulty clock
+            logger.debug("toType: KNX clock msg ignored: clock faulty bit set, which is not supported");
+            return null;
+        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
+            // Not supported: "/1/1" (month and day without year)
+            logger.debug("toType: KNX clock msg ignored: no year, but day and month, which is not supported");
+            return null;
+        } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
+            // Not supported: "1900" (year without month and day)
+            logger.debug("toType: KNX clock msg ignored: no day and month, but year, which is not supported");
+            return null;
+        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)
+                && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
+            // Not supported: No year, no date and no time
+            logger.debug("toType: KNX clock msg ignored: no day and month or year, which is not supported");
+            return null;
         }
 
-        return null;
+        Calendar cal = Calendar.getInstance();
+        if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
+            // Pure date format, no time information
+            cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
+        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
+            // Pure time format, no date information
+            cal.clear();
+            cal.set(Calendar.HOUR_OF_DAY, translatorDateTime.getHour());
+            cal.set(Calendar.MINUTE, translatorDateTime.getMinute());
+            cal.set(Calendar.SECOND, translatorDateTime.getSecond());
+        } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
+                && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
+            // Date format and time information
+            cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
+        } else {
+            return null;
+        }
+        return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime()));
     }
 
     /**
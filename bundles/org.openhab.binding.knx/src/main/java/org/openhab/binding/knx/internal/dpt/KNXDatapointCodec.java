@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import org.eclipse.smarthome.core.types.Type;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPT;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+
+/**
+ * The {@link KNXDatapointCodec} holds everything needed to convert the values of one KNX datapoint type, resolved once
+ * by the {@link KNXCoreTypeMapper}: the main and sub number, the openHAB type class, the translator and the decoder
+ * which turns the translated ASDU into an openHAB type.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+class KNXDatapointCodec {
+
+    /**
+     * Converts the ASDU, which has been set as data of the translator, into an openHAB type.
+     */
+    @FunctionalInterface
+    interface Decoder {
+        Type decode(DPTXlator translator, byte[] data) throws KNXException;
+    }
+
+    private final int mainNumber;
+    private final int subNumber;
+    private final Class<? extends Type> typeClass;
+    private final DPTXlator translator;
+    private final Decoder decoder;
+
+    KNXDatapointCodec(int mainNumber, int subNumber, Class<? extends Type> typeClass, DPTXlator translator,
+            Decoder decoder) {
+        this.mainNumber = mainNumber;
+        this.subNumber = subNumber;
+        this.typeClass = typeClass;
+        this.translator = translator;
+        this.decoder = decoder;
+    }
+
+    int getMainNumber() {
+        return mainNumber;
+    }
+
+    int getSubNumber() {
+        return subNumber;
+    }
+
+    /**
+     * Returns the openHAB type class of the datapoint type or null if it isn't supported.
+     */
+    Class<? extends Type> getTypeClass() {
+        return typeClass;
+    }
+
+    DPT getDPT() {
+        return translator.getType();
+    }
+
+    /**
+     * Converts an ASDU into an openHAB type.
+     *
+     * @param data the ASDU
+     * @return the openHAB type or null if the value isn't supported
+     */
+    Type decode(byte[] data) throws KNXException {
+        // the translator is reused for all telegrams of this datapoint type
+        synchronized (translator) {
+            translator.setData(data);
+            return decoder.decode(translator, data);
+        }
+    }
+}
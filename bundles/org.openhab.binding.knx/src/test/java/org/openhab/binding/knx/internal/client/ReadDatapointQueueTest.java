@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * Test class for {@link ReadDatapointQueue}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class ReadDatapointQueueTest {
+
+    private final ReadDatapointQueue queue = new ReadDatapointQueue();
+
+    @Test
+    public void testHigherPriorityIsPolledFirst() {
+        queue.add(datapoint(1, KNXClient.READ_PRIORITY_LOW));
+        queue.add(datapoint(2, KNXClient.READ_PRIORITY_NORMAL));
+        queue.add(datapoint(3, KNXClient.READ_PRIORITY_HIGH));
+        queue.add(datapoint(4, KNXClient.READ_PRIORITY_NORMAL));
+
+        assertEquals(4, queue.size());
+        assertEquals(3, poll());
+        assertEquals(2, poll());
+        assertEquals(4, poll());
+        assertEquals(1, poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testGroupAddressIsQueuedOnce() {
+        assertTrue(queue.add(datapoint(1, KNXClient.READ_PRIORITY_NORMAL)));
+        assertFalse(queue.add(datapoint(1, KNXClient.READ_PRIORITY_NORMAL)));
+        assertFalse(queue.add(datapoint(1, KNXClient.READ_PRIORITY_LOW)));
+
+        assertEquals(1, queue.size());
+        assertEquals(1, poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testPriorityIsRaised() {
+        queue.add(datapoint(1, KNXClient.READ_PRIORITY_LOW));
+        queue.add(datapoint(2, KNXClient.READ_PRIORITY_NORMAL));
+        assertTrue(queue.add(datapoint(1, KNXClient.READ_PRIORITY_HIGH)));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, poll());
+        assertEquals(2, poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testReceivedValueIsNotRead() {
+        queue.add(datapoint(1, KNXClient.READ_PRIORITY_NORMAL));
+        queue.add(datapoint(2, KNXClient.READ_PRIORITY_NORMAL));
+
+        assertTrue(queue.received(address(1)));
+        assertFalse(queue.received(address(3)));
+        assertEquals(2, poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testUnansweredReadIsReturned() {
+        queue.add(datapoint(1, KNXClient.READ_PRIORITY_NORMAL));
+        queue.add(datapoint(2, KNXClient.READ_PRIORITY_NORMAL));
+        queue.sent(queue.poll(), 1000);
+        queue.sent(queue.poll(), 2000);
+        assertEquals(2, queue.pendingSize());
+
+        // a read waiting for its response is not queued again
+        assertFalse(queue.add(datapoint(1, KNXClient.READ_PRIORITY_HIGH)));
+
+        assertTrue(queue.received(address(2)));
+        List<ReadDatapoint> unanswered = queue.removeUnanswered(12000, 10000);
+        assertEquals(1, unanswered.size());
+        assertEquals(address(1), unanswered.get(0).getDatapoint().getMainAddress());
+        assertEquals(0, queue.pendingSize());
+    }
+
+    private int poll() {
+        ReadDatapoint datapoint = queue.poll();
+        assertNotNull(datapoint);
+        return datapoint.getDatapoint().getMainAddress().getRawAddress();
+    }
+
+    private static GroupAddress address(int rawAddress) {
+        return new GroupAddress(rawAddress);
+    }
+
+    private static ReadDatapoint datapoint(int rawAddress, int priority) {
+        return new ReadDatapoint(new CommandDP(address(rawAddress), "test", 0, "1.001"), 3, priority);
+    }
+}
@@ -12,11 +12,22 @@
  */
 package org.openhab.binding.knx.internal.dpt;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.HSBType;
+import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.core.library.types.OpenClosedType;
+import org.eclipse.smarthome.core.library.types.PercentType;
+import org.eclipse.smarthome.core.library.types.UpDownType;
+import org.eclipse.smarthome.core.types.UnDefType;
 import org.junit.Test;
 
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
 /**
  *
  * @author Simon Kaufmann - initial contribution and API
@@ -30,4 +41,46 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
 
+    @Test
+    public void testToType_boolean() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, mapper.toType(datapoint("1.001"), new byte[] { 1 }));
+        // the codec of the datapoint type is reused for the next telegram
+        assertEquals(OnOffType.OFF, mapper.toType(datapoint("1.001"), new byte[] { 0 }));
+        assertEquals(UpDownType.DOWN, mapper.toType(datapoint("1.008"), new byte[] { 1 }));
+        assertEquals(OpenClosedType.CLOSED, mapper.toType(datapoint("1.009"), new byte[] { 0 }));
+    }
+
+    @Test
+    public void testToType_3BitControlled() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(IncreaseDecreaseType.INCREASE, mapper.toType(datapoint("3.007"), new byte[] { 0x09 }));
+        assertEquals(IncreaseDecreaseType.DECREASE, mapper.toType(datapoint("3.007"), new byte[] { 0x01 }));
+        assertEquals(UnDefType.UNDEF, mapper.toType(datapoint("3.007"), new byte[] { 0x00 }));
+    }
+
+    @Test
+    public void testToType_numbers() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(new PercentType(100), mapper.toType(datapoint("5.001"), new byte[] { (byte) 0xFF }));
+        assertEquals(new DecimalType(21), mapper.toType(datapoint("9.001"), new byte[] { 0x0C, 0x1A }));
+    }
+
+    @Test
+    public void testToType_rgb() {
+        assertEquals(HSBType.fromRGB(255, 0, 0),
+                new KNXCoreTypeMapper().toType(datapoint("232.600"), new byte[] { (byte) 0xFF, 0, 0 }));
+    }
+
+    @Test
+    public void testUnknownDatapointType() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertNull(mapper.toType(datapoint("999.001"), new byte[] { 0 }));
+        assertNull(mapper.toDPTValue(OnOffType.ON, "999.001"));
+    }
+
+    private static Datapoint datapoint(String dpt) {
+        return new CommandDP(new GroupAddress(1, 2, 3), "test", 0, dpt);
+    }
+
 }
@@ -35,9 +35,14 @@ public class LifxBindingConstants {
 
     public static final String BINDING_ID = "lifx";
 
+    public static final String THREADPOOL_NAME = "lifx";
+
     // The LIFX LAN Protocol Specification states that lights can process up to 20 messages per second, not more.
     public static final long PACKET_INTERVAL = 50;
 
+    // Minimum interval between any two packets sent by the binding, so polling many lights does not flood the network.
+    public static final long NETWORK_PACKET_INTERVAL = 5;
+
     // Port constants
     public static final int BROADCAST_PORT = 56700;
     public static final int UNICAST_PORT = 56700;
@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.lifx.internal;
 
-import static org.openhab.binding.lifx.internal.LifxBindingConstants.SUPPORTED_THING_TYPES;
+import static org.openhab.binding.lifx.internal.LifxBindingConstants.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
@@ -31,12 +32,17 @@ import org.osgi.service.component.annotations.Reference;
  *
  * @author Dennis Nobel - Initial contribution
  * @author Karel Goderis - Remove dependency on external libraries
+ * @author Arjan Mels - Share the communications and polling of all lights
  */
 @NonNullByDefault
 @Component(service = ThingHandlerFactory.class, configurationPid = "binding.lifx")
 public class LifxHandlerFactory extends BaseThingHandlerFactory {
 
     private @NonNullByDefault({}) LifxChannelFactory channelFactory;
+    private final LifxPacketMultiplexer packetMultiplexer = new LifxPacketMultiplexer(
+            ThreadPoolManager.getScheduledPool(THREADPOOL_NAME));
+    private final LifxPollingScheduler pollingScheduler = new LifxPollingScheduler(
+            ThreadPoolManager.getScheduledPool(THREADPOOL_NAME));
 
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -51,7 +57,7 @@ public class LifxHandlerFactory extends BaseThingHandlerFactory {
     @Override
     protected @Nullable ThingHandler createHandler(Thing thing) {
         if (supportsThingType(thing.getThingTypeUID())) {
-            return new LifxLightHandler(thing, channelFactory);
+            return new LifxLightHandler(thing, channelFactory, packetMultiplexer, pollingScheduler);
         }
 
         return null;
@@ -59,6 +65,8 @@ public class LifxHandlerFactory extends BaseThingHandlerFactory {
 
     @Override
     protected void deactivate(ComponentContext componentContext) {
+        pollingScheduler.dispose();
+        packetMultiplexer.dispose();
         super.deactivate(componentContext);
     }
 
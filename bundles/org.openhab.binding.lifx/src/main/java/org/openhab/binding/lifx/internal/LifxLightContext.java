@@ -33,15 +33,20 @@ public class LifxLightContext {
     private final LifxLightState pendingLightState;
     private final Product product;
     private final ScheduledExecutorService scheduler;
+    private final LifxPacketMultiplexer packetMultiplexer;
+    private final LifxPollingScheduler pollingScheduler;
 
     public LifxLightContext(String logId, Product product, LifxLightConfig configuration,
-            CurrentLightState currentLightState, LifxLightState pendingLightState, ScheduledExecutorService scheduler) {
+            CurrentLightState currentLightState, LifxLightState pendingLightState, ScheduledExecutorService scheduler,
+            LifxPacketMultiplexer packetMultiplexer, LifxPollingScheduler pollingScheduler) {
         this.logId = logId;
         this.configuration = configuration;
         this.product = product;
         this.currentLightState = currentLightState;
         this.pendingLightState = pendingLightState;
         this.scheduler = scheduler;
+        this.packetMultiplexer = packetMultiplexer;
+        this.pollingScheduler = pollingScheduler;
     }
 
     public String getLogId() {
@@ -68,4 +73,12 @@ public class LifxLightContext {
         return scheduler;
     }
 
+    public LifxPacketMultiplexer getPacketMultiplexer() {
+        return packetMultiplexer;
+    }
+
+    public LifxPollingScheduler getPollingScheduler() {
+        return pollingScheduler;
+    }
+
 }
@@ -16,14 +16,13 @@ import static org.openhab.binding.lifx.internal.LifxBindingConstants.MIN_ZONE_IN
 import static org.openhab.binding.lifx.internal.protocol.Product.Feature.*;
 import static org.openhab.binding.lifx.internal.util.LifxMessageUtil.infraredToPercentType;
 
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.library.types.PercentType;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler.Poll;
 import org.openhab.binding.lifx.internal.fields.HSBK;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
 import org.openhab.binding.lifx.internal.protocol.GetColorZonesRequest;
@@ -57,7 +56,7 @@ public class LifxLightCurrentStateUpdater {
     private final String logId;
     private final Product product;
     private final CurrentLightState currentLightState;
-    private final ScheduledExecutorService scheduler;
+    private final LifxPollingScheduler pollingScheduler;
     private final LifxLightCommunicationHandler communicationHandler;
 
     private final ReentrantLock lock = new ReentrantLock();
@@ -65,13 +64,13 @@ public class LifxLightCurrentStateUpdater {
     private boolean wasOnline;
     private boolean updateSignalStrength;
 
-    private @Nullable ScheduledFuture<?> statePollingJob;
+    private @Nullable Poll statePoll;
 
     public LifxLightCurrentStateUpdater(LifxLightContext context, LifxLightCommunicationHandler communicationHandler) {
         this.logId = context.getLogId();
         this.product = context.getProduct();
         this.currentLightState = context.getCurrentLightState();
-        this.scheduler = context.getScheduler();
+        this.pollingScheduler = context.getPollingScheduler();
         this.communicationHandler = communicationHandler;
     }
 
@@ -100,9 +99,8 @@ public class LifxLightCurrentStateUpdater {
         try {
             lock.lock();
             communicationHandler.addResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localStatePollingJob = statePollingJob;
-            if (localStatePollingJob == null || localStatePollingJob.isCancelled()) {
-                statePollingJob = scheduler.scheduleWithFixedDelay(this::pollLightState, 0, STATE_POLLING_INTERVAL,
+            if (statePoll == null) {
+                statePoll = pollingScheduler.schedule(logId, this::pollLightState, STATE_POLLING_INTERVAL,
                         TimeUnit.SECONDS);
             }
         } catch (Exception e) {
@@ -116,10 +114,10 @@ public class LifxLightCurrentStateUpdater {
         try {
             lock.lock();
             communicationHandler.removeResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localStatePollingJob = statePollingJob;
-            if (localStatePollingJob != null && !localStatePollingJob.isCancelled()) {
-                localStatePollingJob.cancel(true);
-                statePollingJob = null;
+            Poll localStatePoll = statePoll;
+            if (localStatePoll != null) {
+                localStatePoll.cancel();
+                statePoll = null;
             }
         } catch (Exception e) {
             logger.error("Error occurred while stopping light state updater", e);
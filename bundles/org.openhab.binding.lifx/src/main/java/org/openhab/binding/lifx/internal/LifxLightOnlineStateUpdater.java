@@ -14,13 +14,12 @@ package org.openhab.binding.lifx.internal;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler.Poll;
 import org.openhab.binding.lifx.internal.handler.LifxLightHandler.CurrentLightState;
 import org.openhab.binding.lifx.internal.protocol.GetEchoRequest;
 import org.openhab.binding.lifx.internal.protocol.GetServiceRequest;
@@ -43,18 +42,18 @@ public class LifxLightOnlineStateUpdater {
 
     private final String logId;
     private final CurrentLightState currentLightState;
-    private final ScheduledExecutorService scheduler;
+    private final LifxPollingScheduler pollingScheduler;
     private final LifxLightCommunicationHandler communicationHandler;
 
     private final ReentrantLock lock = new ReentrantLock();
 
-    private @Nullable ScheduledFuture<?> echoJob;
+    private @Nullable Poll echoPoll;
     private LocalDateTime lastSeen = LocalDateTime.MIN;
     private int unansweredEchoPackets;
 
     public LifxLightOnlineStateUpdater(LifxLightContext context, LifxLightCommunicationHandler communicationHandler) {
         this.logId = context.getLogId();
-        this.scheduler = context.getScheduler();
+        this.pollingScheduler = context.getPollingScheduler();
         this.currentLightState = context.getCurrentLightState();
         this.communicationHandler = communicationHandler;
     }
@@ -93,9 +92,8 @@ public class LifxLightOnlineStateUpdater {
         try {
             lock.lock();
             communicationHandler.addResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localEchoJob = echoJob;
-            if (localEchoJob == null || localEchoJob.isCancelled()) {
-                echoJob = scheduler.scheduleWithFixedDelay(this::sendEchoPackets, 0, ECHO_POLLING_INTERVAL,
+            if (echoPoll == null) {
+                echoPoll = pollingScheduler.schedule(logId, this::sendEchoPackets, ECHO_POLLING_INTERVAL,
                         TimeUnit.SECONDS);
             }
         } catch (Exception e) {
@@ -109,10 +107,10 @@ public class LifxLightOnlineStateUpdater {
         try {
             lock.lock();
             communicationHandler.removeResponsePacketListener(this::handleResponsePacket);
-            ScheduledFuture<?> localEchoJob = echoJob;
-            if (localEchoJob != null && !localEchoJob.isCancelled()) {
-                localEchoJob.cancel(true);
-                echoJob = null;
+            Poll localEchoPoll = echoPoll;
+            if (localEchoPoll != null) {
+                localEchoPoll.cancel();
+                echoPoll = null;
             }
         } catch (Exception e) {
             logger.error("Error occurred while stopping online state poller for a light ({})", logId, e);
@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import static org.openhab.binding.lifx.internal.LifxBindingConstants.PACKET_INTERVAL;
+import static org.openhab.binding.lifx.internal.util.LifxSelectorUtil.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.lifx.internal.protocol.Packet;
+import org.openhab.binding.lifx.internal.util.LifxNetworkUtil;
+import org.openhab.binding.lifx.internal.util.LifxThrottlingUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LifxPacketMultiplexer} shares a single {@link DatagramChannel} and {@link Selector} between all lights.
+ * Packets received on the channel are routed to the light that sent the request using the source identifier of the
+ * packet. Packets without source identifier are supplied to all lights, which filter them by MAC address and host.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class LifxPacketMultiplexer {
+
+    private static final String LOG_ID = "Multiplexer";
+    private static final int MAX_SEND_RETRIES = 10;
+    private static final long SEND_RETRY_DELAY = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(LifxPacketMultiplexer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, BiConsumer<Packet, InetSocketAddress>> packetConsumers = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private @Nullable Selector selector;
+    private @Nullable DatagramChannel channel;
+    private @Nullable ScheduledFuture<?> networkJob;
+
+    public LifxPacketMultiplexer(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Registers the consumer for all packets with the given source identifier. The channel is opened when the first
+     * consumer is registered.
+     */
+    public void register(long sourceId, BiConsumer<Packet, InetSocketAddress> packetConsumer) throws IOException {
+        try {
+            lock.lock();
+            if (channel == null) {
+                open();
+            }
+            packetConsumers.put(sourceId, packetConsumer);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unregisters the consumer of the source identifier. The channel is closed when no consumers are left.
+     */
+    public void unregister(long sourceId) {
+        try {
+            lock.lock();
+            packetConsumers.remove(sourceId);
+            if (packetConsumers.isEmpty()) {
+                close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Selector localSelector = Selector.open();
+        try {
+            SelectionKey key = openBroadcastChannel(localSelector, LOG_ID, LifxNetworkUtil.getNewBroadcastPort());
+            if (key != null) {
+                key.interestOps(SelectionKey.OP_READ);
+                channel = (DatagramChannel) key.channel();
+            }
+        } catch (IOException e) {
+            closeSelector(localSelector, LOG_ID);
+            throw e;
+        }
+        selector = localSelector;
+        networkJob = scheduler.scheduleWithFixedDelay(this::receiveAndRoutePackets, 0, PACKET_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void close() {
+        ScheduledFuture<?> localNetworkJob = networkJob;
+        if (localNetworkJob != null) {
+            localNetworkJob.cancel(true);
+            networkJob = null;
+        }
+        closeSelector(selector, LOG_ID);
+        selector = null;
+        channel = null;
+    }
+
+    /**
+     * Stops all communications.
+     */
+    public void dispose() {
+        try {
+            lock.lock();
+            packetConsumers.clear();
+            close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void receiveAndRoutePackets() {
+        Selector localSelector = selector;
+        DatagramChannel localChannel = channel;
+        if (localSelector == null || localChannel == null || !localSelector.isOpen()) {
+            return;
+        }
+        try {
+            if (localSelector.selectNow() > 0) {
+                localSelector.selectedKeys().clear();
+                receiveAndHandleAllPackets(localChannel, LOG_ID, this::routePacket);
+            }
+        } catch (Exception e) {
+            logger.debug("{} while receiving packets from the lights: {}", e.getClass().getSimpleName(),
+                    e.getMessage());
+        }
+    }
+
+    private void routePacket(Packet packet, InetSocketAddress address) {
+        if (packet.getSource() == 0) {
+            packetConsumers.values().forEach(consumer -> consumer.accept(packet, address));
+        } else {
+            BiConsumer<Packet, InetSocketAddress> consumer = packetConsumers.get(packet.getSource());
+            if (consumer != null) {
+                consumer.accept(packet, address);
+            }
+        }
+    }
+
+    /**
+     * Sends a packet to a light. The packets are throttled per light.
+     *
+     * @return true if the packet was sent
+     */
+    public boolean sendPacket(Packet packet, InetSocketAddress address, String logId) {
+        try {
+            LifxThrottlingUtil.lock(packet.getTarget());
+            return send(packet, address, logId);
+        } finally {
+            LifxThrottlingUtil.unlock(packet.getTarget());
+        }
+    }
+
+    /**
+     * Broadcasts a packet to all networks. Broadcasts are throttled for all lights.
+     *
+     * @return true if the packet was sent on all networks
+     */
+    public boolean broadcastPacket(Packet packet, String logId) {
+        try {
+            LifxThrottlingUtil.lock();
+            boolean success = true;
+            for (InetSocketAddress address : LifxNetworkUtil.getBroadcastAddresses()) {
+                success = send(packet, address, logId) && success;
+            }
+            return success;
+        } finally {
+            LifxThrottlingUtil.unlock();
+        }
+    }
+
+    private boolean send(Packet packet, InetSocketAddress address, String logId) {
+        DatagramChannel localChannel = channel;
+        if (localChannel == null) {
+            return false;
+        }
+        try {
+            logger.trace("{} : Sending packet type '{}' to '{}' for '{}' with sequence '{}' and source '{}'",
+                    new Object[] { logId, packet.getClass().getSimpleName(), address.toString(),
+                            packet.getTarget().getHex(), packet.getSequence(), Long.toString(packet.getSource(), 16) });
+            for (int i = 0; i <= MAX_SEND_RETRIES; i++) {
+                // a non-blocking channel sends nothing when the socket buffer is full
+                if (localChannel.send(packet.bytes(), address) > 0) {
+                    return true;
+                }
+                Thread.sleep(SEND_RETRY_DELAY);
+            }
+            logger.debug("Failed to send packet after {} retries to the light ({})", MAX_SEND_RETRIES, logId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.debug("{} while sending a packet to the light ({}): {}", e.getClass().getSimpleName(), logId,
+                    e.getMessage());
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.lifx.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LifxPollingScheduler} runs the periodic polls of all lights from a single job. The polls with the same
+ * interval are spread evenly across the interval, so the requests of many lights are not sent in bursts. The job only
+ * checks which polls are due, the polls themselves run on the scheduler, because sending the packets of a poll may
+ * block while the packets are throttled. A poll is skipped if its previous run has not finished yet.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class LifxPollingScheduler {
+
+    private static final long TICK_INTERVAL = 100;
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887;
+
+    private final Logger logger = LoggerFactory.getLogger(LifxPollingScheduler.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final List<Poll> polls = new CopyOnWriteArrayList<>();
+
+    private @Nullable ScheduledFuture<?> tickJob;
+    private int pollCounter;
+
+    /**
+     * A periodic poll registered at the {@link LifxPollingScheduler}.
+     */
+    public class Poll {
+        private final String logId;
+        private final Runnable runnable;
+        private final long interval;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private long nextRun;
+
+        private Poll(String logId, Runnable runnable, long interval, long nextRun) {
+            this.logId = logId;
+            this.runnable = runnable;
+            this.interval = interval;
+            this.nextRun = nextRun;
+        }
+
+        private void run() {
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                logger.error("{} : Error occurred while polling the light", logId, e);
+            } finally {
+                running.set(false);
+            }
+        }
+
+        /**
+         * Stops the poll.
+         */
+        public void cancel() {
+            removePoll(this);
+        }
+    }
+
+    public LifxPollingScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Adds a poll that is run periodically.
+     *
+     * @param logId the log identifier of the light
+     * @param runnable the poll
+     * @param interval the interval of the poll
+     * @param unit the unit of the interval
+     * @return the poll which can be cancelled
+     */
+    public synchronized Poll schedule(String logId, Runnable runnable, long interval, TimeUnit unit) {
+        long intervalMillis = unit.toMillis(interval);
+        // the golden ratio spreads the offsets of any number of polls evenly over the interval
+        double fraction = (pollCounter++ * GOLDEN_RATIO_FRACTION) % 1;
+        long offset = (long) (fraction * intervalMillis);
+
+        Poll poll = new Poll(logId, runnable, intervalMillis, System.currentTimeMillis() + offset);
+        polls.add(poll);
+
+        ScheduledFuture<?> localTickJob = tickJob;
+        if (localTickJob == null || localTickJob.isCancelled()) {
+            tickJob = scheduler.scheduleWithFixedDelay(this::runDuePolls, 0, TICK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        return poll;
+    }
+
+    private synchronized void removePoll(Poll poll) {
+        polls.remove(poll);
+        ScheduledFuture<?> localTickJob = tickJob;
+        if (polls.isEmpty() && localTickJob != null) {
+            localTickJob.cancel(false);
+            tickJob = null;
+        }
+    }
+
+    /**
+     * Stops all polls.
+     */
+    public synchronized void dispose() {
+        polls.clear();
+        ScheduledFuture<?> localTickJob = tickJob;
+        if (localTickJob != null) {
+            localTickJob.cancel(true);
+            tickJob = null;
+        }
+    }
+
+    private void runDuePolls() {
+        for (Poll poll : polls) {
+            long now = System.currentTimeMillis();
+            if (poll.nextRun <= now) {
+                // keep the offset of the poll unless it is too late, e.g. because the scheduler was busy
+                poll.nextRun = poll.nextRun + poll.interval > now ? poll.nextRun + poll.interval : now + poll.interval;
+                if (poll.running.compareAndSet(false, true)) {
+                    try {
+                        scheduler.execute(poll::run);
+                    } catch (RejectedExecutionException e) {
+                        poll.running.set(false);
+                        logger.debug("{} : Poll rejected by the scheduler", poll.logId);
+                    }
+                } else {
+                    logger.debug("{} : Skipping poll, the previous poll has not finished yet", poll.logId);
+                }
+            }
+        }
+    }
+
+}
@@ -54,6 +54,8 @@ import org.openhab.binding.lifx.internal.LifxLightOnlineStateUpdater;
 import org.openhab.binding.lifx.internal.LifxLightPropertiesUpdater;
 import org.openhab.binding.lifx.internal.LifxLightState;
 import org.openhab.binding.lifx.internal.LifxLightStateChanger;
+import org.openhab.binding.lifx.internal.LifxPacketMultiplexer;
+import org.openhab.binding.lifx.internal.LifxPollingScheduler;
 import org.openhab.binding.lifx.internal.fields.HSBK;
 import org.openhab.binding.lifx.internal.fields.MACAddress;
 import org.openhab.binding.lifx.internal.protocol.GetLightInfraredRequest;
@@ -87,6 +89,8 @@ public class LifxLightHandler extends BaseThingHandler {
     private static final Duration MAX_STATE_CHANGE_DURATION = Duration.ofSeconds(4);
 
     private final LifxChannelFactory channelFactory;
+    private final LifxPacketMultiplexer packetMultiplexer;
+    private final LifxPollingScheduler pollingScheduler;
     private @NonNullByDefault({}) Product product;
 
     private @Nullable PercentType powerOnBrightness;
@@ -220,9 +224,12 @@ public class LifxLightHandler extends BaseThingHandler {
 
     }
 
-    public LifxLightHandler(Thing thing, LifxChannelFactory channelFactory) {
+    public LifxLightHandler(Thing thing, LifxChannelFactory channelFactory, LifxPacketMultiplexer packetMultiplexer,
+            LifxPollingScheduler pollingScheduler) {
         super(thing);
         this.channelFactory = channelFactory;
+        this.packetMultiplexer = packetMultiplexer;
+        this.pollingScheduler = pollingScheduler;
     }
 
     @Override
@@ -246,7 +253,7 @@ public class LifxLightHandler extends BaseThingHandler {
             pendingLightState = new LifxLightState();
 
             LifxLightContext context = new LifxLightContext(logId, product, configuration, currentLightState,
-                    pendingLightState, scheduler);
+                    pendingLightState, scheduler, packetMultiplexer, pollingScheduler);
 
             communicationHandler = new LifxLightCommunicationHandler(context);
             currentStateUpdater = new LifxLightCurrentStateUpdater(context, communicationHandler);
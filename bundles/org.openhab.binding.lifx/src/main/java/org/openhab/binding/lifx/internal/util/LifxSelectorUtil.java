@@ -176,6 +176,28 @@ public class LifxSelectorUtil {
         }
     }
 
+    /**
+     * Receives and handles all datagrams that are available on a non-blocking channel.
+     */
+    public static void receiveAndHandleAllPackets(DatagramChannel channel, String logId,
+            BiConsumer<Packet, InetSocketAddress> packetConsumer) throws IOException {
+        while (true) {
+            ByteBuffer readBuffer = ByteBuffer.allocate(LifxNetworkUtil.getBufferSize());
+            InetSocketAddress address = (InetSocketAddress) channel.receive(readBuffer);
+            if (address == null) {
+                return;
+            }
+            if (isRemoteAddress(address.getAddress())) {
+                try {
+                    supplyParsedPacketToConsumer(readBuffer, address, packetConsumer, logId);
+                } catch (RuntimeException e) {
+                    LOGGER.debug("{} while handling a packet from {} ({}) : {}", e.getClass().getSimpleName(),
+                            address, logId, e.getMessage());
+                }
+            }
+        }
+    }
+
     private static void supplyParsedPacketToConsumer(ByteBuffer readBuffer, InetSocketAddress address,
             BiConsumer<Packet, InetSocketAddress> packetConsumer, String logId) {
         int messageLength = readBuffer.position();
@@ -12,12 +12,13 @@
  */
 package org.openhab.binding.lifx.internal.util;
 
-import static org.openhab.binding.lifx.internal.LifxBindingConstants.PACKET_INTERVAL;
+import static org.openhab.binding.lifx.internal.LifxBindingConstants.*;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -29,7 +30,8 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link LifxThrottlingUtil} is a utility class that regulates the frequency at which messages/packets are
  * sent to LIFX lights. The LIFX LAN Protocol Specification states that lights can process up to 20 messages per second,
- * not more.
+ * not more. Besides the interval per light, all packets sent by the binding are spaced by a smaller network wide
+ * interval, so the lights on the same network are not all addressed at once.
  *
  * @author Karel Goderis - Initial Contribution
  * @author Wouter Born - Deadlock fix
@@ -81,11 +83,17 @@ public final class LifxThrottlingUtil {
 
     private static Map<MACAddress, @Nullable LifxLightCommunicationTracker> macTrackerMapping = new ConcurrentHashMap<>();
 
+    /**
+     * The time slot reserved for the last packet sent to any light.
+     */
+    private static final AtomicLong lastNetworkSlot = new AtomicLong();
+
     public static void lock(@Nullable MACAddress mac) {
         if (mac != null) {
             LifxLightCommunicationTracker tracker = getOrCreateTracker(mac);
             tracker.lock();
             waitForNextPacketInterval(tracker.getTimestamp());
+            waitForNextNetworkSlot();
         } else {
             lock();
         }
@@ -119,6 +127,23 @@ public final class LifxThrottlingUtil {
         }
     }
 
+    /**
+     * Reserves the next network wide time slot for sending a packet and waits until it has arrived. Every thread
+     * reserves its own slot, so the threads sending packets to different lights are spaced evenly.
+     */
+    private static void waitForNextNetworkSlot() {
+        long now = System.currentTimeMillis();
+        long slot = lastNetworkSlot.updateAndGet(last -> Math.max(now, last + NETWORK_PACKET_INTERVAL));
+        long timeToWait = slot - now;
+        if (timeToWait > 0) {
+            try {
+                Thread.sleep(timeToWait);
+            } catch (InterruptedException e) {
+                LOGGER.error("An exception occurred while putting the thread to sleep : '{}'", e.getMessage());
+            }
+        }
+    }
+
     public static void unlock(@Nullable MACAddress mac) {
         if (mac != null) {
             LifxLightCommunicationTracker tracker = macTrackerMapping.get(mac);
@@ -137,6 +162,7 @@ public final class LifxThrottlingUtil {
             lastStamp = Math.max(lastStamp, tracker.getTimestamp());
         }
         waitForNextPacketInterval(lastStamp);
+        waitForNextNetworkSlot();
     }
 
     public static void unlock() {
@@ -12,20 +12,16 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
 import java.util.concurrent.ScheduledExecutorService;
 
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * Log file reader implementation following the file with a {@link SharedFileTailer}, which is shared by all readers
+ * of the same file.
  *
  * @author Pauli Anttila - Initial contribution
  */
@@ -33,39 +29,12 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
 
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
 
-    private Tailer tailer;
-
-    TailerListener logListener = new TailerListenerAdapter() {
-
-        @Override
-        public void handle(@Nullable String line) {
-            sendLineToListeners(line);
-        }
-
-        @Override
-        public void fileNotFound() {
-            sendFileNotFoundToListeners();
-        }
-
-        @Override
-        public void handle(@Nullable Exception e) {
-            sendExceptionToListeners(e);
-        }
-
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
-        }
-    };
-
     @Override
     public void start(String filePath, long refreshRate, ScheduledExecutorService scheduler)
             throws FileReaderException {
-        tailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-
         try {
-            logger.debug("Start executor");
-            scheduler.execute(tailer);
+            logger.debug("Start following file '{}'", filePath);
+            SharedFileTailer.addFileTailer(filePath, this, refreshRate, scheduler);
         } catch (Exception e) {
             throw new FileReaderException(e);
         }
@@ -74,9 +43,6 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
     @Override
     public void stop() {
         logger.debug("Shutdown");
-
-        if (tailer != null) {
-            tailer.stop();
-        }
+        SharedFileTailer.removeFileTailer(this);
     }
 }
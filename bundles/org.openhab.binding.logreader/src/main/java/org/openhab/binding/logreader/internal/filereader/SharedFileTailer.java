@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows a single log file and passes the new lines to all {@link FileTailer}s reading the same file, so the file is
+ * only read once, however many things are monitoring it.
+ * <p>
+ * The file is checked whenever the directory watch service reports a change of the file and at the latest after the
+ * refresh rate, as not all file systems report changes. Only the bytes appended since the last check are read. A
+ * rotated file is detected by a changed file key or a shrunk file, the rest of the old file is read before following
+ * the new file from its beginning.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+class SharedFileTailer implements Runnable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final Map<Path, SharedFileTailer> TAILERS = new HashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(SharedFileTailer.class);
+
+    private final Path path;
+    private final List<FileTailer> fileTailers = new CopyOnWriteArrayList<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final Charset charset = Charset.defaultCharset();
+
+    private volatile long refreshRate;
+    private volatile boolean running = true;
+    private volatile @Nullable WatchService watchService;
+
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+    private boolean opened;
+    private boolean fileNotFound;
+    private byte[] line = new byte[256];
+    private int lineLength;
+
+    private SharedFileTailer(Path path, long refreshRate) {
+        this.path = path;
+        this.refreshRate = refreshRate;
+    }
+
+    /**
+     * Starts passing the lines of the file to the file tailer. The file is followed by the first file tailer's
+     * scheduler, until the last file tailer of the file is removed or following the file fails. After a failure, the
+     * next file tailer added starts following the file again.
+     *
+     * @param filePath the file to follow
+     * @param fileTailer the file tailer receiving the lines
+     * @param refreshRate the maximum time between checks of the file in milliseconds
+     * @param scheduler the scheduler to follow the file with
+     */
+    static synchronized void addFileTailer(String filePath, FileTailer fileTailer, long refreshRate,
+            ScheduledExecutorService scheduler) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        SharedFileTailer sharedTailer = TAILERS.get(path);
+        if (sharedTailer == null || !sharedTailer.running) {
+            sharedTailer = new SharedFileTailer(path, refreshRate);
+            sharedTailer.fileTailers.add(fileTailer);
+            scheduler.execute(sharedTailer);
+            TAILERS.put(path, sharedTailer);
+        } else {
+            sharedTailer.refreshRate = Math.min(sharedTailer.refreshRate, refreshRate);
+            sharedTailer.fileTailers.add(fileTailer);
+        }
+    }
+
+    /**
+     * Stops passing lines to the file tailer.
+     *
+     * @param fileTailer the file tailer
+     */
+    static synchronized void removeFileTailer(FileTailer fileTailer) {
+        for (SharedFileTailer sharedTailer : TAILERS.values()) {
+            if (sharedTailer.fileTailers.remove(fileTailer)) {
+                if (sharedTailer.fileTailers.isEmpty()) {
+                    TAILERS.remove(sharedTailer.path);
+                    sharedTailer.stop();
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Start following file '{}'", path);
+        try {
+            WatchService watchService = createWatchService();
+            this.watchService = watchService;
+            checkFile();
+            while (running) {
+                if (watchService == null) {
+                    Thread.sleep(refreshRate);
+                    checkFile();
+                } else {
+                    WatchKey key = watchService.poll(refreshRate, TimeUnit.MILLISECONDS);
+                    if (key == null || isFileChanged(key)) {
+                        checkFile();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        } catch (IOException | RuntimeException e) {
+            // new file tailers of the file must not join this one anymore
+            running = false;
+            logger.debug("Following file '{}' failed", path, e);
+            for (FileTailer fileTailer : fileTailers) {
+                fileTailer.sendExceptionToListeners(e);
+            }
+        } finally {
+            running = false;
+            remove(this);
+            closeChannel();
+            closeWatchService();
+            logger.debug("Stopped following file '{}'", path);
+        }
+    }
+
+    private static synchronized void remove(SharedFileTailer sharedTailer) {
+        TAILERS.remove(sharedTailer.path, sharedTailer);
+    }
+
+    private void stop() {
+        running = false;
+        closeWatchService();
+    }
+
+    private @Nullable WatchService createWatchService() {
+        Path directory = path.getParent();
+        if (directory == null) {
+            return null;
+        }
+        WatchService watchService = null;
+        try {
+            watchService = path.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            return watchService;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Can't watch directory '{}', checking file every {} ms: {}", directory, refreshRate,
+                    e.getMessage());
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException ex) {
+                    // ignore
+                }
+            }
+            return null;
+        }
+    }
+
+    private void closeWatchService() {
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Closing watch service failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean isFileChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void checkFile() throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            if (!fileNotFound) {
+                fileNotFound = true;
+                for (FileTailer fileTailer : fileTailers) {
+                    fileTailer.sendFileNotFoundToListeners();
+                }
+            }
+            return;
+        }
+        fileNotFound = false;
+
+        FileChannel channel = this.channel;
+        if (channel == null) {
+            openChannel(attributes, !opened);
+            opened = true;
+        } else if (isRotated(attributes)) {
+            logger.debug("File '{}' has been rotated", path);
+            // lines written to the old file before the rotation are still passed on
+            readLines(channel);
+            closeChannel();
+            for (FileTailer fileTailer : fileTailers) {
+                fileTailer.sendFileRotationToListeners();
+            }
+            openChannel(attributes, false);
+        }
+
+        channel = this.channel;
+        if (channel != null && channel.size() > position) {
+            readLines(channel);
+        }
+    }
+
+    private boolean isRotated(BasicFileAttributes attributes) {
+        Object key = attributes.fileKey();
+        if (key != null && fileKey != null && !key.equals(fileKey)) {
+            return true;
+        }
+        return attributes.size() < position;
+    }
+
+    private void openChannel(BasicFileAttributes attributes, boolean atEnd) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileKey = attributes.fileKey();
+        position = atEnd ? channel.size() : 0;
+        lineLength = 0;
+        this.channel = channel;
+    }
+
+    private void closeChannel() {
+        FileChannel channel = this.channel;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Closing file '{}' failed: {}", path, e.getMessage());
+            }
+            this.channel = null;
+        }
+    }
+
+    private void readLines(FileChannel channel) throws IOException {
+        int read;
+        while (running && (read = channel.read(buffer, position)) > 0) {
+            position += read;
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == '\n') {
+                    sendLine();
+                } else {
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, line.length * 2);
+                    }
+                    line[lineLength++] = b;
+                }
+            }
+            buffer.clear();
+        }
+    }
+
+    private void sendLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        String text = new String(line, 0, length, charset);
+        lineLength = 0;
+        for (FileTailer fileTailer : fileTailers) {
+            fileTailer.sendLineToListeners(text);
+        }
+    }
+}
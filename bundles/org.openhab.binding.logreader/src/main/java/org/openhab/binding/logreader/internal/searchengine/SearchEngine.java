@@ -22,13 +22,20 @@ import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * This class implements logic for regular expression based searching.
+ * <p>
+ * Most log search patterns contain a literal text, which every matching line must contain. Such a literal is
+ * extracted from each pattern, so the regular expression only runs on lines which contain it. Patterns without any
+ * regular expression syntax don't need the regular expression at all.
  *
  * @author Pauli Anttila - Initial contribution
  */
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private static final String REGEX_META_CHARACTERS = "\\[](){}.*+?^$|";
+    private static final String ESCAPES_WITH_ARGUMENTS = "xuckpPN";
+
+    private List<LinePattern> matchers;
+    private List<LinePattern> blacklistingMatchers;
 
     private long matchCount;
 
@@ -78,34 +85,174 @@ public class SearchEngine {
      * @param patterns patterns which will handled.
      * @return list of precompiled patterns. If pattern parameter is null, empty list is returned.
      */
-    private List<Pattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
-        List<Pattern> patternsList = new ArrayList<Pattern>();
+    private List<LinePattern> compilePatterns(@Nullable String patterns) throws PatternSyntaxException {
+        List<LinePattern> patternsList = new ArrayList<LinePattern>();
 
         if (patterns != null && !patterns.isEmpty()) {
             String list[] = patterns.split("\\|");
             if (list.length > 0) {
 
                 for (String patternStr : list) {
-                    patternsList.add(Pattern.compile(patternStr));
+                    patternsList.add(new LinePattern(patternStr));
                 }
             }
         }
         return patternsList;
     }
 
+    /**
+     * Finds the longest literal text, which is contained in every text matching the regular expression.
+     *
+     * @param regex the regular expression.
+     * @return the literal text or null if no literal text could be determined.
+     */
+    static @Nullable String getRequiredLiteral(String regex) {
+        if (regex.contains("(?") || regex.contains("\\Q")) {
+            // flags like case insensitivity, look arounds and quoting are not analyzed
+            return null;
+        }
+        String longest = "";
+        StringBuilder literal = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            boolean endsLiteral = true;
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= regex.length()) {
+                        return null;
+                    }
+                    i++;
+                    char escaped = regex.charAt(i);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        // escaped special character
+                        if (depth == 0) {
+                            literal.append(escaped);
+                            endsLiteral = false;
+                        }
+                    } else if (ESCAPES_WITH_ARGUMENTS.indexOf(escaped) >= 0 || Character.isDigit(escaped)) {
+                        // hex, unicode, octal, control characters, named groups, properties and back references
+                        return null;
+                    }
+                    // otherwise a predefined character class or a boundary
+                    break;
+                case '[':
+                    i = skipCharacterClass(regex, i);
+                    break;
+                case '(':
+                    depth++;
+                    break;
+                case ')':
+                    depth--;
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    // the preceding character is optional
+                    if (literal.length() > 0) {
+                        literal.setLength(literal.length() - 1);
+                    }
+                    if (c == '{') {
+                        int end = regex.indexOf('}', i);
+                        i = end < 0 ? regex.length() : end;
+                    }
+                    break;
+                case '|':
+                    if (depth == 0) {
+                        // no literal is common to all alternatives
+                        return null;
+                    }
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    break;
+                default:
+                    if (depth == 0) {
+                        literal.append(c);
+                        endsLiteral = false;
+                    }
+            }
+            if (endsLiteral) {
+                if (literal.length() > longest.length()) {
+                    longest = literal.toString();
+                }
+                literal.setLength(0);
+            }
+            i++;
+        }
+        if (literal.length() > longest.length()) {
+            longest = literal.toString();
+        }
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            // a leading ] is part of the class
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                // union or intersection with a nested class
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
     private boolean notBlacklisted(String data) {
         return !isMatching(blacklistingMatchers, data);
     }
 
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
+    private boolean isMatching(@Nullable List<LinePattern> patterns, String data) {
         if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
+            for (LinePattern pattern : patterns) {
+                if (pattern.isMatching(data)) {
                     return true;
                 }
             }
         }
         return false;
     }
+
+    /**
+     * A search pattern with the literal text every matching line contains.
+     */
+    private static class LinePattern {
+        private final Pattern pattern;
+        private final @Nullable String literal;
+        private final boolean literalOnly;
+
+        LinePattern(String regex) throws PatternSyntaxException {
+            pattern = Pattern.compile(regex);
+            literalOnly = !regex.isEmpty() && regex.chars().noneMatch(c -> REGEX_META_CHARACTERS.indexOf(c) >= 0);
+            literal = literalOnly ? regex : getRequiredLiteral(regex);
+        }
+
+        boolean isMatching(String data) {
+            String literal = this.literal;
+            if (literal != null && !data.contains(literal)) {
+                return false;
+            }
+            if (literalOnly) {
+                return true;
+            }
+            Matcher matcher = pattern.matcher(data);
+            return matcher.find();
+        }
+    }
 }
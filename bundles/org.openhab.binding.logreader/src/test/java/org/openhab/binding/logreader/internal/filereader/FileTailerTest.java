@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests for {@link FileTailer}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class FileTailerTest {
+
+    private static final long REFRESH_RATE = 50;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private File file;
+
+    /**
+     * Listener counting down on the expected line and on exceptions.
+     */
+    private static class Listener implements FileReaderListener {
+        private final String expectedLine;
+        private final CountDownLatch lineReceived = new CountDownLatch(1);
+        private final CountDownLatch exceptionReceived = new CountDownLatch(1);
+
+        Listener(String expectedLine) {
+            this.expectedLine = expectedLine;
+        }
+
+        @Override
+        public void fileNotFound() {
+        }
+
+        @Override
+        public void fileRotated() {
+        }
+
+        @Override
+        public void handle(String line) {
+            if (expectedLine.equals(line)) {
+                lineReceived.countDown();
+            }
+        }
+
+        @Override
+        public void handle(Exception ex) {
+            exceptionReceived.countDown();
+        }
+    }
+
+    /**
+     * File tailer which makes following the file fail on the line "kill".
+     */
+    private static class KillingFileTailer extends FileTailer {
+        @Override
+        public void sendLineToListeners(String line) {
+            if ("kill".equals(line)) {
+                throw new IllegalStateException("killed");
+            }
+            super.sendLineToListeners(line);
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("logreader", ".log");
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+        file.delete();
+    }
+
+    @Test
+    public void testLinesArePassedToAllFileTailers() throws Exception {
+        Listener first = new Listener("line");
+        Listener second = new Listener("line");
+        FileTailer firstTailer = startFileTailer(new FileTailer(), first);
+        FileTailer secondTailer = startFileTailer(new FileTailer(), second);
+        try {
+            appendUntil("line", first.lineReceived);
+            assertTrue(second.lineReceived.await(5, TimeUnit.SECONDS));
+        } finally {
+            firstTailer.stop();
+            secondTailer.stop();
+        }
+    }
+
+    @Test
+    public void testFileIsFollowedAgainAfterFailure() throws Exception {
+        Listener killedListener = new Listener("kill");
+        Listener remainingListener = new Listener("kill");
+        FileTailer killedTailer = startFileTailer(new KillingFileTailer(), killedListener);
+        FileTailer remainingTailer = startFileTailer(new FileTailer(), remainingListener);
+        FileTailer restartedTailer = null;
+        try {
+            appendUntil("kill", remainingListener.exceptionReceived);
+            killedTailer.stop();
+
+            // the remaining tailer still follows the failed file, a restarted one must not join it
+            Listener restartedListener = new Listener("line");
+            restartedTailer = startFileTailer(new FileTailer(), restartedListener);
+            appendUntil("line", restartedListener.lineReceived);
+        } finally {
+            remainingTailer.stop();
+            if (restartedTailer != null) {
+                restartedTailer.stop();
+            }
+        }
+    }
+
+    private FileTailer startFileTailer(FileTailer fileTailer, Listener listener) throws Exception {
+        fileTailer.registerListener(listener);
+        fileTailer.start(file.getAbsolutePath(), REFRESH_RATE, scheduler);
+        return fileTailer;
+    }
+
+    /**
+     * Appends the line until the latch counts down, as lines written before a tailer opened the file are skipped.
+     */
+    private void appendUntil(String line, CountDownLatch latch) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            Files.write(file.toPath(), (line + "\n").getBytes(Charset.defaultCharset()), StandardOpenOption.APPEND);
+            if (latch.await(100, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+        fail("Line '" + line + "' was not received");
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link SearchEngine}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class SearchEngineTest {
+
+    @Test
+    public void testRequiredLiteralOfPlainRegex() {
+        assertEquals("ERROR", SearchEngine.getRequiredLiteral("^.*ERROR.*$"));
+        assertEquals(" Exception", SearchEngine.getRequiredLiteral("\\d+ Exception.*"));
+        assertEquals(" connection lost", SearchEngine.getRequiredLiteral("\\w+ connection lost"));
+    }
+
+    @Test
+    public void testRequiredLiteralOfQuantifiers() {
+        assertEquals("warning", SearchEngine.getRequiredLiteral("warnings?"));
+        assertEquals("abc", SearchEngine.getRequiredLiteral("abcd*"));
+        assertEquals("abc", SearchEngine.getRequiredLiteral("abcx{2,3}"));
+        assertEquals("abcd", SearchEngine.getRequiredLiteral("abcd+"));
+    }
+
+    @Test
+    public void testRequiredLiteralOfEscapedCharacters() {
+        assertEquals("value.0", SearchEngine.getRequiredLiteral("value\\.0"));
+        assertEquals("[WARN]", SearchEngine.getRequiredLiteral("\\[WARN\\]"));
+        assertEquals("item", SearchEngine.getRequiredLiteral("\\bitem\\b"));
+    }
+
+    @Test
+    public void testNoRequiredLiteralForEscapesWithArguments() {
+        assertNull(SearchEngine.getRequiredLiteral("\\x41BC"));
+        assertNull(SearchEngine.getRequiredLiteral("\\u00e9tat"));
+        assertNull(SearchEngine.getRequiredLiteral("\\0101BC"));
+        assertNull(SearchEngine.getRequiredLiteral("\\cJabc"));
+        assertNull(SearchEngine.getRequiredLiteral("x\\k<name>abc"));
+        assertNull(SearchEngine.getRequiredLiteral("x\\p{Lu}abc"));
+        assertNull(SearchEngine.getRequiredLiteral("x\\P{Lu}abc"));
+        assertNull(SearchEngine.getRequiredLiteral("(a)\\12abc"));
+        assertNull(SearchEngine.getRequiredLiteral("abc\\"));
+    }
+
+    @Test
+    public void testRequiredLiteralOfCharacterClasses() {
+        assertEquals("rror", SearchEngine.getRequiredLiteral("[Ee]rror"));
+        assertEquals("code", SearchEngine.getRequiredLiteral("[^]x]code"));
+        assertEquals("end", SearchEngine.getRequiredLiteral("[\\]ab]end"));
+        assertEquals("tail", SearchEngine.getRequiredLiteral("[a-z&&[^b]]tail"));
+        assertNull(SearchEngine.getRequiredLiteral("[abc]"));
+    }
+
+    @Test
+    public void testRequiredLiteralOfGroups() {
+        assertEquals(" offline", SearchEngine.getRequiredLiteral("Thing (foo|bar) offline"));
+        assertEquals("status", SearchEngine.getRequiredLiteral("(ab)?status"));
+        assertNull(SearchEngine.getRequiredLiteral("(?i)error"));
+        assertNull(SearchEngine.getRequiredLiteral("\\Qa.b\\E"));
+    }
+
+    @Test
+    public void testNoRequiredLiteralForAlternation() {
+        assertNull(SearchEngine.getRequiredLiteral("error|warning"));
+    }
+
+    @Test
+    public void testMatching() {
+        SearchEngine engine = new SearchEngine("ERROR|\\[WARN\\].*lost", "ignored");
+        assertTrue(engine.isMatching("2019-01-01 ERROR something failed"));
+        assertTrue(engine.isMatching("[WARN] connection lost"));
+        assertFalse(engine.isMatching("[WARN] connection restored"));
+        assertFalse(engine.isMatching("ERROR ignored"));
+        assertFalse(engine.isMatching("état x41"));
+        assertEquals(2, engine.getMatchCount());
+    }
+
+    @Test
+    public void testMatchingWithEscapesWithArguments() {
+        SearchEngine engine = new SearchEngine("\\x41BC|\\u00e9tat|\\p{Lu}{3}", "");
+        assertTrue(engine.isMatching("xABCx"));
+        assertTrue(engine.isMatching("état"));
+        assertTrue(engine.isMatching("xyz DEF"));
+        assertFalse(engine.isMatching("x41BC abc"));
+    }
+}
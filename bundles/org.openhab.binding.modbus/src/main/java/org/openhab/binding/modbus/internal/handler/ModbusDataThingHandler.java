@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.NotImplementedException;
@@ -88,9 +89,10 @@ import org.slf4j.LoggerFactory;
  * commands
  *
  * Thing can be re-initialized by the bridge in case of configuration changes (bridgeStatusChanged).
- * Because of this, initialize, dispose and all callback methods (onRegisters, onBits, onError, onWriteResponse) are
- * synchronized
- * to avoid data race conditions.
+ * Because of this, initialize and dispose are synchronized. The read callbacks (onRegisters, onBits, onError) are not
+ * synchronized, they work on an immutable snapshot of the read parameters published by initialize. This way slow
+ * transformations do not block other callbacks or commands. Only the channel and status updates are synchronized.
+ * Likewise, commands are handled with an immutable snapshot of the write parameters.
  *
  * @author Sami Salonen - Initial contribution
  */
@@ -143,28 +145,76 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
     private volatile boolean transformationOnlyInWrite;
     private volatile boolean childOfEndpoint;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
-    private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
+    private volatile Map<String, ChannelUID> channelCache = new ConcurrentHashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
 
+    private volatile @Nullable ReadParameters readParameters;
+    private volatile @Nullable WriteParameters writeParameters;
+
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
             null);
 
+    /**
+     * Immutable snapshot of the parameters needed to interpret polled data
+     */
+    private static class ReadParameters {
+        private final ValueType valueType;
+        private final Transformation transformation;
+        private final int index;
+        private final Optional<Integer> subIndex;
+        private final int pollStart;
+
+        private ReadParameters(ValueType valueType, Transformation transformation, int index,
+                Optional<Integer> subIndex, int pollStart) {
+            this.valueType = valueType;
+            this.transformation = transformation;
+            this.index = index;
+            this.subIndex = subIndex;
+            this.pollStart = pollStart;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the parameters needed to write commands
+     */
+    private static class WriteParameters {
+        private final @Nullable String writeType;
+        private final boolean writeMultiple;
+        private final int writeMaxTries;
+        private final ValueType valueType;
+        private final Transformation transformation;
+        private final @Nullable Integer writeStart;
+        private final boolean transformationOnly;
+        private final int slaveId;
+        private final ModbusSlaveEndpoint slaveEndpoint;
+        private final ModbusManager manager;
+
+        private WriteParameters(ModbusDataConfiguration config, ValueType valueType, Transformation transformation,
+                @Nullable Integer writeStart, boolean transformationOnly, int slaveId,
+                ModbusSlaveEndpoint slaveEndpoint, ModbusManager manager) {
+            this.writeType = config.getWriteType();
+            this.writeMultiple = config.isWriteMultipleEvenWithSingleRegisterOrCoil();
+            this.writeMaxTries = config.getWriteMaxTries();
+            this.valueType = valueType;
+            this.transformation = transformation;
+            this.writeStart = writeStart;
+            this.transformationOnly = transformationOnly;
+            this.slaveId = slaveId;
+            this.slaveEndpoint = slaveEndpoint;
+            this.manager = manager;
+        }
+    }
+
     public ModbusDataThingHandler(Thing thing) {
         super(thing);
     }
 
     @Override
-    public synchronized void handleCommand(ChannelUID channelUID, Command command) {
+    public void handleCommand(ChannelUID channelUID, Command command) {
         logger.trace("Thing {} '{}' received command '{}' to channel '{}'", getThing().getUID(), getThing().getLabel(),
                 command, channelUID);
-        ModbusDataConfiguration config = this.config;
-        ModbusManager manager = this.manager;
-        if (config == null || manager == null) {
-            return;
-        }
-
         if (RefreshType.REFRESH == command) {
             ModbusPollerThingHandler poller = pollerHandler;
             if (poller == null) {
@@ -172,9 +222,8 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
                 // There is no data to update
                 return;
             }
-            // We *schedule* the REFRESH to avoid dead-lock situation where poller is trying update this
-            // data thing with cached data (resulting in deadlock in two synchronized methods: this (handleCommand) and
-            // onRegisters.
+            // We *schedule* the REFRESH so that the poller does not update this data thing with cached data in the
+            // thread handling the command
             scheduler.schedule(() -> poller.refresh(), 0, TimeUnit.SECONDS);
             return;
         } else if (hasConfigurationError()) {
@@ -182,14 +231,16 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
                     "Thing {} '{}' command '{}' to channel '{}': Thing has configuration error so ignoring the command",
                     getThing().getUID(), getThing().getLabel(), command, channelUID);
             return;
-        } else if (!isWriteEnabled) {
+        }
+        WriteParameters params = this.writeParameters;
+        if (params == null) {
             logger.debug(
                     "Thing {} '{}' command '{}' to channel '{}': no writing configured -> aborting processing command",
                     getThing().getUID(), getThing().getLabel(), command, channelUID);
             return;
         }
 
-        Optional<Command> transformedCommand = transformCommandAndProcessJSON(channelUID, command);
+        Optional<Command> transformedCommand = transformCommandAndProcessJSON(channelUID, command, params);
         if (transformedCommand == null) {
             // We have, JSON as transform output (which has been processed) or some error. See
             // transformCommandAndProcessJSON javadoc
@@ -198,7 +249,7 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
 
         // We did not have JSON output from the transformation, so writeStart is absolute required. Abort if it is
         // missing
-        Integer writeStart = this.writeStart;
+        Integer writeStart = params.writeStart;
         if (writeStart == null) {
             logger.warn(
                     "Thing {} '{}': not processing command {} since writeStart is missing and transformation output is not a JSON",
@@ -213,16 +264,15 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
             return;
         }
 
-        ModbusWriteRequestBlueprint request = requestFromCommand(channelUID, command, config, transformedCommand.get(),
+        ModbusWriteRequestBlueprint request = requestFromCommand(channelUID, command, params, transformedCommand.get(),
                 writeStart);
-        ModbusSlaveEndpoint slaveEndpoint = this.slaveEndpoint;
-        if (request == null || slaveEndpoint == null) {
+        if (request == null) {
             return;
         }
 
-        BasicWriteTask writeTask = new BasicWriteTask(slaveEndpoint, request, this);
+        BasicWriteTask writeTask = new BasicWriteTask(params.slaveEndpoint, request, this);
         logger.trace("Submitting write task: {}", writeTask);
-        manager.submitOneTimeWrite(writeTask);
+        params.manager.submitOneTimeWrite(writeTask);
     }
 
     /**
@@ -232,22 +282,24 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
      *
      * @param channelUID channel UID corresponding to received command
      * @param command command to be transformed
+     * @param params write parameters of the command
      * @return transformed command. Null is returned with JSON transformation outputs and configuration errors
      *
      * @see processJsonTransform
      */
-    private @Nullable Optional<Command> transformCommandAndProcessJSON(ChannelUID channelUID, Command command) {
+    private @Nullable Optional<Command> transformCommandAndProcessJSON(ChannelUID channelUID, Command command,
+            WriteParameters params) {
         String transformOutput;
         Optional<Command> transformedCommand;
-        Transformation writeTransformation = this.writeTransformation;
-        if (writeTransformation == null || writeTransformation.isIdentityTransform()) {
+        Transformation writeTransformation = params.transformation;
+        if (writeTransformation.isIdentityTransform()) {
             transformedCommand = Optional.of(command);
         } else {
             transformOutput = writeTransformation.transform(bundleContext, command.toString());
             if (transformOutput.contains("[")) {
-                processJsonTransform(command, transformOutput);
+                processJsonTransform(command, transformOutput, params);
                 return null;
-            } else if (transformationOnlyInWrite) {
+            } else if (params.transformationOnly) {
                 logger.error(
                         "Thing {} seems to have writeTransformation but no other write parameters. Since the transformation did not return a JSON for command '{}' (channel {}), this is a configuration error.",
                         getThing().getUID(), command, channelUID);
@@ -266,10 +318,10 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
     }
 
     private @Nullable ModbusWriteRequestBlueprint requestFromCommand(ChannelUID channelUID, Command origCommand,
-            ModbusDataConfiguration config, Command transformedCommand, Integer writeStart) {
+            WriteParameters params, Command transformedCommand, Integer writeStart) {
         ModbusWriteRequestBlueprint request;
-        boolean writeMultiple = config.isWriteMultipleEvenWithSingleRegisterOrCoil();
-        String writeType = config.getWriteType();
+        boolean writeMultiple = params.writeMultiple;
+        String writeType = params.writeType;
         if (writeType == null) {
             return null;
         }
@@ -282,20 +334,13 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
                 return null;
             }
             boolean data = commandAsBoolean.get();
-            request = new BasicModbusWriteCoilRequestBlueprint(slaveId, writeStart, data, writeMultiple,
-                    config.getWriteMaxTries());
+            request = new BasicModbusWriteCoilRequestBlueprint(params.slaveId, writeStart, data, writeMultiple,
+                    params.writeMaxTries);
         } else if (writeType.equals(WRITE_TYPE_HOLDING)) {
-            ValueType writeValueType = this.writeValueType;
-            if (writeValueType == null) {
-                // Should not happen in practice, since we are not in configuration error (checked above)
-                // This will make compiler happy anyways with the null checks
-                logger.warn("Received command but write value type not set! Ignoring command");
-                return null;
-            }
-            ModbusRegisterArray data = ModbusBitUtilities.commandToRegisters(transformedCommand, writeValueType);
+            ModbusRegisterArray data = ModbusBitUtilities.commandToRegisters(transformedCommand, params.valueType);
             writeMultiple = writeMultiple || data.size() > 1;
-            request = new BasicModbusWriteRegisterRequestBlueprint(slaveId, writeStart, data, writeMultiple,
-                    config.getWriteMaxTries());
+            request = new BasicModbusWriteRegisterRequestBlueprint(params.slaveId, writeStart, data, writeMultiple,
+                    params.writeMaxTries);
         } else {
             // Should not happen! This method is not called in case configuration errors and writeType is validated
             // already in initialization (validateAndParseWriteParameters).
@@ -307,15 +352,10 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
         return request;
     }
 
-    private void processJsonTransform(Command command, String transformOutput) {
-        ModbusSlaveEndpoint slaveEndpoint = this.slaveEndpoint;
-        ModbusManager manager = this.manager;
-        if (slaveEndpoint == null || manager == null) {
-            return;
-        }
+    private void processJsonTransform(Command command, String transformOutput, WriteParameters params) {
         Collection<ModbusWriteRequestBlueprint> requests;
         try {
-            requests = WriteRequestJsonUtilities.fromJson(slaveId, transformOutput);
+            requests = WriteRequestJsonUtilities.fromJson(params.slaveId, transformOutput);
         } catch (IllegalArgumentException | IllegalStateException e) {
             logger.warn(
                     "Thing {} '{}' could handle transformation result '{}'. Original command {}. Error details follow",
@@ -323,9 +363,9 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
             return;
         }
 
-        requests.stream().map(request -> new BasicWriteTask(slaveEndpoint, request, this)).forEach(writeTask -> {
+        requests.stream().map(request -> new BasicWriteTask(params.slaveEndpoint, request, this)).forEach(writeTask -> {
             logger.trace("Submitting write task: {} (based from transformation {})", writeTask, transformOutput);
-            manager.submitOneTimeWrite(writeTask);
+            params.manager.submitOneTimeWrite(writeTask);
         });
     }
 
@@ -378,6 +418,8 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
             validateAndParseReadParameters();
             validateAndParseWriteParameters();
             validateMustReadOrWrite();
+            publishReadParameters();
+            publishWriteParameters();
 
             updateStatusIfChanged(ThingStatus.ONLINE);
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
@@ -391,6 +433,8 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
 
     @Override
     public synchronized void dispose() {
+        readParameters = null;
+        writeParameters = null;
         config = null;
         readValueType = null;
         writeValueType = null;
@@ -409,7 +453,7 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
         transformationOnlyInWrite = false;
         childOfEndpoint = false;
         pollerHandler = null;
-        channelCache = new HashMap<>();
+        channelCache = new ConcurrentHashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
@@ -507,6 +551,32 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
         validateReadIndex(pollTask);
     }
 
+    private void publishReadParameters() {
+        ValueType readValueType = this.readValueType;
+        Transformation readTransformation = this.readTransformation;
+        if (!isReadEnabled || readValueType == null || readTransformation == null || !readIndex.isPresent()) {
+            readParameters = null;
+            return;
+        }
+        readParameters = new ReadParameters(readValueType, readTransformation, readIndex.get(), readSubIndex,
+                pollStart);
+    }
+
+    private void publishWriteParameters() {
+        ModbusDataConfiguration config = this.config;
+        ValueType writeValueType = this.writeValueType;
+        Transformation writeTransformation = this.writeTransformation;
+        ModbusSlaveEndpoint slaveEndpoint = this.slaveEndpoint;
+        ModbusManager manager = this.manager;
+        if (!isWriteEnabled || config == null || writeValueType == null || writeTransformation == null
+                || slaveEndpoint == null || manager == null) {
+            writeParameters = null;
+            return;
+        }
+        writeParameters = new WriteParameters(config, writeValueType, writeTransformation, writeStart,
+                transformationOnlyInWrite, slaveId, slaveEndpoint, manager);
+    }
+
     private void validateAndParseWriteParameters() throws ModbusConfigurationException {
         boolean writeTypeMissing = StringUtils.isBlank(config.getWriteType());
         boolean writeStartMissing = StringUtils.isBlank(config.getWriteStart());
@@ -644,16 +714,12 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
     }
 
     @Override
-    public synchronized void onRegisters(ModbusReadRequestBlueprint request, ModbusRegisterArray registers) {
-        if (hasConfigurationError()) {
-            return;
-        } else if (!isReadEnabled) {
-            return;
-        }
-        ValueType readValueType = this.readValueType;
-        if (readValueType == null) {
+    public void onRegisters(ModbusReadRequestBlueprint request, ModbusRegisterArray registers) {
+        ReadParameters params = this.readParameters;
+        if (params == null || hasConfigurationError()) {
             return;
         }
+        ValueType readValueType = params.valueType;
         State numericState;
 
         // extractIndex:
@@ -668,43 +734,40 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
         int extractIndex;
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            assert params.subIndex.orElse(0) == 0;
+            extractIndex = params.index - params.pollStart;
         } else {
-            int subIndex = readSubIndex.orElse(0);
+            int subIndex = params.subIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = (params.index - params.pollStart) * itemsPerRegister + subIndex;
         }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(params, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+                thing.getUID(), values, readValueType, params.index, params.subIndex.orElse(0), extractIndex,
+                numericState, boolValue, registers, request);
     }
 
     @Override
-    public synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
-        if (hasConfigurationError()) {
-            return;
-        } else if (!isReadEnabled) {
+    public void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
+        ReadParameters params = this.readParameters;
+        if (params == null || hasConfigurationError()) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        boolean boolValue = bits.getBit(params.index - params.pollStart);
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(params, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
+                thing.getUID(), values, params.valueType, params.index, numericState, boolValue, bits, request);
     }
 
     @Override
-    public synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
-        if (hasConfigurationError()) {
-            return;
-        } else if (!isReadEnabled) {
+    public void onError(ModbusReadRequestBlueprint request, Exception error) {
+        if (readParameters == null || hasConfigurationError()) {
             return;
         }
         if (error instanceof ModbusConnectionException) {
@@ -738,7 +801,7 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
     }
 
     @Override
-    public synchronized void onError(ModbusWriteRequestBlueprint request, Exception error) {
+    public void onError(ModbusWriteRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
         } else if (!isWriteEnabled) {
@@ -775,28 +838,32 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
     }
 
     @Override
-    public synchronized void onWriteResponse(ModbusWriteRequestBlueprint request, ModbusResponse response) {
+    public void onWriteResponse(ModbusWriteRequestBlueprint request, ModbusResponse response) {
         if (hasConfigurationError()) {
             return;
         } else if (!isWriteEnabled) {
             return;
         }
         logger.debug("Successful write, matching request {}", request);
-        updateStatusIfChanged(ThingStatus.ONLINE);
         ChannelUID lastWriteSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_WRITE_SUCCESS);
-        if (isLinked(lastWriteSuccessUID)) {
-            updateState(lastWriteSuccessUID, new DateTimeType());
+        synchronized (this) {
+            updateStatusIfChanged(ThingStatus.ONLINE);
+            if (isLinked(lastWriteSuccessUID)) {
+                updateState(lastWriteSuccessUID, new DateTimeType());
+            }
         }
     }
 
     /**
      * Update linked channels
      *
+     * @param params read parameters of the thing
      * @param numericState numeric state corresponding to polled data (or UNDEF with floating point NaN or infinity)
      * @param boolValue boolean value corresponding to polled data
      * @return updated channel data
      */
-    private Map<ChannelUID, State> processUpdatedValue(State numericState, boolean boolValue) {
+    private Map<ChannelUID, State> processUpdatedValue(ReadParameters params, State numericState, boolean boolValue) {
+        Transformation readTransformation = params.transformation;
         Map<@NonNull ChannelUID, @NonNull State> states = new HashMap<>();
         CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream().forEach(channelId -> {
             ChannelUID channelUID = getChannelUID(channelId);
@@ -837,7 +904,7 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
                 logger.trace(
                         "Channel {} will be updated to '{}' (type {}). Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
                         channelId, transformedState, transformedState.getClass().getSimpleName(), numericState,
-                        readValueType, boolValue,
+                        params.valueType, boolValue,
                         readTransformation.isIdentityTransform() ? "<identity>" : readTransformation);
                 states.put(channelUID, transformedState);
             } else {
@@ -845,7 +912,7 @@ public class ModbusDataThingHandler extends BaseThingHandler implements ModbusRe
                         ", ");
                 logger.warn(
                         "Channel {} will not be updated since transformation was unsuccessful. Channel is expecting the following data types [{}]. Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
-                        channelId, types, numericState, readValueType, boolValue,
+                        channelId, types, numericState, params.valueType, boolValue,
                         readTransformation.isIdentityTransform() ? "<identity>" : readTransformation);
             }
         });
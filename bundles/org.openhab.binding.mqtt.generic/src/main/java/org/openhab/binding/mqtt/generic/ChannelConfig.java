@@ -39,6 +39,10 @@ public class ChannelConfig {
     public boolean postCommand = false;
     /** If true publishes messages as retained messages */
     public boolean retained = false;
+    /** Values equal to the last published value are not published again within this period. 0 disables this. */
+    public int suppressDuplicatesMillis = 0;
+    /** Commands within this period after a publish are coalesced, only the last one is published. 0 disables this. */
+    public int coalesceCommandsMillis = 0;
     /** If true, the state topic will not update a state, but trigger a channel instead. */
     public boolean trigger = false;
     public String unit = "";
@@ -64,6 +64,16 @@ public class ChannelConfigBuilder {
         return this;
     }
 
+    public ChannelConfigBuilder withSuppressDuplicates(int millis) {
+        config.suppressDuplicatesMillis = millis;
+        return this;
+    }
+
+    public ChannelConfigBuilder withCoalesceCommands(int millis) {
+        config.coalesceCommandsMillis = millis;
+        return this;
+    }
+
     public ChannelConfigBuilder makeTrigger(boolean trigger) {
         config.trigger = trigger;
         return this;
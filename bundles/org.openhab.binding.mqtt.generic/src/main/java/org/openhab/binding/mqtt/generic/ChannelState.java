@@ -52,6 +52,9 @@ public class ChannelState implements MqttMessageSubscriber {
     /** Channel value **/
     protected final Value cachedValue;
 
+    /** Last published value **/
+    protected final OutboundPublishCache publishCache;
+
     // Runtime variables
     @Nullable
     private MqttBrokerConnection connection;
@@ -60,6 +63,7 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
+    private @Nullable ScheduledExecutorService scheduler;
     private CompletableFuture<@Nullable Void> future = new CompletableFuture<>();
 
     /**
@@ -78,6 +82,7 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelUID = channelUID;
         this.cachedValue = cachedValue;
         this.readOnly = StringUtils.isBlank(config.commandTopic);
+        this.publishCache = new OutboundPublishCache(config.suppressDuplicatesMillis, config.coalesceCommandsMillis);
     }
 
     public boolean isReadOnly() {
@@ -124,6 +129,13 @@ public class ChannelState implements MqttMessageSubscriber {
         return cachedValue;
     }
 
+    /**
+     * Returns the cache of the published values. It also counts the sent, suppressed and coalesced publishes.
+     */
+    public OutboundPublishCache getPublishCache() {
+        return publishCache;
+    }
+
     /**
      * Return the channelUID
      */
@@ -245,8 +257,10 @@ public class ChannelState implements MqttMessageSubscriber {
     private void internalStop() {
         this.connection = null;
         this.channelStateUpdateListener = null;
+        this.scheduler = null;
         hasSubscribed = false;
         cachedValue.resetState();
+        publishCache.clear();
     }
 
     private void receivedOrTimeout() {
@@ -285,6 +299,7 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         this.connection = connection;
+        this.scheduler = scheduler;
 
         if (StringUtils.isBlank(config.stateTopic)) {
             return CompletableFuture.completedFuture(null);
@@ -314,6 +329,10 @@ public class ChannelState implements MqttMessageSubscriber {
 
     /**
      * Publishes a value on MQTT. A command topic needs to be set in the configuration.
+     * <p>
+     * Depending on the configuration, a value equal to the last published one is suppressed and commands in quick
+     * succession are coalesced, see {@link OutboundPublishCache}.
+     * </p>
      *
      * @param command The command to send
      * @return A future that completes with true if the publishing worked and false if it is a readonly topic
@@ -354,7 +373,11 @@ public class ChannelState implements MqttMessageSubscriber {
             mqttCommandValue = t.processValue(mqttCommandValue);
         }
         // Send retained messages if this is a stateful channel
-        return connection.publish(config.commandTopic, mqttCommandValue.getBytes(), 1, config.retained);
+        CompletableFuture<Boolean> result = publishCache.publish(mqttCommandValue, scheduler,
+                value -> connection.publish(config.commandTopic, value.getBytes(), 1, config.retained));
+        logger.trace("Channel {} publishes: {} sent, {} suppressed, {} coalesced", channelUID,
+                publishCache.getSentCount(), publishCache.getSuppressedCount(), publishCache.getCoalescedCount());
+        return result;
     }
 
     /**
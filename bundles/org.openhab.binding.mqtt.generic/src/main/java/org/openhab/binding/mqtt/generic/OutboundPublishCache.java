@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Remembers the last value published by a channel, to avoid flooding the broker with redundant publishes.
+ * <p>
+ * A value equal to the last published one is suppressed if it is published again within the configured duplicate
+ * window. Values published in quick succession are coalesced: the first one is published right away, all following
+ * values within the coalesce window are collapsed and only the latest one is published at the end of the window.
+ * Both windows are disabled with a value of 0, in which case every value is published.
+ * </p>
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class OutboundPublishCache {
+    private final int suppressDuplicatesMillis;
+    private final int coalesceCommandsMillis;
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private @Nullable String lastPayload;
+    private long lastPublishedMillis;
+    private @Nullable PendingPublish pending;
+
+    private static class PendingPublish {
+        private String payload;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private PendingPublish(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param suppressDuplicatesMillis Values equal to the last published one are not published again within this
+     *            period. 0 disables the suppression.
+     * @param coalesceCommandsMillis Values following each other within this period are coalesced. 0 disables the
+     *            coalescing.
+     */
+    public OutboundPublishCache(int suppressDuplicatesMillis, int coalesceCommandsMillis) {
+        this.suppressDuplicatesMillis = suppressDuplicatesMillis;
+        this.coalesceCommandsMillis = coalesceCommandsMillis;
+    }
+
+    /**
+     * Publishes the given value, unless it is suppressed or coalesced.
+     *
+     * @param payload The value to publish
+     * @param scheduler A scheduler to publish coalesced values. Values are not coalesced if it is null.
+     * @param publisher Publishes a value to the broker
+     * @return A future that completes with the result of the publish. Suppressed values complete with true right
+     *         away, coalesced values complete with the result of the publish of the latest value.
+     */
+    public CompletableFuture<Boolean> publish(String payload, @Nullable ScheduledExecutorService scheduler,
+            Function<String, CompletableFuture<Boolean>> publisher) {
+        synchronized (this) {
+            final PendingPublish pending = this.pending;
+            if (pending != null) {
+                pending.payload = payload;
+                coalescedCount.incrementAndGet();
+                return pending.future;
+            }
+            long now = System.currentTimeMillis();
+            if (isDuplicate(payload, now)) {
+                suppressedCount.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            }
+            long delay = lastPublishedMillis + coalesceCommandsMillis - now;
+            if (scheduler != null && coalesceCommandsMillis > 0 && delay > 0) {
+                PendingPublish newPending = new PendingPublish(payload);
+                this.pending = newPending;
+                scheduler.schedule(() -> publishPending(newPending, publisher), delay, TimeUnit.MILLISECONDS);
+                return newPending.future;
+            }
+            published(payload, now);
+        }
+        return publisher.apply(payload);
+    }
+
+    private void publishPending(PendingPublish pending, Function<String, CompletableFuture<Boolean>> publisher) {
+        final String payload;
+        synchronized (this) {
+            if (this.pending != pending) {
+                // Cleared in the meantime
+                return;
+            }
+            this.pending = null;
+            payload = pending.payload;
+            long now = System.currentTimeMillis();
+            if (isDuplicate(payload, now)) {
+                suppressedCount.incrementAndGet();
+                pending.future.complete(true);
+                return;
+            }
+            published(payload, now);
+        }
+        publisher.apply(payload).whenComplete((result, e) -> {
+            if (e != null) {
+                pending.future.completeExceptionally(e);
+            } else {
+                pending.future.complete(result);
+            }
+        });
+    }
+
+    private boolean isDuplicate(String payload, long now) {
+        return suppressDuplicatesMillis > 0 && payload.equals(lastPayload)
+                && now - lastPublishedMillis < suppressDuplicatesMillis;
+    }
+
+    private void published(String payload, long now) {
+        lastPayload = payload;
+        lastPublishedMillis = now;
+        sentCount.incrementAndGet();
+    }
+
+    /**
+     * Forgets the last published value. A pending coalesced value is dropped and its future completes with false.
+     */
+    public void clear() {
+        final PendingPublish pending;
+        synchronized (this) {
+            pending = this.pending;
+            this.pending = null;
+            lastPayload = null;
+            lastPublishedMillis = 0;
+        }
+        if (pending != null) {
+            pending.future.complete(false);
+        }
+    }
+
+    /**
+     * Returns the number of values that have been published to the broker.
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Returns the number of values that have not been published, because they were equal to the last published value.
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+
+    /**
+     * Returns the number of values that have not been published, because a later value was published instead.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+}
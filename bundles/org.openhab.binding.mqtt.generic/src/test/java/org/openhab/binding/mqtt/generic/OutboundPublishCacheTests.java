@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link OutboundPublishCache} class.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class OutboundPublishCacheTests {
+    private final List<String> published = new ArrayList<>();
+    private final Function<String, CompletableFuture<Boolean>> publisher = value -> {
+        synchronized (published) {
+            published.add(value);
+        }
+        return CompletableFuture.completedFuture(true);
+    };
+
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void disabledPublishesEverything() throws Exception {
+        OutboundPublishCache cache = new OutboundPublishCache(0, 0);
+        cache.publish("ON", scheduler, publisher).get();
+        cache.publish("ON", scheduler, publisher).get();
+
+        assertThat(published, is(Arrays.asList("ON", "ON")));
+        assertThat(cache.getSentCount(), is(2L));
+        assertThat(cache.getSuppressedCount(), is(0L));
+    }
+
+    @Test
+    public void duplicatesAreSuppressed() throws Exception {
+        OutboundPublishCache cache = new OutboundPublishCache(10000, 0);
+        assertThat(cache.publish("ON", scheduler, publisher).get(), is(true));
+        assertThat(cache.publish("ON", scheduler, publisher).get(), is(true));
+        cache.publish("OFF", scheduler, publisher).get();
+        cache.publish("ON", scheduler, publisher).get();
+
+        assertThat(published, is(Arrays.asList("ON", "OFF", "ON")));
+        assertThat(cache.getSentCount(), is(3L));
+        assertThat(cache.getSuppressedCount(), is(1L));
+
+        cache.clear();
+        cache.publish("ON", scheduler, publisher).get();
+        assertThat(cache.getSentCount(), is(4L));
+    }
+
+    @Test
+    public void commandsAreCoalesced() throws Exception {
+        OutboundPublishCache cache = new OutboundPublishCache(0, 200);
+        cache.publish("10", scheduler, publisher).get();
+        CompletableFuture<Boolean> second = cache.publish("20", scheduler, publisher);
+        CompletableFuture<Boolean> third = cache.publish("30", scheduler, publisher);
+        assertThat(second, is(sameInstance(third)));
+
+        assertThat(third.get(2, TimeUnit.SECONDS), is(true));
+        assertThat(published, is(Arrays.asList("10", "30")));
+        assertThat(cache.getSentCount(), is(2L));
+        assertThat(cache.getCoalescedCount(), is(1L));
+    }
+
+    @Test
+    public void clearDropsPendingCommand() throws Exception {
+        OutboundPublishCache cache = new OutboundPublishCache(0, 10000);
+        cache.publish("10", scheduler, publisher).get();
+        CompletableFuture<Boolean> pending = cache.publish("20", scheduler, publisher);
+
+        cache.clear();
+        assertThat(pending.get(), is(false));
+        assertThat(published, is(Arrays.asList("10")));
+    }
+}
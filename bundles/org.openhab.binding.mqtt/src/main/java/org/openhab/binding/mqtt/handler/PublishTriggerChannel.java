@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.mqtt.handler;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.smarthome.core.thing.ChannelUID;
@@ -22,6 +25,10 @@ import org.eclipse.smarthome.io.transport.mqtt.MqttMessageSubscriber;
 /**
  * Subscribes to a state topic and calls {@link AbstractBrokerHandler#triggerChannel(ChannelUID, String)} if a value got
  * received.
+ * <p>
+ * If configured, a value equal to the last value received on the same topic does not trigger the channel again within
+ * the configured period.
+ * </p>
  *
  * @author David Graeff - Initial contribution
  */
@@ -31,6 +38,19 @@ public class PublishTriggerChannel implements MqttMessageSubscriber {
     private final PublishTriggerChannelConfig config;
     private final ChannelUID uid;
     private final AbstractBrokerHandler handler;
+    private final Map<String, LastValue> lastValueByTopic = new HashMap<>();
+    private final AtomicLong triggeredCount = new AtomicLong();
+    private final AtomicLong suppressedCount = new AtomicLong();
+
+    private static class LastValue {
+        private final String value;
+        private final long receivedMillis;
+
+        private LastValue(String value, long receivedMillis) {
+            this.value = value;
+            this.receivedMillis = receivedMillis;
+        }
+    }
 
     PublishTriggerChannel(PublishTriggerChannelConfig config, ChannelUID uid, MqttBrokerConnection connection,
             AbstractBrokerHandler handler) {
@@ -52,6 +72,11 @@ public class PublishTriggerChannel implements MqttMessageSubscriber {
         if (expectedPayload != null && !value.equals(expectedPayload)) {
             return;
         }
+        if (isDuplicate(topic, value)) {
+            suppressedCount.incrementAndGet();
+            return;
+        }
+        triggeredCount.incrementAndGet();
         if (config.separator.isEmpty()) {
             handler.triggerChannel(uid, value);
         } else {
@@ -59,7 +84,42 @@ public class PublishTriggerChannel implements MqttMessageSubscriber {
         }
     }
 
+    private boolean isDuplicate(String topic, String value) {
+        int suppressDuplicatesMillis = config.suppressDuplicatesMillis;
+        if (suppressDuplicatesMillis <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (lastValueByTopic) {
+            LastValue lastValue = lastValueByTopic.get(topic);
+            if (lastValue != null && lastValue.value.equals(value)
+                    && now - lastValue.receivedMillis < suppressDuplicatesMillis) {
+                return true;
+            }
+            lastValueByTopic.put(topic, new LastValue(value, now));
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of received values that triggered the channel.
+     */
+    public long getTriggeredCount() {
+        return triggeredCount.get();
+    }
+
+    /**
+     * Returns the number of received values that did not trigger the channel, because they were equal to the last
+     * value of the topic.
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.get();
+    }
+
     public CompletableFuture<Boolean> stop() {
+        synchronized (lastValueByTopic) {
+            lastValueByTopic.clear();
+        }
         return connection.unsubscribe(config.stateTopic, this);
     }
 }
@@ -25,4 +25,6 @@ public class PublishTriggerChannelConfig {
     public String stateTopic = "";
     public String separator = "";
     public @Nullable String payload;
+    /** Values equal to the last value of the topic do not trigger again within this period. 0 disables this. */
+    public int suppressDuplicatesMillis = 0;
 }
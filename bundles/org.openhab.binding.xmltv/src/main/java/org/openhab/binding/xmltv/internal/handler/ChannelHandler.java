@@ -46,7 +46,6 @@ import org.openhab.binding.xmltv.internal.configuration.XmlChannelConfiguration;
 import org.openhab.binding.xmltv.internal.jaxb.Icon;
 import org.openhab.binding.xmltv.internal.jaxb.MediaChannel;
 import org.openhab.binding.xmltv.internal.jaxb.Programme;
-import org.openhab.binding.xmltv.internal.jaxb.Tv;
 import org.openhab.binding.xmltv.internal.jaxb.WithLangType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -79,14 +78,10 @@ public class ChannelHandler extends BaseThingHandler {
 
         if (globalJob == null || globalJob.isCancelled()) {
             globalJob = scheduler.scheduleWithFixedDelay(() -> {
-                if (programmes.size() < 2) {
-                    refreshProgramList();
-                }
+                refreshProgramList();
                 if (programmes.size() == 0) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.NONE,
                             "No programmes to come in the current XML file for this channel");
-                } else if (Instant.now().isAfter(programmes.get(0).getProgrammeStop())) {
-                    programmes.remove(0);
                 }
 
                 getThing().getChannels().forEach(channel -> updateChannel(channel.getUID()));
@@ -100,12 +95,12 @@ public class ChannelHandler extends BaseThingHandler {
         if (bridge != null && bridge.getStatus() == ThingStatus.ONLINE) {
             XmlTVHandler handler = (XmlTVHandler) bridge.getHandler();
             if (handler != null) {
-                Tv tv = handler.getXmlFile();
-                if (tv != null) {
-                    String channelId = (String) getConfig().get(XmlChannelConfiguration.CHANNEL_ID);
-
+                String channelId = (String) getConfig().get(XmlChannelConfiguration.CHANNEL_ID);
+                // the current and the next programme
+                List<Programme> channelProgrammes = handler.getProgrammes(channelId, 2);
+                if (channelProgrammes != null) {
                     if (mediaChannel == null) {
-                        Optional<MediaChannel> channel = tv.getMediaChannels().stream()
+                        Optional<MediaChannel> channel = handler.getMediaChannels().stream()
                                 .filter(mediaChannel -> mediaChannel.getId().equals(channelId)).findFirst();
                         if (channel.isPresent()) {
                             mediaChannel = channel.get();
@@ -114,9 +109,7 @@ public class ChannelHandler extends BaseThingHandler {
                     }
 
                     programmes.clear();
-                    tv.getProgrammes().stream().filter(
-                            p -> p.getChannel().equals(channelId) && p.getProgrammeStop().isAfter(Instant.now()))
-                            .forEach(p -> programmes.add(p));
+                    programmes.addAll(channelProgrammes);
 
                     updateStatus(ThingStatus.ONLINE);
                 } else {
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.xmltv.internal.handler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.xmltv.internal.jaxb.Programme;
+
+/**
+ * The {@link ProgrammeIndex} holds the programmes of a single channel sorted by their start, so the current and the
+ * following programmes can be looked up with a binary search.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+class ProgrammeIndex {
+    static final ProgrammeIndex EMPTY = new ProgrammeIndex(Collections.emptyList());
+
+    private final Programme[] programmes;
+    private final long[] starts;
+    private final long[] stops;
+
+    ProgrammeIndex(List<Programme> programmes) {
+        this.programmes = programmes.toArray(new Programme[programmes.size()]);
+        Arrays.sort(this.programmes, Comparator.comparing(Programme::getProgrammeStart));
+        starts = new long[this.programmes.length];
+        stops = new long[this.programmes.length];
+        for (int i = 0; i < this.programmes.length; i++) {
+            starts[i] = this.programmes[i].getProgrammeStart().toEpochMilli();
+            stops[i] = this.programmes[i].getProgrammeStop().toEpochMilli();
+        }
+    }
+
+    /**
+     * Returns the programmes which haven't finished at the given instant, the current programme first.
+     *
+     * @param now the instant
+     * @param count the maximum number of programmes to return
+     * @return the programmes
+     */
+    List<Programme> getProgrammes(Instant now, int count) {
+        long time = now.toEpochMilli();
+        // the last programme started at the given instant is the current one, unless it has finished already
+        int index = lastStartedIndex(time);
+        if (index < 0) {
+            index = 0;
+        }
+        List<Programme> result = new ArrayList<>(count);
+        for (int i = index; i < programmes.length && result.size() < count; i++) {
+            if (stops[i] > time) {
+                result.add(programmes[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the index without the programmes finished at the given instant.
+     */
+    ProgrammeIndex withoutFinishedProgrammes(Instant now) {
+        long time = now.toEpochMilli();
+        List<Programme> remaining = new ArrayList<>();
+        for (int i = 0; i < programmes.length; i++) {
+            if (stops[i] > time) {
+                remaining.add(programmes[i]);
+            }
+        }
+        return remaining.size() == programmes.length ? this : new ProgrammeIndex(remaining);
+    }
+
+    int size() {
+        return programmes.length;
+    }
+
+    private int lastStartedIndex(long time) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= time) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+}
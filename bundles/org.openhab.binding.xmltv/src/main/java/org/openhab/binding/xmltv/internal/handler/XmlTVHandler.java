@@ -12,9 +12,17 @@
  */
 package org.openhab.binding.xmltv.internal.handler;
 
+import java.io.File;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -22,6 +30,7 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
@@ -30,11 +39,15 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.openhab.binding.xmltv.internal.configuration.XmlChannelConfiguration;
 import org.openhab.binding.xmltv.internal.configuration.XmlTVConfiguration;
+import org.openhab.binding.xmltv.internal.jaxb.MediaChannel;
 import org.openhab.binding.xmltv.internal.jaxb.Programme;
 import org.openhab.binding.xmltv.internal.jaxb.Tv;
 import org.slf4j.Logger;
@@ -43,17 +56,35 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link XmlTVHandler} is responsible for handling XMLTV file and dispatch
  * information made available to according Media Channels
+ * <p>
+ * The file is streamed and only the programmes of channels with a {@link ChannelHandler} are kept, in a
+ * {@link ProgrammeIndex} per channel. The file is only read again if it has changed or if a channel handler for
+ * another channel has been added, in the latter case only the programmes of the new channels are read.
  *
  * @author Gaël L'hopital - Initial contribution
  */
 @NonNullByDefault
 public class XmlTVHandler extends BaseBridgeHandler {
+    private static final String ELEMENT_CHANNEL = "channel";
+    private static final String ELEMENT_PROGRAMME = "programme";
+    private static final String ATTRIBUTE_CHANNEL = "channel";
+    private static final String ATTRIBUTE_STOP = "stop";
+    private static final int CHANNEL_LOAD_DELAY_SECONDS = 5;
+
     private final Logger logger = LoggerFactory.getLogger(XmlTVHandler.class);
     private final XMLInputFactory xif = XMLInputFactory.newFactory();
     private final JAXBContext jc;
 
-    private @Nullable Tv currentXmlFile;
+    private final Set<String> channelIds = ConcurrentHashMap.newKeySet();
+    private volatile List<MediaChannel> mediaChannels = Collections.emptyList();
+    private volatile Map<String, ProgrammeIndex> programmeIndexes = Collections.emptyMap();
+    private long fileLastModified;
+    private long fileLength;
+
     private @NonNullByDefault({}) ScheduledFuture<?> reloadJob;
+    private final Object channelLoadLock = new Object();
+    private @Nullable ScheduledFuture<?> channelLoadJob;
+    private boolean channelLoadPending;
 
     public XmlTVHandler(Bridge thing) throws JAXBException {
         super(thing);
@@ -66,45 +97,8 @@ public class XmlTVHandler extends BaseBridgeHandler {
         XmlTVConfiguration config = getConfigAs(XmlTVConfiguration.class);
         logger.debug("Initializing {} for input file '{}'", getClass(), config.filePath);
 
-        reloadJob = scheduler.scheduleWithFixedDelay(() -> {
-            final StreamSource source = new StreamSource(config.filePath);
-            currentXmlFile = null;
-            XMLStreamReader xsr = null;
-            try {
-                // This can take some seconds depending upon weight of the XmlTV source file
-                xsr = xif.createXMLStreamReader(source);
-
-                try {
-                    Unmarshaller unmarshaller = jc.createUnmarshaller();
-                    Tv xmlFile = (Tv) unmarshaller.unmarshal(xsr);
-                    // Remove all finished programmes
-                    xmlFile.getProgrammes().removeIf(programme -> Instant.now().isAfter(programme.getProgrammeStop()));
-
-                    if (xmlFile.getProgrammes().size() > 0) {
-                        // Sort programmes by starting instant
-                        Collections.sort(xmlFile.getProgrammes(), Comparator.comparing(Programme::getProgrammeStart));
-                        // Ready to deliver data to ChannelHandlers
-                        currentXmlFile = xmlFile;
-                        updateStatus(ThingStatus.ONLINE);
-                    } else {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.DISABLED, "XMLTV file seems outdated");
-                    }
-                    xsr.close();
-                } catch (JAXBException e) {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
-                }
-            } catch (XMLStreamException e) {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            } finally {
-                try {
-                    if (xsr != null) {
-                        xsr.close();
-                    }
-                } catch (XMLStreamException e) {
-                    updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-                }
-            }
-        }, 0, config.refresh, TimeUnit.HOURS);
+        reloadJob = scheduler.scheduleWithFixedDelay(() -> reload(config.filePath), 0, config.refresh,
+                TimeUnit.HOURS);
     }
 
     @Override
@@ -114,6 +108,16 @@ public class XmlTVHandler extends BaseBridgeHandler {
             reloadJob.cancel(true);
             reloadJob = null;
         }
+        synchronized (channelLoadLock) {
+            ScheduledFuture<?> job = channelLoadJob;
+            if (job != null) {
+                job.cancel(true);
+                channelLoadJob = null;
+            }
+            channelLoadPending = false;
+        }
+        fileLastModified = 0;
+        fileLength = 0;
     }
 
     @Override
@@ -121,9 +125,189 @@ public class XmlTVHandler extends BaseBridgeHandler {
         // nothing to do
     }
 
-    @Nullable
-    public Tv getXmlFile() {
-        return currentXmlFile;
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        String channelId = (String) childThing.getConfiguration().get(XmlChannelConfiguration.CHANNEL_ID);
+        if (channelId != null && channelIds.add(channelId) && !programmeIndexes.containsKey(channelId)) {
+            // load the programmes of all channels added in a short time together, a pending load hasn't taken its
+            // snapshot of the channels yet and will include this one
+            synchronized (channelLoadLock) {
+                if (!channelLoadPending) {
+                    channelLoadPending = true;
+                    ScheduledFuture<?> job = channelLoadJob;
+                    if (job != null) {
+                        // an earlier load which hasn't started yet is covered by the new one
+                        job.cancel(false);
+                    }
+                    XmlTVConfiguration config = getConfigAs(XmlTVConfiguration.class);
+                    channelLoadJob = scheduler.schedule(() -> reload(config.filePath), CHANNEL_LOAD_DELAY_SECONDS,
+                            TimeUnit.SECONDS);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        String channelId = (String) childThing.getConfiguration().get(XmlChannelConfiguration.CHANNEL_ID);
+        if (channelId != null) {
+            channelIds.remove(channelId);
+        }
+    }
+
+    /**
+     * Returns the channels declared in the XMLTV file.
+     */
+    public List<MediaChannel> getMediaChannels() {
+        return mediaChannels;
     }
 
+    /**
+     * Returns the programmes of the channel which haven't finished yet, the current programme first.
+     *
+     * @param channelId the id of the channel
+     * @param count the maximum number of programmes to return
+     * @return the programmes or null if the programmes of the channel haven't been loaded
+     */
+    public @Nullable List<Programme> getProgrammes(String channelId, int count) {
+        ProgrammeIndex index = programmeIndexes.get(channelId);
+        return index != null ? index.getProgrammes(Instant.now(), count) : null;
+    }
+
+    private synchronized void reload(String filePath) {
+        File file = new File(filePath);
+        // a source which isn't a local file is always read again
+        boolean fileChanged = !file.isFile() || file.lastModified() != fileLastModified
+                || file.length() != fileLength;
+
+        synchronized (channelLoadLock) {
+            // channels added from now on are not part of this reload and schedule another one
+            channelLoadPending = false;
+        }
+        Set<String> wantedChannelIds = new HashSet<>(channelIds);
+        Map<String, ProgrammeIndex> indexes = new HashMap<>();
+        Instant now = Instant.now();
+        if (!fileChanged) {
+            programmeIndexes.forEach((channelId, index) -> {
+                if (wantedChannelIds.contains(channelId)) {
+                    indexes.put(channelId, index.withoutFinishedProgrammes(now));
+                }
+            });
+        }
+        Set<String> loadChannelIds = new HashSet<>(wantedChannelIds);
+        loadChannelIds.removeAll(indexes.keySet());
+
+        if (fileChanged || !loadChannelIds.isEmpty()) {
+            logger.debug("Loading {} for channels {}", filePath, loadChannelIds);
+            long lastModified = file.lastModified();
+            long length = file.length();
+            if (!load(filePath, fileChanged, loadChannelIds, indexes)) {
+                return;
+            }
+            fileLastModified = lastModified;
+            fileLength = length;
+        }
+        programmeIndexes = indexes;
+    }
+
+    private boolean load(String filePath, boolean loadMediaChannels, Set<String> loadChannelIds,
+            Map<String, ProgrammeIndex> indexes) {
+        List<MediaChannel> channels = new ArrayList<>();
+        Map<String, List<Programme>> programmes = new HashMap<>();
+        loadChannelIds.forEach(channelId -> programmes.put(channelId, new ArrayList<>()));
+        long now = System.currentTimeMillis();
+        boolean outdated = true;
+
+        XMLStreamReader xsr = null;
+        try {
+            // This can take some seconds depending upon weight of the XmlTV source file
+            xsr = xif.createXMLStreamReader(new StreamSource(filePath));
+            Unmarshaller unmarshaller = jc.createUnmarshaller();
+
+            while (xsr.hasNext()) {
+                if (xsr.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                    String name = xsr.getLocalName();
+                    if (ELEMENT_PROGRAMME.equals(name)) {
+                        String channelId = xsr.getAttributeValue(null, ATTRIBUTE_CHANNEL);
+                        if (outdated && loadMediaChannels) {
+                            outdated = !isRunningOrFuture(xsr.getAttributeValue(null, ATTRIBUTE_STOP), now);
+                        }
+                        List<Programme> channelProgrammes = channelId != null ? programmes.get(channelId.trim())
+                                : null;
+                        if (channelProgrammes != null) {
+                            Programme programme = unmarshaller.unmarshal(xsr, Programme.class).getValue();
+                            addProgramme(channelProgrammes, programme, now);
+                            continue;
+                        }
+                        skipElement(xsr);
+                    } else if (ELEMENT_CHANNEL.equals(name) && loadMediaChannels) {
+                        channels.add(unmarshaller.unmarshal(xsr, MediaChannel.class).getValue());
+                        continue;
+                    }
+                }
+                xsr.next();
+            }
+        } catch (JAXBException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.HANDLER_INITIALIZING_ERROR, e.getMessage());
+            return false;
+        } catch (XMLStreamException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return false;
+        } finally {
+            try {
+                if (xsr != null) {
+                    xsr.close();
+                }
+            } catch (XMLStreamException e) {
+                logger.debug("Closing the XMLTV file failed: {}", e.getMessage());
+            }
+        }
+
+        programmes.forEach((channelId, channelProgrammes) -> indexes.put(channelId,
+                channelProgrammes.isEmpty() ? ProgrammeIndex.EMPTY : new ProgrammeIndex(channelProgrammes)));
+
+        if (loadMediaChannels) {
+            mediaChannels = channels;
+            if (outdated) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.DISABLED, "XMLTV file seems outdated");
+            } else {
+                // Ready to deliver data to ChannelHandlers
+                updateStatus(ThingStatus.ONLINE);
+            }
+        }
+        return true;
+    }
+
+    private void addProgramme(List<Programme> programmes, Programme programme, long now) {
+        try {
+            // finished programmes are not kept
+            if (programme.getProgrammeStop().toEpochMilli() > now) {
+                programme.getProgrammeStart();
+                programmes.add(programme);
+            }
+        } catch (DateTimeParseException e) {
+            logger.debug("Ignoring programme of channel '{}' with invalid date: {}", programme.getChannel(),
+                    e.getMessage());
+        }
+    }
+
+    private boolean isRunningOrFuture(@Nullable String stop, long now) {
+        try {
+            return stop != null && Programme.iso860DateToEpoch(stop) > now;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private void skipElement(XMLStreamReader xsr) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && xsr.hasNext()) {
+            int event = xsr.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
 }
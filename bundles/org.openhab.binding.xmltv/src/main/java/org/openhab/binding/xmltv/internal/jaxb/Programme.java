@@ -22,11 +22,13 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * Java class for a programme XML element
@@ -58,6 +60,13 @@ public class Programme {
     @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
     protected String channel = "";
 
+    // parsed dates, as they are needed for every lookup of the current programme
+    @XmlTransient
+    private @Nullable Instant programmeStart;
+
+    @XmlTransient
+    private @Nullable Instant programmeStop;
+
     public List<WithLangType> getTitles() {
         return titles;
     }
@@ -67,16 +76,27 @@ public class Programme {
     }
 
     public Instant getProgrammeStart() {
-        long epoch = iso860DateToEpoch(start);
-        return Instant.ofEpochMilli(epoch);
+        Instant instant = programmeStart;
+        if (instant == null) {
+            instant = Instant.ofEpochMilli(iso860DateToEpoch(start));
+            programmeStart = instant;
+        }
+        return instant;
     }
 
     public Instant getProgrammeStop() {
-        long epoch = iso860DateToEpoch(stop);
-        return Instant.ofEpochMilli(epoch);
+        Instant instant = programmeStop;
+        if (instant == null) {
+            instant = Instant.ofEpochMilli(iso860DateToEpoch(stop));
+            programmeStop = instant;
+        }
+        return instant;
     }
 
-    private long iso860DateToEpoch(String date) {
+    /**
+     * Converts a date of an XMLTV file to milliseconds since the epoch.
+     */
+    public static long iso860DateToEpoch(String date) {
         long epoch = ZonedDateTime.parse(date, XMLTV_DATE_FORMAT).toInstant().toEpochMilli();
         return epoch;
     }
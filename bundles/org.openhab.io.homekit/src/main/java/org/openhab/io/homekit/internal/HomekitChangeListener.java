@@ -15,13 +15,16 @@ package org.openhab.io.homekit.internal;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
 import org.eclipse.smarthome.core.items.ItemRegistry;
@@ -48,6 +51,13 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private Set<String> pendingUpdates = new HashSet<String>();
 
+    /**
+     * Reverse index from the names of the items used by root accessories to the names of these root accessories, so an
+     * item change only rebuilds the accessories it belongs to.
+     */
+    private final Map<String, Set<String>> rootAccessoriesByItem = new HashMap<>();
+    private final Map<String, Set<String>> itemsByRootAccessory = new HashMap<>();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -68,8 +78,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 Clock.systemUTC(), this::applyUpdates);
 
         itemRegistry.addRegistryChangeListener(this);
-        itemRegistry.getAll().stream().map(item -> new HomekitTaggedItem(item, itemRegistry))
-                .filter(taggedItem -> taggedItem.isAccessory())
+        createRootAccessories();
+    }
+
+    private synchronized void createRootAccessories() {
+        itemRegistry.getAll().stream().filter(item -> !item.getTags().isEmpty())
+                .map(item -> new HomekitTaggedItem(item, itemRegistry)).filter(taggedItem -> taggedItem.isAccessory())
                 .filter(taggedItem -> !taggedItem.isMemberOfAccessoryGroup())
                 .forEach(rootTaggedItem -> createRootAccessory(rootTaggedItem));
     }
@@ -80,8 +94,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public void allItemsChanged(Collection<String> oldItemNames) {
+    public synchronized void allItemsChanged(Collection<String> oldItemNames) {
         clearAccessories();
+        pendingUpdates.clear();
+        createRootAccessories();
     }
 
     /**
@@ -92,6 +108,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      */
     private synchronized void markDirty(Item item) {
         pendingUpdates.add(item.getName());
+        Set<String> rootAccessories = rootAccessoriesByItem.get(item.getName());
+        if (rootAccessories != null) {
+            pendingUpdates.addAll(rootAccessories);
+        }
         /*
          * If findMyAccessoryGroups fails because the accessory group has already been deleted, then we can count on a
          * later update telling us that the accessory group was removed.
@@ -121,7 +141,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
         while (iter.hasNext()) {
             String name = iter.next();
-            accessoryRegistry.remove(name);
+            iter.remove();
+            removeRootAccessory(name);
 
             getItemOptional(name).map(i -> new HomekitTaggedItem(i, itemRegistry))
                     .filter(i -> i.isAccessory() && !i.isMemberOfAccessoryGroup())
@@ -129,14 +150,36 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
+    /**
+     * Even if nothing the accessory is built from changed, the accessory has to be rebuilt, as it has to be bound to
+     * the new item instance. Thanks to the reverse index only the accessories using the item are rebuilt.
+     */
     @Override
-    public void updated(Item oldElement, Item element) {
+    public synchronized void updated(Item oldElement, Item element) {
         markDirty(oldElement);
         markDirty(element);
     }
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        rootAccessoriesByItem.clear();
+        itemsByRootAccessory.clear();
+    }
+
+    private void removeRootAccessory(String name) {
+        accessoryRegistry.remove(name);
+        Set<String> itemNames = itemsByRootAccessory.remove(name);
+        if (itemNames != null) {
+            for (String itemName : itemNames) {
+                Set<String> rootAccessories = rootAccessoriesByItem.get(itemName);
+                if (rootAccessories != null) {
+                    rootAccessories.remove(name);
+                    if (rootAccessories.isEmpty()) {
+                        rootAccessoriesByItem.remove(itemName);
+                    }
+                }
+            }
+        }
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
@@ -169,6 +212,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             logger.debug("Adding homekit device {}", taggedItem.getItem().getUID());
             accessoryRegistry.addRootAccessory(taggedItem.getName(),
                     HomekitAccessoryFactory.create(taggedItem, itemRegistry, updater, settings));
+            Set<String> itemNames = new HashSet<>();
+            itemNames.add(taggedItem.getName());
+            if (taggedItem.getItem() instanceof GroupItem) {
+                for (Item member : ((GroupItem) taggedItem.getItem()).getMembers()) {
+                    itemNames.add(member.getName());
+                }
+            }
+            for (String itemName : itemNames) {
+                rootAccessoriesByItem.computeIfAbsent(itemName, n -> new HashSet<>()).add(taggedItem.getName());
+            }
+            itemsByRootAccessory.put(taggedItem.getName(), itemNames);
             logger.debug("Added homekit device {}", taggedItem.getItem().getUID());
         } catch (HomekitException | IncompleteAccessoryException e) {
             logger.warn("Could not add device {}: {}", taggedItem.getItem().getUID(), e.getMessage());
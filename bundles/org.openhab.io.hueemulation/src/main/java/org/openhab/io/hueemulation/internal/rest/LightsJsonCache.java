@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal.rest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.ws.rs.core.EntityTag;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized JSON of every {@link HueLightEntry} and of the complete light collection.
+ * <p>
+ * The JSON of a light only depends on the associated item, its state and its label. Those are compared by identity on
+ * every access, which is a lot cheaper than running the gson serializer. A light is only serialized again if one of
+ * them has been replaced. The collection snapshot and its {@link EntityTag} are rebuilt only if at least one light
+ * changed or lights have been added or removed.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class LightsJsonCache {
+    /**
+     * A serialized light collection together with its entity tag
+     */
+    public static class Snapshot {
+        public final String json;
+        public final EntityTag tag;
+
+        Snapshot(String json) {
+            this.json = json;
+            this.tag = tagOf(json);
+        }
+    }
+
+    private static class CachedLight {
+        final HueLightEntry entry;
+        final GenericItem item;
+        final State state;
+        final @Nullable String label;
+        final String json;
+
+        CachedLight(HueLightEntry entry, Gson gson) {
+            // capture the item data before serializing, so that a concurrent change invalidates this entry
+            this.entry = entry;
+            this.item = entry.item;
+            this.state = item.getState();
+            this.label = item.getLabel();
+            this.json = gson.toJson(entry);
+        }
+
+        boolean isValidFor(HueLightEntry entry) {
+            GenericItem item = entry.item;
+            return this.entry == entry && this.item == item && this.state == item.getState()
+                    && this.label == item.getLabel();
+        }
+    }
+
+    private final Gson gson;
+    private final Map<String, CachedLight> lights = new HashMap<>();
+    private @Nullable Snapshot allLightsSnapshot;
+
+    public LightsJsonCache(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Returns the JSON of a single light, serializing it only if it changed since the last call.
+     *
+     * @param hueID The hue ID of the light
+     * @param entry The light
+     * @return The serialized light
+     */
+    public synchronized String getLight(String hueID, HueLightEntry entry) {
+        CachedLight cached = lights.get(hueID);
+        if (cached == null || !cached.isValidFor(entry)) {
+            cached = new CachedLight(entry, gson);
+            lights.put(hueID, cached);
+            allLightsSnapshot = null;
+        }
+        return cached.json;
+    }
+
+    /**
+     * Returns the JSON of the given light collection. Only changed lights are serialized again and the collection
+     * snapshot is only rebuilt if at least one light changed.
+     *
+     * @param allLights All lights, keyed by hue ID
+     * @return The serialized collection and its entity tag
+     */
+    public synchronized Snapshot getAllLights(Map<String, HueLightEntry> allLights) {
+        refresh(allLights);
+        Snapshot snapshot = allLightsSnapshot;
+        if (snapshot == null) {
+            StringBuilder builder = new StringBuilder("{");
+            for (Entry<String, HueLightEntry> entry : allLights.entrySet()) {
+                if (builder.length() > 1) {
+                    builder.append(',');
+                }
+                builder.append(gson.toJson(entry.getKey())).append(':')
+                        .append(getLight(entry.getKey(), entry.getValue()));
+            }
+            snapshot = new Snapshot(builder.append('}').toString());
+            allLightsSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Computes the entity tag for the given JSON document.
+     */
+    public static EntityTag tagOf(String json) {
+        return new EntityTag(Integer.toHexString(json.hashCode()) + "-" + Integer.toHexString(json.length()));
+    }
+
+    private void refresh(Map<String, HueLightEntry> allLights) {
+        if (lights.size() != allLights.size() || !lights.keySet().containsAll(allLights.keySet())) {
+            lights.keySet().retainAll(allLights.keySet());
+            allLightsSnapshot = null;
+        }
+        for (Entry<String, HueLightEntry> entry : allLights.entrySet()) {
+            getLight(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -13,17 +13,21 @@
 package org.openhab.io.imperihome.internal.handler;
 
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.persistence.FilterCriteria;
+import org.eclipse.smarthome.core.persistence.FilterCriteria.Ordering;
 import org.eclipse.smarthome.core.persistence.HistoricItem;
 import org.eclipse.smarthome.core.persistence.PersistenceService;
 import org.eclipse.smarthome.core.persistence.PersistenceServiceRegistry;
@@ -38,6 +42,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Device history request handler.
+ * <p>
+ * The history is read page by page and downsampled to at most {@link #MAX_HISTORY_ITEMS} values, by averaging the
+ * values within equally sized time buckets. Recent responses are cached shortly, as the client requests the same
+ * graph repeatedly. The requested time range is widened to whole minutes, so repeated requests for a graph ending
+ * 'now' share the cached response.
  *
  * @author Pepijn de Geus - Initial contribution
  */
@@ -45,11 +54,27 @@ public class DeviceHistoryHandler {
 
     private static final String CHARSET = "UTF-8";
 
+    private static final int MAX_HISTORY_ITEMS = 500;
+    private static final int QUERY_PAGE_SIZE = 10000;
+    private static final int MAX_QUERY_PAGES = 100;
+    private static final int MAX_CACHED_RESPONSES = 20;
+    private static final long CACHE_EXPIRY_MS = 60 * 1000;
+    private static final long TIME_RANGE_STEP_MS = 60 * 1000;
+
     private final Logger logger = LoggerFactory.getLogger(DeviceHistoryHandler.class);
 
     private final DeviceRegistry deviceRegistry;
     private final PersistenceServiceRegistry persistenceServiceRegistry;
 
+    private final Map<String, CachedHistory> cache = new LinkedHashMap<String, CachedHistory>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedHistory> eldest) {
+            return size() > MAX_CACHED_RESPONSES;
+        }
+    };
+
     public DeviceHistoryHandler(DeviceRegistry deviceRegistry, PersistenceServiceRegistry persistenceServiceRegistry) {
         this.deviceRegistry = deviceRegistry;
         this.persistenceServiceRegistry = persistenceServiceRegistry;
@@ -66,6 +91,8 @@ public class DeviceHistoryHandler {
         } catch (UnsupportedEncodingException | NumberFormatException e) {
             throw new RuntimeException("Could not decode request params", e);
         }
+        start -= Math.floorMod(start, TIME_RANGE_STEP_MS);
+        end += Math.floorMod(-end, TIME_RANGE_STEP_MS);
 
         logger.debug("History request for device {}, field {}: {}-{}", deviceId, field, start, end);
 
@@ -85,39 +112,133 @@ public class DeviceHistoryHandler {
             return null;
         }
 
-        return serveHistory(device, (QueryablePersistenceService) persistence, start, end);
+        String cacheKey = persistence.getId() + '/' + deviceId + '/' + field + '/' + start + '/' + end;
+        synchronized (cache) {
+            CachedHistory cached = cache.get(cacheKey);
+            if (cached != null && cached.expiry > System.currentTimeMillis()) {
+                logger.debug("Serving cached history of Item {}", device.getItemName());
+                return cached.historyList;
+            }
+        }
+
+        HistoryList historyList = serveHistory(device, (QueryablePersistenceService) persistence, start, end);
+        synchronized (cache) {
+            cache.put(cacheKey, new CachedHistory(historyList, System.currentTimeMillis() + CACHE_EXPIRY_MS));
+        }
+        return historyList;
     }
 
     private HistoryList serveHistory(AbstractDevice device, QueryablePersistenceService persistence, long start,
             long end) {
         logger.info("Querying persistence for history of Item {}, from {} to {}", device.getItemName(), start, end);
 
-        FilterCriteria criteria = new FilterCriteria().setItemName(device.getItemName()).setBeginDate(new Date(start))
-                .setEndDate(new Date(end));
-
-        List<HistoryItem> resultItems = new LinkedList<>();
-        Iterable<HistoricItem> historicItems = persistence.query(criteria);
+        HistoryBucket bucket = new HistoryBucket(Math.max(1, (end - start) / MAX_HISTORY_ITEMS));
+        List<HistoryItem> resultItems = new ArrayList<>();
+        int historicItemCount = 0;
+        long lastTimestamp = Long.MIN_VALUE;
+        long newestTimestamp = Long.MIN_VALUE;
+
+        // persistence services without paging support return all items on every page, so stop as soon as a page
+        // doesn't advance in time
+        for (int pageNumber = 0;; pageNumber++) {
+            if (pageNumber == MAX_QUERY_PAGES) {
+                logger.warn("History of Item {} exceeds {} pages; ignoring the remainder", device.getItemName(),
+                        MAX_QUERY_PAGES);
+                break;
+            }
+            FilterCriteria criteria = new FilterCriteria().setItemName(device.getItemName())
+                    .setBeginDate(new Date(start)).setEndDate(new Date(end)).setOrdering(Ordering.ASCENDING)
+                    .setPageSize(QUERY_PAGE_SIZE).setPageNumber(pageNumber);
 
-        Iterator<HistoricItem> iterator = historicItems.iterator();
-        if (!iterator.hasNext()) {
-            logger.info("Persistence returned no results for history query");
-        } else {
+            int pageCount = 0;
+            long pageStartTimestamp = newestTimestamp;
+            Iterator<HistoricItem> iterator = persistence.query(criteria).iterator();
             while (iterator.hasNext()) {
                 HistoricItem historicItem = iterator.next();
+                pageCount++;
+                long timestamp = historicItem.getTimestamp().getTime();
+                newestTimestamp = Math.max(newestTimestamp, timestamp);
                 State state = historicItem.getState();
-                if (state instanceof DecimalType) {
-                    Number value = ((DecimalType) state).toBigDecimal();
-                    resultItems.add(new HistoryItem(historicItem.getTimestamp(), value));
+                if (timestamp <= lastTimestamp || !(state instanceof DecimalType)) {
+                    continue;
                 }
+                lastTimestamp = timestamp;
+                historicItemCount++;
+                if (!bucket.contains(timestamp)) {
+                    bucket.flush(resultItems);
+                    bucket.start(timestamp - Math.floorMod(timestamp - start, bucket.size));
+                }
+                bucket.add(timestamp, ((DecimalType) state).toBigDecimal());
             }
-
-            if (resultItems.isEmpty()) {
-                logger.warn(
-                        "Persistence returned results for history query, but could not be interpreted as DecimalTypes");
+            if (pageCount != QUERY_PAGE_SIZE || newestTimestamp == pageStartTimestamp) {
+                break;
             }
         }
+        bucket.flush(resultItems);
+
+        if (lastTimestamp == Long.MIN_VALUE) {
+            logger.info("Persistence returned no results for history query which could be interpreted as DecimalTypes");
+        } else {
+            logger.debug("Downsampled {} historic items of Item {} to {}", historicItemCount, device.getItemName(),
+                    resultItems.size());
+        }
 
         return new HistoryList(resultItems);
     }
 
+    /**
+     * Aggregates the values of one time bucket.
+     */
+    private static class HistoryBucket {
+        private final long size;
+        private long start = Long.MIN_VALUE;
+        private int count;
+        private long timestampSum;
+        private double valueSum;
+        private BigDecimal firstValue;
+
+        HistoryBucket(long size) {
+            this.size = size;
+        }
+
+        boolean contains(long timestamp) {
+            return count > 0 && timestamp >= start && timestamp - start < size;
+        }
+
+        void start(long start) {
+            this.start = start;
+        }
+
+        void add(long timestamp, BigDecimal value) {
+            if (count == 0) {
+                firstValue = value;
+            }
+            count++;
+            timestampSum += timestamp - start;
+            valueSum += value.doubleValue();
+        }
+
+        void flush(List<HistoryItem> resultItems) {
+            if (count == 1) {
+                resultItems.add(new HistoryItem(start + timestampSum, firstValue));
+            } else if (count > 1) {
+                resultItems.add(new HistoryItem(start + timestampSum / count, valueSum / count));
+            }
+            count = 0;
+            timestampSum = 0;
+            valueSum = 0;
+            firstValue = null;
+        }
+    }
+
+    private static class CachedHistory {
+        private final HistoryList historyList;
+        private final long expiry;
+
+        CachedHistory(HistoryList historyList, long expiry) {
+            this.historyList = historyList;
+            this.expiry = expiry;
+        }
+    }
+
 }
@@ -22,16 +22,19 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Request.FailureListener;
 import org.eclipse.jetty.client.api.Response;
-import org.eclipse.jetty.client.api.Response.ContentListener;
+import org.eclipse.jetty.client.api.Response.AsyncContentListener;
 import org.eclipse.jetty.client.api.Response.HeadersListener;
 import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BytesContentProvider;
@@ -39,7 +42,7 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
 import org.eclipse.jetty.util.URIUtil;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.json.JSONException;
@@ -53,6 +56,7 @@ import io.socket.client.Manager;
 import io.socket.client.Socket;
 import io.socket.emitter.Emitter;
 import io.socket.engineio.client.Transport;
+import io.socket.thread.EventThread;
 
 /**
  * This class provides communication between openHAB and the openHAB Cloud service.
@@ -97,10 +101,57 @@ public class CloudClient {
      */
     private final HttpClient jettyClient;
 
+    /*
+     * Maximum number of HTTP requests to local openHAB which are running at the same time, further requests are
+     * queued
+     */
+    private static final int MAX_CONCURRENT_REQUESTS = 8;
+
+    /*
+     * Response content is collected into chunks of this size before it is sent to the openHAB Cloud
+     */
+    private static final int RESPONSE_CHUNK_SIZE = 32 * 1024;
+
+    /*
+     * Maximum time in milliseconds response content is held back to collect a larger chunk
+     */
+    private static final long RESPONSE_FLUSH_DELAY = 10;
+
+    private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
+
     /*
      * This hashmap holds HTTP requests to local openHAB which are currently running
      */
-    private HashMap<Integer, Request> runningRequests;
+    private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<Integer, Request>();
+
+    /*
+     * This hashmap holds HTTP requests to local openHAB which wait for a running request to finish, guarded by itself
+     */
+    private final Map<Integer, ResponseListener> queuedRequests = new LinkedHashMap<Integer, ResponseListener>();
+    private int activeRequestCount;
+
+    /*
+     * Updates of exposed items are collected for this time in milliseconds, so rapid updates are coalesced
+     */
+    private static final long ITEM_UPDATE_DELAY = 100;
+
+    /*
+     * This hashmap holds the latest state of exposed items which still has to be sent, guarded by itself
+     */
+    private final Map<String, String> pendingItemUpdates = new LinkedHashMap<String, String>();
+
+    /*
+     * This hashmap holds the time the last update of an exposed item was sent, guarded by pendingItemUpdates
+     */
+    private final Map<String, Long> itemUpdateTimes = new HashMap<String, Long>();
+    private ScheduledFuture<?> itemUpdateJob;
+    private long itemUpdatesReceived;
+    private long itemUpdatesSent;
+
+    /*
+     * Minimum time in milliseconds between two updates of the same item sent to the openHAB Cloud
+     */
+    private final long itemUpdateInterval;
 
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
@@ -138,16 +189,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateInterval Minimum time in milliseconds between two updates of the same exposed item
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, long itemUpdateInterval) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
-        runningRequests = new HashMap<Integer, Request>();
+        this.itemUpdateInterval = itemUpdateInterval;
         this.jettyClient = httpClient;
     }
 
@@ -242,8 +294,9 @@ public class CloudClient {
                 this.localBaseUrl);
         isConnected = false;
         // And clean up the list of running requests
-        if (runningRequests != null) {
-            runningRequests.clear();
+        runningRequests.clear();
+        synchronized (queuedRequests) {
+            queuedRequests.clear();
         }
     }
 
@@ -293,22 +346,19 @@ public class CloudClient {
             // Get JSONObject for request query parameters
             JSONObject requestQueryJson = data.getJSONObject("query");
             // Create URI builder with base request URI of openHAB and path from request
-            String newPath = URIUtil.addPaths(localBaseUrl, requestPath);
+            StringBuilder newPath = new StringBuilder(URIUtil.addPaths(localBaseUrl, requestPath));
             @SuppressWarnings("unchecked")
             Iterator<String> queryIterator = requestQueryJson.keys();
             // Add query parameters to URI builder, if any
-            newPath += "?";
+            char separator = '?';
             while (queryIterator.hasNext()) {
                 String queryName = queryIterator.next();
-                newPath += queryName;
-                newPath += "=";
-                newPath += URLEncoder.encode(requestQueryJson.getString(queryName), "UTF-8");
-                if (queryIterator.hasNext()) {
-                    newPath += "&";
-                }
+                newPath.append(separator).append(queryName).append('=')
+                        .append(URLEncoder.encode(requestQueryJson.getString(queryName), "UTF-8"));
+                separator = '&';
             }
             // Finally get the future request URI
-            URI requestUri = new URI(newPath);
+            URI requestUri = new URI(newPath.toString());
             // All preparations which are common for different methods are done
             // Now perform the request to openHAB
             // If method is GET
@@ -334,16 +384,42 @@ public class CloudClient {
                 logger.warn("Unsupported request method {}", requestMethod);
                 return;
             }
-            ResponseListener listener = new ResponseListener(requestId);
-            request.onResponseHeaders(listener).onResponseContent(listener).onRequestFailure(listener).send(listener);
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
-            runningRequests.put(requestId, request);
+            ResponseListener listener = new ResponseListener(requestId, request);
+            request.onResponseHeaders(listener).onResponseContentAsync(listener).onRequestFailure(listener);
+            startRequest(listener);
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    private void startRequest(ResponseListener listener) {
+        synchronized (queuedRequests) {
+            if (activeRequestCount >= MAX_CONCURRENT_REQUESTS) {
+                logger.debug("Queued request {}, {} requests are running", listener.mRequestId, activeRequestCount);
+                queuedRequests.put(listener.mRequestId, listener);
+                return;
+            }
+            activeRequestCount++;
+        }
+        listener.send();
+    }
+
+    private void requestFinished() {
+        ResponseListener next = null;
+        synchronized (queuedRequests) {
+            Iterator<ResponseListener> iterator = queuedRequests.values().iterator();
+            if (iterator.hasNext()) {
+                next = iterator.next();
+                iterator.remove();
+            } else {
+                activeRequestCount--;
+            }
+        }
+        if (next != null) {
+            next.send();
+        }
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         @SuppressWarnings("unchecked")
         Iterator<String> headersIterator = requestHeadersJson.keys();
@@ -367,11 +443,15 @@ public class CloudClient {
         try {
             int requestId = data.getInt("id");
             logger.debug("Received cancel for request {}", requestId);
-            // Find and abort running request
-            if (runningRequests.containsKey(requestId)) {
-                Request request = runningRequests.get(requestId);
+            // Drop queued request or find and abort running request
+            synchronized (queuedRequests) {
+                if (queuedRequests.remove(requestId) != null) {
+                    return;
+                }
+            }
+            Request request = runningRequests.remove(requestId);
+            if (request != null) {
                 request.abort(new InterruptedException());
-                runningRequests.remove(requestId);
             }
         } catch (JSONException e) {
             logger.debug("{}", e.getMessage());
@@ -477,20 +557,68 @@ public class CloudClient {
      */
     public void sendItemUpdate(String itemName, String itemState) {
         if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
+            synchronized (pendingItemUpdates) {
+                itemUpdatesReceived++;
+                if (pendingItemUpdates.put(itemName, itemState) != null) {
+                    logger.trace("Coalesced update '{}' for item '{}'", itemState, itemName);
+                }
+                if (itemUpdateJob == null) {
+                    itemUpdateJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD)
+                            .schedule(this::sendPendingItemUpdates, ITEM_UPDATE_DELAY, TimeUnit.MILLISECONDS);
+                }
             }
         } else {
             logger.debug("No connection, Item update is not sent");
         }
     }
 
+    /**
+     * Sends the latest state of all updated items, which haven't been sent within the item update interval, and
+     * schedules the remaining updates.
+     */
+    private void sendPendingItemUpdates() {
+        synchronized (pendingItemUpdates) {
+            itemUpdateJob = null;
+            long now = System.currentTimeMillis();
+            long nextUpdate = Long.MAX_VALUE;
+            Iterator<Map.Entry<String, String>> iterator = pendingItemUpdates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, String> update = iterator.next();
+                Long lastUpdate = itemUpdateTimes.get(update.getKey());
+                if (lastUpdate != null && now - lastUpdate < itemUpdateInterval) {
+                    nextUpdate = Math.min(nextUpdate, lastUpdate + itemUpdateInterval);
+                    continue;
+                }
+                iterator.remove();
+                if (isConnected()) {
+                    itemUpdateTimes.put(update.getKey(), now);
+                    emitItemUpdate(update.getKey(), update.getValue());
+                    itemUpdatesSent++;
+                }
+            }
+            if (nextUpdate != Long.MAX_VALUE) {
+                itemUpdateJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(
+                        this::sendPendingItemUpdates, Math.max(ITEM_UPDATE_DELAY, nextUpdate - now),
+                        TimeUnit.MILLISECONDS);
+            }
+            // forget items which couldn't be coalesced with a pending update anyway
+            itemUpdateTimes.values().removeIf(lastUpdate -> now - lastUpdate >= itemUpdateInterval);
+            logger.trace("Sent {} of {} received item updates", itemUpdatesSent, itemUpdatesReceived);
+        }
+    }
+
+    private void emitItemUpdate(String itemName, String itemState) {
+        logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+        JSONObject itemUpdateMessage = new JSONObject();
+        try {
+            itemUpdateMessage.put("itemName", itemName);
+            itemUpdateMessage.put("itemStatus", itemState);
+            socket.emit("itemupdate", itemUpdateMessage);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
     /**
      * Returns true if openHAB Cloud connection is active
      */
@@ -503,6 +631,14 @@ public class CloudClient {
      */
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
+        synchronized (pendingItemUpdates) {
+            if (itemUpdateJob != null) {
+                itemUpdateJob.cancel(false);
+                itemUpdateJob = null;
+            }
+            pendingItemUpdates.clear();
+            logger.debug("Sent {} of {} received item updates", itemUpdatesSent, itemUpdatesReceived);
+        }
         socket.disconnect();
     }
 
@@ -519,17 +655,31 @@ public class CloudClient {
     }
 
     /*
-     * An internal class which forwards response headers and data back to the openHAB Cloud
+     * An internal class which forwards response headers and data back to the openHAB Cloud.
+     * Small pieces of content are collected into larger chunks. The next content is only requested from Jetty after
+     * the previous chunk has been handed over to the Socket.IO event thread, which limits the data buffered per
+     * request.
      */
     private class ResponseListener
-            implements Response.CompleteListener, HeadersListener, ContentListener, FailureListener {
+            implements Response.CompleteListener, HeadersListener, AsyncContentListener, FailureListener {
 
-        private static final String THREADPOOL_OPENHABCLOUD = "openhabcloud";
         private int mRequestId;
+        private final Request mRequest;
         private boolean mHeadersSent = false;
+        private byte[] mChunk;
+        private int mChunkLength;
+        private ScheduledFuture<?> mFlushJob;
 
-        public ResponseListener(int requestId) {
+        public ResponseListener(int requestId, Request request) {
             mRequestId = requestId;
+            mRequest = request;
+        }
+
+        public void send() {
+            // If successfully submitted request to http client, add it to the list of currently
+            // running requests to be able to cancel it if needed
+            runningRequests.put(mRequestId, mRequest);
+            mRequest.send(this);
         }
 
         private JSONObject getJSONHeaders(HttpFields httpFields) {
@@ -548,6 +698,7 @@ public class CloudClient {
         public void onComplete(Result result) {
             // Remove this request from list of running requests
             runningRequests.remove(mRequestId);
+            requestFinished();
             if ((result != null && result.isFailed())
                     && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                 if (result.getFailure() != null) {
@@ -560,6 +711,7 @@ public class CloudClient {
                     logger.warn("Response Failure: {}", result.getResponseFailure().getMessage());
                 }
             }
+            flushContent();
 
             /**
              * What is this? In some cases where latency is very low the myopenhab service
@@ -591,14 +743,50 @@ public class CloudClient {
         }
 
         @Override
-        public void onContent(Response response, ByteBuffer content) {
+        public void onContent(Response response, ByteBuffer content, Callback callback) {
             logger.debug("Jetty received response content of size {}", String.valueOf(content.remaining()));
+            synchronized (this) {
+                while (content.hasRemaining()) {
+                    if (mChunk == null) {
+                        mChunk = new byte[RESPONSE_CHUNK_SIZE];
+                        mChunkLength = 0;
+                    }
+                    int length = Math.min(content.remaining(), mChunk.length - mChunkLength);
+                    content.get(mChunk, mChunkLength, length);
+                    mChunkLength += length;
+                    if (mChunkLength == mChunk.length) {
+                        emitContent(mChunk);
+                        mChunk = null;
+                    }
+                }
+                if (mChunk != null && mFlushJob == null) {
+                    mFlushJob = ThreadPoolManager.getScheduledPool(THREADPOOL_OPENHABCLOUD).schedule(this::flushContent,
+                            RESPONSE_FLUSH_DELAY, TimeUnit.MILLISECONDS);
+                }
+            }
+            // demand more content after the emitted chunks have been processed by the event thread
+            EventThread.exec(callback::succeeded);
+        }
+
+        private synchronized void flushContent() {
+            if (mFlushJob != null) {
+                mFlushJob.cancel(false);
+                mFlushJob = null;
+            }
+            if (mChunk != null) {
+                emitContent(mChunkLength == mChunk.length ? mChunk : Arrays.copyOf(mChunk, mChunkLength));
+                mChunk = null;
+            }
+        }
+
+        private void emitContent(byte[] body) {
             JSONObject responseJson = new JSONObject();
             try {
                 responseJson.put("id", mRequestId);
-                responseJson.put("body", BufferUtil.toArray(content));
+                // byte arrays are sent by Socket.IO as binary attachment
+                responseJson.put("body", body);
                 socket.emit("responseContentBinary", responseJson);
-                logger.debug("Sent content to request {}", mRequestId);
+                logger.debug("Sent content of size {} to request {}", body.length, mRequestId);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
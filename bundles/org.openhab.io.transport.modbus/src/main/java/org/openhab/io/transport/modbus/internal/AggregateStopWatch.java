@@ -34,6 +34,11 @@ public class AggregateStopWatch {
      */
     final SimpleStopWatch total = new SimpleStopWatch();
 
+    /**
+     * Time a poll waited for pending writes to the same endpoint
+     */
+    final SimpleStopWatch writePriority = new SimpleStopWatch();
+
     /**
      * Time for connection related actions
      */
@@ -57,7 +62,8 @@ public class AggregateStopWatch {
      * Suspend all running stopwatches of this aggregate
      */
     public void suspendAllRunning() {
-        for (SimpleStopWatch watch : new SimpleStopWatch[] { total, connection, transaction, callback }) {
+        for (SimpleStopWatch watch : new SimpleStopWatch[] { total, writePriority, connection, transaction,
+                callback }) {
             if (watch.isRunning()) {
                 watch.suspend();
             }
@@ -66,7 +72,8 @@ public class AggregateStopWatch {
 
     @Override
     public String toString() {
-        return String.format("{total: %d ms, connection: %d, transaction=%d, callback=%d}", total.getTotalTimeMillis(),
-                connection.getTotalTimeMillis(), transaction.getTotalTimeMillis(), callback.getTotalTimeMillis());
+        return String.format("{total: %d ms, writePriority: %d, connection: %d, transaction=%d, callback=%d}",
+                total.getTotalTimeMillis(), writePriority.getTotalTimeMillis(), connection.getTotalTimeMillis(),
+                transaction.getTotalTimeMillis(), callback.getTotalTimeMillis());
     }
 }
@@ -99,13 +99,18 @@ public class ModbusManagerImpl implements ModbusManager {
          *
          * All errors should be raised. There should not be any retry mechanism implemented at this level
          *
+         * The callback is not called by the operation, it is returned instead. This way the callback can be called
+         * after the connection has been returned to the pool, and slow callbacks do not block other operations to the
+         * same endpoint.
+         *
          * @param timer aggregate stop watch for performance profiling
          * @param task task to execute
          * @param connection connection to use
+         * @return action calling the callback with the response, or null if the task has no callback
          * @throws Exception on IO errors, slave exception responses, and when transaction IDs of the request and
          *             response do not match
          */
-        public void accept(AggregateStopWatch timer, T task, ModbusSlaveConnection connection)
+        public @Nullable Runnable accept(AggregateStopWatch timer, T task, ModbusSlaveConnection connection)
                 throws ModbusException, IIOException, ModbusUnexpectedTransactionIdException;
 
     }
@@ -142,7 +147,7 @@ public class ModbusManagerImpl implements ModbusManager {
      */
     private class PollOperation implements ModbusOperation<PollTask> {
         @Override
-        public void accept(AggregateStopWatch timer, PollTask task, ModbusSlaveConnection connection)
+        public @Nullable Runnable accept(AggregateStopWatch timer, PollTask task, ModbusSlaveConnection connection)
                 throws ModbusException, ModbusUnexpectedTransactionIdException {
             ModbusSlaveEndpoint endpoint = task.getEndpoint();
             ModbusReadRequestBlueprint request = task.getRequest();
@@ -162,10 +167,10 @@ public class ModbusManagerImpl implements ModbusManager {
             logger.trace("Response for read request (FC={}, transaction ID={}): {} [operation ID {}]",
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
             checkTransactionId(response, libRequest, task, operationId);
-            if (callback != null) {
-                timer.callback.timeRunnable(
-                        () -> ModbusLibraryWrapper.invokeCallbackWithResponse(request, callback, response));
+            if (callback == null) {
+                return null;
             }
+            return () -> ModbusLibraryWrapper.invokeCallbackWithResponse(request, callback, response);
         }
     }
 
@@ -177,7 +182,7 @@ public class ModbusManagerImpl implements ModbusManager {
      */
     private class WriteOperation implements ModbusOperation<WriteTask> {
         @Override
-        public void accept(AggregateStopWatch timer, WriteTask task, ModbusSlaveConnection connection)
+        public @Nullable Runnable accept(AggregateStopWatch timer, WriteTask task, ModbusSlaveConnection connection)
                 throws ModbusException, ModbusUnexpectedTransactionIdException {
             ModbusSlaveEndpoint endpoint = task.getEndpoint();
             ModbusWriteRequestBlueprint request = task.getRequest();
@@ -199,10 +204,10 @@ public class ModbusManagerImpl implements ModbusManager {
                     response.getFunctionCode(), response.getTransactionID(), response.getHexMessage(), operationId);
 
             checkTransactionId(response, libRequest, task, operationId);
-            if (callback != null) {
-                timer.callback.timeRunnable(
-                        () -> invokeCallbackWithResponse(request, callback, new ModbusResponseImpl(response)));
+            if (callback == null) {
+                return null;
             }
+            return () -> invokeCallbackWithResponse(request, callback, new ModbusResponseImpl(response));
         }
     }
 
@@ -233,6 +238,15 @@ public class ModbusManagerImpl implements ModbusManager {
      * Thread naming for executing callbacks
      */
     private static final String MODBUS_POLLER_CALLBACK_THREAD_POOL_NAME = "modbusManagerCallbackThreadPool";
+    /**
+     * Thread naming for modbus write requests. Writes have their own threads so that they do not queue behind polls
+     */
+    private static final String MODBUS_WRITE_THREAD_POOL_NAME = "modbusManagerWriteThreadPool";
+
+    /**
+     * Maximum time a poll waits for pending writes to the same endpoint
+     */
+    private static final long MAX_POLL_WAIT_FOR_WRITES_MILLIS = 1000;
 
     /**
      * Log message with WARN level if the task queues exceed this limit.
@@ -251,6 +265,9 @@ public class ModbusManagerImpl implements ModbusManager {
 
     private final PollOperation pollOperation = new PollOperation();
     private final WriteOperation writeOperation = new WriteOperation();
+    private final WritePriorityGate writePriorityGate = new WritePriorityGate(MAX_POLL_WAIT_FOR_WRITES_MILLIS);
+    private final ModbusOperationMetrics pollMetrics = new ModbusOperationMetrics();
+    private final ModbusOperationMetrics writeMetrics = new ModbusOperationMetrics();
 
     private volatile long lastQueueMonitorLog = -1;
 
@@ -273,6 +290,11 @@ public class ModbusManagerImpl implements ModbusManager {
      */
     @Nullable
     private volatile ScheduledExecutorService scheduledThreadPoolExecutor;
+    /**
+     * Executor for write requests
+     */
+    @Nullable
+    private volatile ScheduledExecutorService writeThreadPoolExecutor;
     private volatile Collection<ModbusManagerListener> listeners = new CopyOnWriteArraySet<>();
     @Nullable
     private volatile ScheduledFuture<?> monitorFuture;
@@ -485,6 +507,10 @@ public class ModbusManagerImpl implements ModbusManager {
      *
      * With some other connection types, the operation is retried without reseting the connection type.
      *
+     * Polls wait for pending writes to the same endpoint before acquiring the connection. Writes are registered as
+     * pending only while they are executed, and unregistered as soon as the transaction has completed, before their
+     * callback is called. Callbacks are called only after the connection has been returned to the pool.
+     *
      * @param task
      * @param oneOffTask
      * @param operation
@@ -517,7 +543,22 @@ public class ModbusManagerImpl implements ModbusManager {
         }
 
         Optional<ModbusSlaveConnection> connection = Optional.empty();
+        @Nullable
+        Runnable pendingCallback = null;
+        boolean pendingWrite = false;
         try {
+            if (task instanceof WriteTask) {
+                // registered only once running, so that rejected or canceled writes never stay pending
+                writePriorityGate.writeStarted(endpoint);
+                pendingWrite = true;
+            } else if (task instanceof PollTask) {
+                timer.writePriority.resume();
+                try {
+                    writePriorityGate.awaitPendingWrites(endpoint);
+                } finally {
+                    timer.writePriority.suspend();
+                }
+            }
             logger.trace("Starting new operation with task {}. Trying to get connection [operation ID {}]", task,
                     operationId);
             connection = getConnection(timer, oneOffTask, task);
@@ -572,7 +613,7 @@ public class ModbusManagerImpl implements ModbusManager {
                 try {
                     tryIndex++;
                     willRetry = tryIndex < maxTries;
-                    operation.accept(timer, task, connection.get());
+                    pendingCallback = operation.accept(timer, task, connection.get());
                     lastError.set(null);
                     break;
                 } catch (IOException e) {
@@ -667,9 +708,7 @@ public class ModbusManagerImpl implements ModbusManager {
             if (exception != null) {
                 // All retries failed with some error
                 if (callback != null) {
-                    timer.callback.timeRunnable(() -> {
-                        invokeCallbackWithError(request, callback, exception);
-                    });
+                    pendingCallback = () -> invokeCallbackWithError(request, callback, exception);
                 }
             }
         } catch (PollTaskUnregistered e) {
@@ -685,8 +724,18 @@ public class ModbusManagerImpl implements ModbusManager {
         } finally {
             timer.connection.timeConsumer(c -> returnConnection(endpoint, c), connection);
             logger.trace("Connection was returned to the pool, ending operation [operation ID {}]", operationId);
-            timer.suspendAllRunning();
-            logger.debug("Modbus operation ended, timing info: {} [operation ID {}]", timer, operationId);
+            if (pendingWrite) {
+                writePriorityGate.writeDone(endpoint);
+            }
+            try {
+                if (pendingCallback != null) {
+                    timer.callback.timeRunnable(pendingCallback);
+                }
+            } finally {
+                timer.suspendAllRunning();
+                (task instanceof WriteTask ? writeMetrics : pollMetrics).record(timer);
+                logger.debug("Modbus operation ended, timing info: {} [operation ID {}]", timer, operationId);
+            }
         }
     }
 
@@ -700,6 +749,7 @@ public class ModbusManagerImpl implements ModbusManager {
             long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
             logger.debug("Will now execute one-off poll task {}, waited in thread pool for {}", task,
                     millisInThreadPoolWaiting);
+            pollMetrics.record(ModbusOperationMetrics.Stage.QUEUE, millisInThreadPoolWaiting);
             executeOperation(task, true, pollOperation);
         }, 0L, TimeUnit.MILLISECONDS);
         return future;
@@ -777,14 +827,15 @@ public class ModbusManagerImpl implements ModbusManager {
 
     @Override
     public ScheduledFuture<?> submitOneTimeWrite(WriteTask task) {
-        ScheduledExecutorService scheduledThreadPoolExecutor = this.scheduledThreadPoolExecutor;
-        Objects.requireNonNull(scheduledThreadPoolExecutor, "Not activated!");
+        ScheduledExecutorService writeThreadPoolExecutor = this.writeThreadPoolExecutor;
+        Objects.requireNonNull(writeThreadPoolExecutor, "Not activated!");
         long scheduleTime = System.currentTimeMillis();
         logger.debug("Scheduling one-off write task {}", task);
-        ScheduledFuture<?> future = scheduledThreadPoolExecutor.schedule(() -> {
+        ScheduledFuture<?> future = writeThreadPoolExecutor.schedule(() -> {
             long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
             logger.debug("Will now execute one-off write task {}, waited in thread pool for {}", task,
                     millisInThreadPoolWaiting);
+            writeMetrics.record(ModbusOperationMetrics.Stage.QUEUE, millisInThreadPoolWaiting);
             executeOperation(task, true, writeOperation);
         }, 0L, TimeUnit.MILLISECONDS);
         return future;
@@ -833,7 +884,12 @@ public class ModbusManagerImpl implements ModbusManager {
                 this.scheduledThreadPoolExecutor = scheduledThreadPoolExecutor = ThreadPoolManager
                         .getScheduledPool(MODBUS_POLLER_THREAD_POOL_NAME);
             }
-            if (scheduledThreadPoolExecutor.isShutdown()) {
+            ScheduledExecutorService writeThreadPoolExecutor = this.writeThreadPoolExecutor;
+            if (writeThreadPoolExecutor == null) {
+                this.writeThreadPoolExecutor = writeThreadPoolExecutor = ThreadPoolManager
+                        .getScheduledPool(MODBUS_WRITE_THREAD_POOL_NAME);
+            }
+            if (scheduledThreadPoolExecutor.isShutdown() || writeThreadPoolExecutor.isShutdown()) {
                 logger.error("Thread pool is shut down! Aborting activation of ModbusMangerImpl");
                 throw new IllegalStateException("Thread pool(s) shut down! Aborting activation of ModbusMangerImpl");
             }
@@ -863,6 +919,7 @@ public class ModbusManagerImpl implements ModbusManager {
             // Note that it is not allowed to shutdown the executor, since they will be reused when
             // when pool is received from ThreadPoolManager is called
             scheduledThreadPoolExecutor = null;
+            writeThreadPoolExecutor = null;
             connectionFactory = null;
             logger.debug("Modbus manager deactivated");
         }
@@ -887,20 +944,47 @@ public class ModbusManagerImpl implements ModbusManager {
                         task.getRequest().getDataLength(), future.isDone(), future.isCancelled(),
                         future.getDelay(TimeUnit.MILLISECONDS), task);
             });
-            if (scheduledThreadPoolExecutor instanceof ThreadPoolExecutor) {
-                ThreadPoolExecutor executor = ((ThreadPoolExecutor) scheduledThreadPoolExecutor);
-                pollMonitorLogger.trace(
-                        "POLL MONITOR: scheduledThreadPoolExecutor queue size: {}, remaining space {}. Active threads {}",
-                        executor.getQueue().size(), executor.getQueue().remainingCapacity(), executor.getActiveCount());
-                if (executor.getQueue().size() >= WARN_QUEUE_SIZE) {
-                    pollMonitorLogger.warn(
-                            "Many ({}) tasks queued in scheduledThreadPoolExecutor! This might be sign of bad design or bug in the binding code.",
-                            executor.getQueue().size());
-                }
+            logExecutorQueueInfo("scheduledThreadPoolExecutor", scheduledThreadPoolExecutor);
+            ScheduledExecutorService writeThreadPoolExecutor = this.writeThreadPoolExecutor;
+            if (writeThreadPoolExecutor != null) {
+                logExecutorQueueInfo("writeThreadPoolExecutor", writeThreadPoolExecutor);
             }
+            pollMonitorLogger.debug("POLL MONITOR: poll latencies {}", pollMetrics);
+            pollMonitorLogger.debug("POLL MONITOR: write latencies {}", writeMetrics);
 
             pollMonitorLogger.trace("</POLL MONITOR>");
         }
     }
 
+    private void logExecutorQueueInfo(String name, ScheduledExecutorService scheduledExecutor) {
+        if (scheduledExecutor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor executor = ((ThreadPoolExecutor) scheduledExecutor);
+            pollMonitorLogger.trace("POLL MONITOR: {} queue size: {}, remaining space {}. Active threads {}", name,
+                    executor.getQueue().size(), executor.getQueue().remainingCapacity(), executor.getActiveCount());
+            if (executor.getQueue().size() >= WARN_QUEUE_SIZE) {
+                pollMonitorLogger.warn(
+                        "Many ({}) tasks queued in {}! This might be sign of bad design or bug in the binding code.",
+                        executor.getQueue().size(), name);
+            }
+        }
+    }
+
+    /**
+     * Get latency statistics of the polls
+     *
+     * @return latencies of the stages of all polls executed so far
+     */
+    public ModbusOperationMetrics getPollMetrics() {
+        return pollMetrics;
+    }
+
+    /**
+     * Get latency statistics of the writes
+     *
+     * @return latencies of the stages of all writes executed so far
+     */
+    public ModbusOperationMetrics getWriteMetrics() {
+        return writeMetrics;
+    }
+
 }
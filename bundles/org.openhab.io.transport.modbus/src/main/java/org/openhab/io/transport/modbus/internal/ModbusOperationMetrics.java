@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Latency statistics of the stages of modbus operations, aggregated over all operations of one kind (polls or
+ * writes).
+ *
+ * Recording is lock-free, so that it can be called from all the threads executing operations.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusOperationMetrics {
+
+    /**
+     * Stages of an operation
+     */
+    public enum Stage {
+        /**
+         * Time waiting in the thread pool queue
+         */
+        QUEUE,
+        /**
+         * Time a poll waited for pending writes to the same endpoint
+         */
+        WRITE_PRIORITY,
+        /**
+         * Time for connection related actions
+         */
+        CONNECTION,
+        /**
+         * Time for the actual transaction
+         */
+        TRANSACTION,
+        /**
+         * Time for calling the callback
+         */
+        CALLBACK,
+        /**
+         * Total operation time, excluding the time waiting in the queue
+         */
+        TOTAL
+    }
+
+    private static class StageMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+    }
+
+    private final Map<Stage, StageMetrics> stages = new EnumMap<>(Stage.class);
+
+    public ModbusOperationMetrics() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new StageMetrics());
+        }
+    }
+
+    /**
+     * Record the duration of a single stage
+     *
+     * @param stage stage of the operation
+     * @param millis duration in milliseconds
+     */
+    public void record(Stage stage, long millis) {
+        StageMetrics metrics = stages.get(stage);
+        metrics.count.increment();
+        metrics.totalMillis.add(millis);
+        metrics.maxMillis.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * Record the durations of all stages timed by the stop watch of an operation
+     *
+     * @param timer stop watch of the operation, all its watches should be suspended
+     */
+    public void record(AggregateStopWatch timer) {
+        record(Stage.WRITE_PRIORITY, timer.writePriority.getTotalTimeMillis());
+        record(Stage.CONNECTION, timer.connection.getTotalTimeMillis());
+        record(Stage.TRANSACTION, timer.transaction.getTotalTimeMillis());
+        record(Stage.CALLBACK, timer.callback.getTotalTimeMillis());
+        record(Stage.TOTAL, timer.total.getTotalTimeMillis());
+    }
+
+    /**
+     * Get number of recorded durations of the stage
+     *
+     * @param stage stage of the operation
+     * @return number of recorded durations
+     */
+    public long getCount(Stage stage) {
+        return stages.get(stage).count.sum();
+    }
+
+    /**
+     * Get average duration of the stage
+     *
+     * @param stage stage of the operation
+     * @return average duration in milliseconds, or 0 if nothing has been recorded
+     */
+    public double getAverageMillis(Stage stage) {
+        StageMetrics metrics = stages.get(stage);
+        long count = metrics.count.sum();
+        return count == 0 ? 0 : (double) metrics.totalMillis.sum() / count;
+    }
+
+    /**
+     * Get maximum duration of the stage
+     *
+     * @param stage stage of the operation
+     * @return maximum duration in milliseconds
+     */
+    public long getMaxMillis(Stage stage) {
+        return stages.get(stage).maxMillis.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Stage stage : Stage.values()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(String.format("%s: n=%d avg=%.1f ms max=%d ms", stage.name().toLowerCase(),
+                    getCount(stage), getAverageMillis(stage), getMaxMillis(stage)));
+        }
+        return builder.append('}').toString();
+    }
+}
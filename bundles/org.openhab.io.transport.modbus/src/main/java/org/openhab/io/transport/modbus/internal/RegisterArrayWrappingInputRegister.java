@@ -12,9 +12,6 @@
  */
 package org.openhab.io.transport.modbus.internal;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.io.transport.modbus.ModbusRegister;
 import org.openhab.io.transport.modbus.ModbusRegisterArray;
@@ -24,32 +21,39 @@ import net.wimpi.modbus.procimg.InputRegister;
 /**
  * Implementation of {@link ModbusRegisterArray} which wraps array of {@link InputRegister}
  *
+ * The registers are decoded once when the array is created. The resulting snapshot is immutable and can be shared
+ * by all the callbacks of a poll without copying or locking.
+ *
  * @author Sami Salonen - Initial contribution
  */
 @NonNullByDefault
 public class RegisterArrayWrappingInputRegister implements ModbusRegisterArray {
 
-    private class RegisterReference implements ModbusRegister {
+    private static class RegisterReference implements ModbusRegister {
 
-        private InputRegister wrappedRegister;
+        private final byte[] bytes;
+        private final int value;
+        private final int unsignedShort;
 
-        public RegisterReference(int index) {
-            this.wrappedRegister = wrapped[index];
+        public RegisterReference(InputRegister wrappedRegister) {
+            this.bytes = wrappedRegister.toBytes();
+            this.value = wrappedRegister.getValue();
+            this.unsignedShort = wrappedRegister.toUnsignedShort();
         }
 
         @Override
         public byte[] getBytes() {
-            return wrappedRegister.toBytes();
+            return bytes.clone();
         }
 
         @Override
         public int getValue() {
-            return wrappedRegister.getValue();
+            return value;
         }
 
         @Override
         public int toUnsignedShort() {
-            return wrappedRegister.toUnsignedShort();
+            return unsignedShort;
         }
 
         @Override
@@ -61,29 +65,31 @@ public class RegisterArrayWrappingInputRegister implements ModbusRegisterArray {
 
     }
 
-    private InputRegister[] wrapped;
-    private Map<Integer, ModbusRegister> cache = new HashMap<>();
+    private final ModbusRegister[] registers;
 
     public RegisterArrayWrappingInputRegister(InputRegister[] wrapped) {
-        this.wrapped = wrapped;
+        registers = new ModbusRegister[wrapped.length];
+        for (int i = 0; i < wrapped.length; i++) {
+            registers[i] = new RegisterReference(wrapped[i]);
+        }
     }
 
     @Override
     public ModbusRegister getRegister(int index) {
-        return cache.computeIfAbsent(index, i -> new RegisterReference(i));
+        return registers[index];
     }
 
     @Override
     public int size() {
-        return wrapped.length;
+        return registers.length;
     }
 
     @Override
     public String toString() {
-        if (wrapped.length == 0) {
+        if (registers.length == 0) {
             return "RegisterArrayWrappingInputRegister(<empty>)";
         }
-        StringBuffer buffer = new StringBuffer(wrapped.length * 2).append("RegisterArrayWrappingInputRegister(");
+        StringBuffer buffer = new StringBuffer(registers.length * 2).append("RegisterArrayWrappingInputRegister(");
         return appendHexString(buffer).append(')').toString();
     }
 
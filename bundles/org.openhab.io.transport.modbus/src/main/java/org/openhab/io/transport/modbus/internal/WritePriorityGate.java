@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+
+/**
+ * Gives writes priority over polls of the same endpoint.
+ *
+ * Writes are registered when they start waiting for a connection and unregistered once they have been executed.
+ * Polls wait before borrowing a connection while writes to the same endpoint are pending, so that a write to e.g. a
+ * setpoint does not have to wait behind a large batch of polls. The wait is bounded, and polls only wait for writes
+ * registered recently, to make sure that polls cannot be starved by writes.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+@NonNullByDefault
+public class WritePriorityGate {
+
+    private static class PendingWrites {
+        private int count;
+        private long lastStartedMillis;
+    }
+
+    private final Map<ModbusSlaveEndpoint, PendingWrites> pendingWrites = new ConcurrentHashMap<>();
+    private final long maxWaitMillis;
+
+    /**
+     * Constructor
+     *
+     * @param maxWaitMillis maximum time a poll waits for pending writes
+     */
+    public WritePriorityGate(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Registers a write to the endpoint which is about to borrow a connection
+     *
+     * @param endpoint endpoint of the write
+     */
+    public void writeStarted(ModbusSlaveEndpoint endpoint) {
+        PendingWrites writes = pendingWrites.computeIfAbsent(endpoint, e -> new PendingWrites());
+        synchronized (writes) {
+            writes.count++;
+            writes.lastStartedMillis = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Unregisters a write to the endpoint which has been executed, successfully or not
+     *
+     * @param endpoint endpoint of the write
+     */
+    public void writeDone(ModbusSlaveEndpoint endpoint) {
+        PendingWrites writes = pendingWrites.get(endpoint);
+        if (writes == null) {
+            return;
+        }
+        synchronized (writes) {
+            if (writes.count > 0) {
+                writes.count--;
+            }
+            if (writes.count == 0) {
+                writes.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits until there are no pending writes to the endpoint anymore, at most the maximum wait time
+     *
+     * @param endpoint endpoint to poll
+     * @return time waited in milliseconds
+     * @throws InterruptedException when the thread is interrupted while waiting
+     */
+    public long awaitPendingWrites(ModbusSlaveEndpoint endpoint) throws InterruptedException {
+        PendingWrites writes = pendingWrites.get(endpoint);
+        if (writes == null) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (writes) {
+            // writes registered a long time ago are stuck, ignore them
+            long deadline = writes.lastStartedMillis + maxWaitMillis;
+            long remaining = deadline - start;
+            while (writes.count > 0 && remaining > 0) {
+                writes.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Get the number of pending writes to the endpoint
+     *
+     * @param endpoint endpoint of the writes
+     * @return number of registered writes which have not been executed yet
+     */
+    public int getPendingWrites(ModbusSlaveEndpoint endpoint) {
+        PendingWrites writes = pendingWrites.get(endpoint);
+        if (writes == null) {
+            return 0;
+        }
+        synchronized (writes) {
+            return writes.count;
+        }
+    }
+}
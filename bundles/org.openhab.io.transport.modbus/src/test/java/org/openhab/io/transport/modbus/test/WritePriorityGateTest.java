@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.transport.modbus.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openhab.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.io.transport.modbus.internal.ModbusOperationMetrics;
+import org.openhab.io.transport.modbus.internal.ModbusOperationMetrics.Stage;
+import org.openhab.io.transport.modbus.internal.WritePriorityGate;
+
+/**
+ * Test class for {@link WritePriorityGate} and {@link ModbusOperationMetrics}.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class WritePriorityGateTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502);
+    private final ModbusSlaveEndpoint otherEndpoint = new ModbusTCPSlaveEndpoint("localhost", 503);
+
+    @Test
+    public void testPollDoesNotWaitWithoutWrites() throws InterruptedException {
+        WritePriorityGate gate = new WritePriorityGate(5000);
+        gate.writeStarted(otherEndpoint);
+
+        assertThat(gate.awaitPendingWrites(endpoint) < 1000, is(true));
+        assertThat(gate.getPendingWrites(endpoint), is(equalTo(0)));
+        assertThat(gate.getPendingWrites(otherEndpoint), is(equalTo(1)));
+    }
+
+    @Test
+    public void testPollWaitsForPendingWrite() throws InterruptedException {
+        WritePriorityGate gate = new WritePriorityGate(5000);
+        gate.writeStarted(endpoint);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread poll = new Thread(() -> {
+            started.countDown();
+            try {
+                gate.awaitPendingWrites(endpoint);
+            } catch (InterruptedException e) {
+                return;
+            }
+            done.countDown();
+        });
+        poll.start();
+
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(done.await(100, TimeUnit.MILLISECONDS), is(false));
+        gate.writeDone(endpoint);
+        assertThat(done.await(4, TimeUnit.SECONDS), is(true));
+        assertThat(gate.getPendingWrites(endpoint), is(equalTo(0)));
+    }
+
+    @Test
+    public void testPollWaitIsBounded() throws InterruptedException {
+        WritePriorityGate gate = new WritePriorityGate(50);
+        gate.writeStarted(endpoint);
+
+        long waited = gate.awaitPendingWrites(endpoint);
+        assertThat(waited >= 40, is(true));
+        assertThat(waited < 1000, is(true));
+
+        // write is stuck, polls do not wait for it anymore
+        assertThat(gate.awaitPendingWrites(endpoint) < 40, is(true));
+    }
+
+    @Test
+    public void testMetrics() {
+        ModbusOperationMetrics metrics = new ModbusOperationMetrics();
+        assertThat(metrics.getAverageMillis(Stage.QUEUE), is(equalTo(0.0)));
+
+        metrics.record(Stage.QUEUE, 10);
+        metrics.record(Stage.QUEUE, 30);
+        metrics.record(Stage.TRANSACTION, 5);
+
+        assertThat(metrics.getCount(Stage.QUEUE), is(equalTo(2L)));
+        assertThat(metrics.getAverageMillis(Stage.QUEUE), is(equalTo(20.0)));
+        assertThat(metrics.getMaxMillis(Stage.QUEUE), is(equalTo(30L)));
+        assertThat(metrics.getCount(Stage.TRANSACTION), is(equalTo(1L)));
+        assertThat(metrics.getCount(Stage.CALLBACK), is(equalTo(0L)));
+    }
+}
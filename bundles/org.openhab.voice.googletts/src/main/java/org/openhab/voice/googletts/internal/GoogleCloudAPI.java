@@ -16,8 +16,6 @@ import static java.util.Collections.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
@@ -26,7 +24,6 @@ import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,7 +33,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.io.FilenameUtils;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.io.net.http.HttpRequestBuilder;
 import org.openhab.voice.googletts.internal.protocol.AudioConfig;
@@ -104,9 +100,9 @@ class GoogleCloudAPI {
     private final Map<Locale, Set<GoogleTTSVoice>> voices = new HashMap<>();
 
     /**
-     * Cache folder
+     * Cache of the synthesized audio files
      */
-    private File cacheFolder;
+    private final TTSFileCache cache;
 
     /**
      * Configuration
@@ -126,9 +122,19 @@ class GoogleCloudAPI {
      * Constructor.
      *
      * @param cacheFolder Service cache folder
+     * @param maxCacheSize Maximum size of all cached files in bytes
      */
-    GoogleCloudAPI(File cacheFolder) {
-        this.cacheFolder = cacheFolder;
+    GoogleCloudAPI(File cacheFolder, long maxCacheSize) {
+        this.cache = new TTSFileCache(cacheFolder, maxCacheSize, 0);
+    }
+
+    /**
+     * Cache size update.
+     *
+     * @param maxCacheSize Maximum size of all cached files in bytes
+     */
+    void setMaxCacheSize(long maxCacheSize) {
+        cache.setMaxSize(maxCacheSize);
     }
 
     /**
@@ -156,10 +162,7 @@ class GoogleCloudAPI {
 
         // maintain cache
         if (config.getPurgeCache() != null && config.getPurgeCache()) {
-            File[] files = cacheFolder.listFiles();
-            if (files != null && files.length > 0) {
-                Arrays.stream(files).forEach(File::delete);
-            }
+            cache.clear();
             logger.debug("Cache purged.");
         }
     }
@@ -276,63 +279,40 @@ class GoogleCloudAPI {
 
     byte[] synthesizeSpeech(String text, GoogleTTSVoice voice, String codec) {
         String[] format = getFormatForCodec(codec);
-        String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName());
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + format[1]);
+        String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName()) + "." + format[1];
         try {
-            // check if in cache
-            if (audioFileInCache.exists()) {
-                logger.debug("Audio file {} was found in cache.", audioFileInCache.getName());
-                return Files.readAllBytes(audioFileInCache.toPath());
-            }
-
-            // if not in cache, get audio data and put to cache
-            byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
-            if (audio != null) {
-                saveAudioAndTextToFile(text, audioFileInCache, audio, voice.getTechnicalName());
-            }
-            return audio;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
+            // get audio data from cache or from Google and put it to cache
+            File audioFileInCache = cache.get(fileNameInCache, getCacheText(text, voice.getTechnicalName()), () -> {
+                byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
+                return audio != null ? new ByteArrayInputStream(audio) : null;
+            });
+            return Files.readAllBytes(audioFileInCache.toPath());
         } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
+            logger.error("Could not write {} to cache", fileNameInCache, ex);
             return null;
         }
     }
 
     /**
-     * Create cache entry.
+     * Creates the text stored along with a cache entry.
+     * This allows to know which contents is in which audio file.
      *
      * @param text Converted text.
-     * @param cacheFile Cache entry file.
-     * @param audio Byte array of the audio.
      * @param voiceName Used voice
-     * @throws IOException in case of file handling exceptions
+     * @return the text describing the cache entry
      */
-    private void saveAudioAndTextToFile(String text, File cacheFile, byte[] audio, String voiceName)
-            throws IOException {
-        logger.debug("Caching audio file {}", cacheFile.getName());
-        try (FileOutputStream audioFileOutputStream = new FileOutputStream(cacheFile)) {
-            audioFileOutputStream.write(audio);
-        }
-
-        // write text to file for transparency too
-        // this allows to know which contents is in which audio file
-        String textFileName = FilenameUtils.removeExtension(cacheFile.getName()) + ".txt";
-        logger.debug("Caching text file {}", textFileName);
-        try (FileOutputStream textFileOutputStream = new FileOutputStream(new File(cacheFolder, textFileName))) {
-            // @formatter:off
-            StringBuilder sb = new StringBuilder("Config: ")
-                    .append(config.toConfigString())
-                    .append(",voice=")
-                    .append(voiceName)
-                    .append(System.lineSeparator())
-                    .append("Text: ")
-                    .append(text)
-                    .append(System.lineSeparator());
-            // @formatter:on
-            textFileOutputStream.write(sb.toString().getBytes(UTF_8));
-        }
+    private String getCacheText(String text, String voiceName) {
+        // @formatter:off
+        return new StringBuilder("Config: ")
+                .append(config.toConfigString())
+                .append(",voice=")
+                .append(voiceName)
+                .append(System.lineSeparator())
+                .append("Text: ")
+                .append(text)
+                .append(System.lineSeparator())
+                .toString();
+        // @formatter:on
     }
 
     /**
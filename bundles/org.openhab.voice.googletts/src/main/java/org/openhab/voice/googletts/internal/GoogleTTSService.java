@@ -79,6 +79,12 @@ public class GoogleTTSService implements TTSService {
     private static final String PARAM_SPEAKING_RATE = "speakingRate";
     private static final String PARAM_VOLUME_GAIN_DB = "volumeGainDb";
     private static final String PARAM_PURGE_CACHE = "purgeCache";
+    private static final String PARAM_CACHE_SIZE = "cacheSize";
+
+    /**
+     * Default maximum size of the cache in MB
+     */
+    private static final long DEFAULT_CACHE_SIZE = 100;
 
     /**
      * Logger.
@@ -118,10 +124,21 @@ public class GoogleTTSService implements TTSService {
         }
         logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
-        apiImpl = new GoogleCloudAPI(cacheFolder);
+        apiImpl = new GoogleCloudAPI(cacheFolder, getMaxCacheSize(config));
         updateConfig(config);
     }
 
+    /**
+     * Returns the configured maximum size of the cache in bytes.
+     *
+     * @param config Configuration
+     */
+    private long getMaxCacheSize(Map<String, Object> config) {
+        Object param = config != null ? config.get(PARAM_CACHE_SIZE) : null;
+        long cacheSize = param != null ? (long) Double.parseDouble(param.toString()) : DEFAULT_CACHE_SIZE;
+        return cacheSize * 1024 * 1024;
+    }
+
     /**
      * Initializing audio formats. Google supports 3 formats:
      * LINEAR16
@@ -211,6 +228,9 @@ public class GoogleTTSService implements TTSService {
             }
             logger.trace("New configuration: {}", config.toString());
 
+            // cacheSize
+            apiImpl.setMaxCacheSize(getMaxCacheSize(newConfig));
+
             if (config.getServiceAccountKey() != null) {
                 apiImpl.setConfig(config);
                 if (apiImpl.isInitialized()) {
@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.googletts.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a size bounded cache for the retrieved audio data in the file system. Each audio file is
+ * accompanied by a .txt file to indicate what content is in the audio file. The audio files of a text in different
+ * audio formats share the .txt file, it is counted once and deleted along with the last of them.
+ * <p>
+ * The cached files are indexed in memory when the cache is created, so a cache hit doesn't need to access the file
+ * system. The time stamp of a used file is updated at most once a day, to find unused files after a restart. When the
+ * cache exceeds its size, the least recently used files are deleted. Files are written to a
+ * temporary file first and moved into place when complete, and concurrent requests for the same missing file only
+ * retrieve it once.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class TTSFileCache {
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final long TIMESTAMP_UPDATE_INTERVAL = 24 * 60 * 60 * 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSFileCache.class);
+
+    private final File cacheFolder;
+
+    /**
+     * The cached audio files in the order of their last use
+     */
+    private final LinkedHashMap<String, CacheEntry> index = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The .txt files of the cached audio files, guarded by the index lock like the sizes
+     */
+    private final Map<String, TextFile> textFiles = new HashMap<>();
+    private long size;
+    private long maxSize;
+
+    private final Map<String, CompletableFuture<File>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the audio data of a file which is not in the cache.
+     */
+    @FunctionalInterface
+    public interface AudioLoader {
+        InputStream load() throws IOException;
+    }
+
+    /**
+     * Creates the cache and indexes the files already in the cache folder.
+     *
+     * @param cacheFolder the folder to store the files in
+     * @param maxSize the maximum size of all files in bytes
+     * @param maxAge the maximum time in milliseconds since a file was stored or last used, 0 for no limit
+     */
+    public TTSFileCache(File cacheFolder, long maxSize, long maxAge) {
+        this.cacheFolder = cacheFolder;
+        this.maxSize = maxSize;
+        if (!cacheFolder.exists()) {
+            cacheFolder.mkdirs();
+        }
+
+        File[] files = cacheFolder.listFiles();
+        if (files == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (index) {
+            for (File file : files) {
+                String fileName = file.getName();
+                if (fileName.endsWith(TEMP_EXTENSION)) {
+                    // incomplete file of an earlier run
+                    file.delete();
+                } else if (file.isFile() && !fileName.endsWith(TEXT_EXTENSION)) {
+                    if (maxAge > 0 && now - file.lastModified() > maxAge) {
+                        file.delete();
+                    } else {
+                        add(fileName, new CacheEntry(file.length(), file.lastModified()));
+                    }
+                }
+            }
+            for (File file : files) {
+                if (file.getName().endsWith(TEXT_EXTENSION) && !textFiles.containsKey(file.getName())) {
+                    // the audio files of the text have expired
+                    file.delete();
+                }
+            }
+            purge();
+        }
+        logger.debug("Indexed {} cached files with {} bytes in {}", index.size(), size, cacheFolder);
+    }
+
+    /**
+     * Returns the cached audio file or retrieves and stores it, if it is not in the cache.
+     *
+     * @param fileName the name of the audio file
+     * @param text the text to store along with the audio file
+     * @param loader retrieves the audio data if the file is not in the cache
+     * @return the audio file
+     * @throws IOException if the audio data could not be retrieved or stored
+     */
+    public File get(String fileName, String text, AudioLoader loader) throws IOException {
+        File file = getCachedFile(fileName);
+        if (file != null) {
+            return file;
+        }
+
+        CompletableFuture<File> future = new CompletableFuture<>();
+        CompletableFuture<File> running = loading.putIfAbsent(fileName, future);
+        if (running != null) {
+            logger.debug("Waiting for {} to be retrieved by another request", fileName);
+            return await(running);
+        }
+        try {
+            // the file may have been stored in the meantime
+            file = getCachedFile(fileName);
+            if (file == null) {
+                file = store(fileName, text, loader);
+            }
+            future.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(fileName);
+        }
+    }
+
+    /**
+     * Changes the maximum size of the cache and deletes the least recently used files if the cache exceeds it.
+     *
+     * @param maxSize the maximum size of all files in bytes
+     */
+    public void setMaxSize(long maxSize) {
+        synchronized (index) {
+            this.maxSize = maxSize;
+            purge();
+        }
+    }
+
+    /**
+     * Deletes all files in the cache.
+     */
+    public void clear() {
+        synchronized (index) {
+            File[] files = cacheFolder.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    if (!file.getName().endsWith(TEMP_EXTENSION)) {
+                        file.delete();
+                    }
+                }
+            }
+            index.clear();
+            textFiles.clear();
+            size = 0;
+        }
+    }
+
+    private File getCachedFile(String fileName) {
+        CacheEntry entry;
+        synchronized (index) {
+            entry = index.get(fileName);
+        }
+        if (entry == null) {
+            return null;
+        }
+        File file = new File(cacheFolder, fileName);
+        long now = System.currentTimeMillis();
+        if (now - entry.lastModified > TIMESTAMP_UPDATE_INTERVAL) {
+            // update use date for cache management
+            entry.lastModified = now;
+            file.setLastModified(now);
+        }
+        return file;
+    }
+
+    private File store(String fileName, String text, AudioLoader loader) throws IOException {
+        File file = new File(cacheFolder, fileName);
+        File textFile = getTextFile(fileName);
+        try (InputStream inputStream = loader.load()) {
+            if (inputStream == null) {
+                throw new IOException("No audio data retrieved for " + fileName);
+            }
+            write(inputStream, file);
+        }
+        // write text to file for transparency too
+        // this allows to know which contents is in which audio file
+        try (InputStream textStream = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))) {
+            write(textStream, textFile);
+        }
+
+        CacheEntry entry = new CacheEntry(file.length(), file.lastModified());
+        synchronized (index) {
+            add(fileName, entry);
+            purge();
+        }
+        logger.debug("Cached {} with {} bytes, cache size is {} bytes", fileName, entry.size, size);
+        return file;
+    }
+
+    private void write(InputStream inputStream, File file) throws IOException {
+        Path tempFile = Files.createTempFile(cacheFolder.toPath(), file.getName(), TEMP_EXTENSION);
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Adds an audio file to the index, and its .txt file unless another audio file of the text is cached already. Must
+     * be called while holding the index lock.
+     */
+    private void add(String fileName, CacheEntry entry) {
+        CacheEntry oldEntry = index.put(fileName, entry);
+        size += entry.size;
+        if (oldEntry != null) {
+            size -= oldEntry.size;
+            return;
+        }
+        File textFile = getTextFile(fileName);
+        TextFile text = textFiles.computeIfAbsent(textFile.getName(), name -> new TextFile(textFile.length()));
+        if (text.users++ == 0) {
+            size += text.size;
+        }
+    }
+
+    /**
+     * Deletes the least recently used files until the cache fits its size. The most recently used file is kept in
+     * any case. Must be called while holding the index lock.
+     */
+    private void purge() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = index.entrySet().iterator();
+        while (size > maxSize && index.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, CacheEntry> eldest = iterator.next();
+            iterator.remove();
+            delete(eldest.getKey(), eldest.getValue());
+            logger.debug("Removed {} from cache", eldest.getKey());
+        }
+    }
+
+    /**
+     * Deletes an audio file removed from the index, and its .txt file unless other audio files of the text are still
+     * cached. Must be called while holding the index lock.
+     */
+    private void delete(String fileName, CacheEntry entry) {
+        size -= entry.size;
+        new File(cacheFolder, fileName).delete();
+        File textFile = getTextFile(fileName);
+        TextFile text = textFiles.get(textFile.getName());
+        if (text != null && --text.users == 0) {
+            textFiles.remove(textFile.getName());
+            size -= text.size;
+            textFile.delete();
+        }
+    }
+
+    private File getTextFile(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+        return new File(cacheFolder, baseName + TEXT_EXTENSION);
+    }
+
+    private File await(CompletableFuture<File> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the audio data");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static class CacheEntry {
+        private final long size;
+        private volatile long lastModified;
+
+        CacheEntry(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static class TextFile {
+        private final long size;
+        private int users;
+
+        TextFile(long size) {
+            this.size = size;
+        }
+    }
+}
@@ -54,10 +54,10 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
      * @throws IOException
      */
     public MaryTTSAudioStream(AudioInputStream inputStream, AudioFormat audioFormat) throws IOException {
+        this.audioFormat = audioFormat;
         rawAudio = IOUtils.toByteArray(inputStream);
         this.length = rawAudio.length + 36;
         this.inputStream = new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
-        this.audioFormat = audioFormat;
     }
 
     @Override
@@ -86,6 +86,17 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
     }
 
     private InputStream getWavHeaderInputStream(int length) throws IOException {
+        return new ByteArrayInputStream(getWavHeader(length, audioFormat));
+    }
+
+    /**
+     * Creates the WAVE header of an audio stream
+     *
+     * @param length The length of the stream without the first 8 bytes of the header
+     * @param audioFormat The AudioFormat of the stream
+     * @return The header
+     */
+    static byte[] getWavHeader(int length, AudioFormat audioFormat) {
         // WAVE header
         // see http://www-mmsp.ece.mcgill.ca/Documents/AudioFormats/WAVE/WAVE.html
         byte[] header = new byte[44];
@@ -93,7 +104,7 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
         byte format = 0x10; // PCM
         byte bits = 16;
         byte channel = 1;
-        long srate = (this.audioFormat != null) ? this.audioFormat.getFrequency() : 48000l;
+        long srate = (audioFormat != null) ? audioFormat.getFrequency() : 48000l;
         long rawLength = length - 36;
         long bitrate = srate * channel * bits;
 
@@ -141,7 +152,7 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
         header[41] = (byte) ((rawLength >> 8) & 0xff);
         header[42] = (byte) ((rawLength >> 16) & 0xff);
         header[43] = (byte) ((rawLength >> 24) & 0xff);
-        return new ByteArrayInputStream(header);
+        return header;
     }
 
     @Override
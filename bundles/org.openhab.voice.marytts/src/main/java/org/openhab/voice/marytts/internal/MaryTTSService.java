@@ -15,15 +15,26 @@ package org.openhab.voice.marytts.internal;
 import static javax.sound.sampled.AudioSystem.NOT_SPECIFIED;
 
 import java.io.IOException;
+import java.text.BreakIterator;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.sound.sampled.AudioInputStream;
 
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
 import org.eclipse.smarthome.core.voice.TTSService;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,13 +50,25 @@ import marytts.modules.synthesis.Voice;
  * @author Kelly Davis - Initial contribution and API
  * @author Kai Kreuzer - Refactored to updated APIs and moved to openHAB
  */
-@Component
+@Component(configurationPid = "org.openhab.marytts", property = Constants.SERVICE_PID + "=org.openhab.marytts")
 public class MaryTTSService implements TTSService {
 
+    private static final String CFG_STREAMING = "streaming";
+
     private final Logger logger = LoggerFactory.getLogger(MaryTTSService.class);
 
     private MaryInterface marytts;
 
+    /**
+     * Pool of MaryTTS interfaces, so requests can be synthesized concurrently
+     */
+    private final BlockingQueue<MaryInterface> maryInterfaces = new LinkedBlockingQueue<>();
+
+    /**
+     * Whether texts with several sentences are streamed sentence by sentence
+     */
+    private boolean streaming;
+
     /**
      * Set of supported voices
      */
@@ -56,16 +79,27 @@ public class MaryTTSService implements TTSService {
      */
     private Set<AudioFormat> audioFormats;
 
-    protected void activate() {
+    @Activate
+    protected void activate(Map<String, Object> config) {
+        modified(config);
         try {
             marytts = new LocalMaryInterface();
             voices = initVoices();
             audioFormats = initAudioFormats();
+            maryInterfaces.add(marytts);
+            for (int i = 1; i < Runtime.getRuntime().availableProcessors(); i++) {
+                maryInterfaces.add(new LocalMaryInterface());
+            }
         } catch (MaryConfigurationException e) {
             logger.error("Failed to initialize MaryTTS: {}", e.getMessage(), e);
         }
     }
 
+    @Modified
+    protected void modified(Map<String, Object> config) {
+        streaming = config != null && Boolean.parseBoolean(String.valueOf(config.get(CFG_STREAMING)));
+    }
+
     @Override
     public Set<org.eclipse.smarthome.core.voice.Voice> getAvailableVoices() {
         return voices;
@@ -114,18 +148,67 @@ public class MaryTTSService implements TTSService {
         Voice maryTTSVoice = Voice.getVoice(voice.getLabel());
         AudioFormat maryTTSVoiceAudioFormat = getAudioFormat(maryTTSVoice.dbAudioFormat());
 
-        // Synchronize on marytts
-        synchronized (marytts) {
+        if (streaming) {
+            List<String> sentences = splitSentences(text, voice.getLocale());
+            if (sentences.size() > 1) {
+                return new MaryTTSStreamingAudioStream(this, sentences, voice, maryTTSVoiceAudioFormat);
+            }
+        }
+
+        try {
+            return new MaryTTSAudioStream(generateAudio(text, voice), maryTTSVoiceAudioFormat);
+        } catch (SynthesisException | IOException e) {
+            throw new TTSException("Error generating an AudioStream", e);
+        }
+    }
+
+    /**
+     * Synthesizes the text with a MaryTTS interface of the pool.
+     *
+     * @param text The text to synthesize
+     * @param voice The voice to use
+     * @return The generated audio
+     * @throws SynthesisException if the text could not be synthesized
+     * @throws IOException if the thread was interrupted while waiting for a MaryTTS interface
+     */
+    AudioInputStream generateAudio(String text, org.eclipse.smarthome.core.voice.Voice voice)
+            throws SynthesisException, IOException {
+        MaryInterface maryInterface;
+        try {
+            maryInterface = maryInterfaces.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for MaryTTS", e);
+        }
+        try {
             // Set voice (Each voice supports only a single AudioFormat)
-            marytts.setLocale(voice.getLocale());
-            marytts.setVoice(voice.getLabel());
+            maryInterface.setLocale(voice.getLocale());
+            maryInterface.setVoice(voice.getLabel());
+            return maryInterface.generateAudio(text);
+        } finally {
+            maryInterfaces.add(maryInterface);
+        }
+    }
 
-            try {
-                return new MaryTTSAudioStream(marytts.generateAudio(text), maryTTSVoiceAudioFormat);
-            } catch (SynthesisException | IOException e) {
-                throw new TTSException("Error generating an AudioStream", e);
+    /**
+     * Splits the text into sentences
+     *
+     * @param text The text to split
+     * @param locale The locale of the text
+     * @return The non empty sentences of the text
+     */
+    private List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
             }
         }
+        return sentences;
     }
 
     /**
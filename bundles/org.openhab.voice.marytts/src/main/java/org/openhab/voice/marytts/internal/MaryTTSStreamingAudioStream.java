@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.marytts.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.sound.sampled.AudioInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioSource;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import marytts.exceptions.SynthesisException;
+
+/**
+ * Implementation of the {@link AudioSource} interface for the {@link MaryTTSService}, which synthesizes the text
+ * sentence by sentence in the background. The audio of the first sentence can be played while the following
+ * sentences are still synthesized. As the length of the audio is not known in advance, the WAVE header announces the
+ * maximum length.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+class MaryTTSStreamingAudioStream extends AudioStream {
+
+    private static final String THREADPOOL_NAME = "marytts";
+
+    /**
+     * Marks the end of the audio in the queue
+     */
+    private static final byte[] END_OF_AUDIO = new byte[0];
+
+    private final Logger logger = LoggerFactory.getLogger(MaryTTSStreamingAudioStream.class);
+
+    private final AudioFormat audioFormat;
+
+    /**
+     * Audio of the synthesized sentences which hasn't been read yet
+     */
+    private final BlockingQueue<byte[]> sentenceAudio = new LinkedBlockingQueue<>();
+
+    private InputStream inputStream;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    /**
+     * Constructs an instance and starts the synthesis of the sentences
+     *
+     * @param service The service which synthesizes the sentences
+     * @param sentences The sentences to synthesize
+     * @param voice The voice to use
+     * @param audioFormat The AudioFormat of this instance
+     */
+    public MaryTTSStreamingAudioStream(MaryTTSService service, List<String> sentences, Voice voice,
+            AudioFormat audioFormat) {
+        this.audioFormat = audioFormat;
+        this.inputStream = new ByteArrayInputStream(MaryTTSAudioStream.getWavHeader(Integer.MAX_VALUE, audioFormat));
+        ThreadPoolManager.getPool(THREADPOOL_NAME).submit(() -> synthesize(service, sentences, voice));
+    }
+
+    private void synthesize(MaryTTSService service, List<String> sentences, Voice voice) {
+        long start = System.currentTimeMillis();
+        try {
+            for (String sentence : sentences) {
+                if (closed) {
+                    break;
+                }
+                try (AudioInputStream audio = service.generateAudio(sentence, voice)) {
+                    byte[] rawAudio = IOUtils.toByteArray(audio);
+                    if (rawAudio.length > 0) {
+                        if (start != 0) {
+                            logger.debug("First audio available after {} ms", System.currentTimeMillis() - start);
+                            start = 0;
+                        }
+                        sentenceAudio.add(rawAudio);
+                    }
+                }
+            }
+        } catch (SynthesisException | IOException e) {
+            logger.debug("Error generating audio: {}", e.getMessage());
+            failure = new IOException("Error generating audio", e);
+        } finally {
+            sentenceAudio.add(END_OF_AUDIO);
+        }
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    @Override
+    public int read(byte[] b) throws IOException {
+        return read(b, 0, b.length);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (inputStream != null) {
+            int read = inputStream.read(b, off, len);
+            if (read > 0) {
+                return read;
+            }
+            nextSentence();
+        }
+        return -1;
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (inputStream != null) {
+            int read = inputStream.read();
+            if (read >= 0) {
+                return read;
+            }
+            nextSentence();
+        }
+        return -1;
+    }
+
+    private void nextSentence() throws IOException {
+        byte[] rawAudio;
+        try {
+            rawAudio = sentenceAudio.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for audio", e);
+        }
+        if (rawAudio == END_OF_AUDIO) {
+            inputStream = null;
+            if (failure != null) {
+                throw failure;
+            }
+        } else {
+            inputStream = new ByteArrayInputStream(rawAudio);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        super.close();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2019 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.marytts.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sound.sampled.AudioInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of the time to the first audio of the buffered {@link MaryTTSAudioStream} and the sentence by sentence
+ * {@link MaryTTSStreamingAudioStream}. The synthesis is simulated with a fixed time per sentence, so the benchmark
+ * neither depends on the MaryTTS voices nor on the speed of the machine.
+ *
+ * @author Arjan Mels - Initial contribution
+ */
+public class MaryTTSTimeToFirstAudioTest {
+
+    private static final long MILLIS_PER_SENTENCE = 200;
+    private static final int SAMPLE_RATE = 16000;
+    private static final int WAV_HEADER_LENGTH = 44;
+
+    private static final List<String> SENTENCES = Arrays.asList("The washing machine has finished.",
+            "The front door is open.", "It will rain in the next hour.", "Good night.");
+
+    private final Logger logger = LoggerFactory.getLogger(MaryTTSTimeToFirstAudioTest.class);
+
+    private final Voice voice = new MaryTTSVoice(Locale.ENGLISH, "test");
+    private final AudioFormat audioFormat = new AudioFormat(AudioFormat.CONTAINER_WAVE,
+            AudioFormat.CODEC_PCM_SIGNED, false, 16, 16 * SAMPLE_RATE, (long) SAMPLE_RATE);
+
+    /**
+     * Service synthesizing a tenth of a second of silence per sentence, taking {@link #MILLIS_PER_SENTENCE} per
+     * sentence
+     */
+    private final MaryTTSService service = new MaryTTSService() {
+        @Override
+        AudioInputStream generateAudio(String text, Voice voice) throws IOException {
+            long sentences = SENTENCES.stream().filter(text::contains).count();
+            try {
+                Thread.sleep(sentences * MILLIS_PER_SENTENCE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            javax.sound.sampled.AudioFormat format = new javax.sound.sampled.AudioFormat(SAMPLE_RATE, 16, 1, true,
+                    false);
+            int frames = (int) sentences * SAMPLE_RATE / 10;
+            return new AudioInputStream(new ByteArrayInputStream(new byte[frames * 2]), format, frames);
+        }
+    };
+
+    @Test
+    public void testStreamingHasShorterTimeToFirstAudio() throws Exception {
+        long start = System.nanoTime();
+        long bufferedMillis;
+        int bufferedLength;
+        try (InputStream stream = new MaryTTSAudioStream(service.generateAudio(String.join(" ", SENTENCES), voice),
+                audioFormat)) {
+            bufferedMillis = millisToFirstAudio(stream, start);
+            bufferedLength = 1 + IOUtils.toByteArray(stream).length;
+        }
+
+        start = System.nanoTime();
+        long streamingMillis;
+        int streamingLength;
+        try (InputStream stream = new MaryTTSStreamingAudioStream(service, SENTENCES, voice, audioFormat)) {
+            streamingMillis = millisToFirstAudio(stream, start);
+            streamingLength = 1 + IOUtils.toByteArray(stream).length;
+        }
+
+        logger.info("Time to first audio of {} sentences: buffered {} ms, streaming {} ms", SENTENCES.size(),
+                bufferedMillis, streamingMillis);
+        assertTrue(bufferedMillis >= SENTENCES.size() * MILLIS_PER_SENTENCE);
+        assertTrue(streamingMillis < 2 * MILLIS_PER_SENTENCE);
+        assertEquals(bufferedLength, streamingLength);
+    }
+
+    /**
+     * Reads the WAVE header and the first byte of audio.
+     */
+    private long millisToFirstAudio(InputStream stream, long start) throws IOException {
+        byte[] header = new byte[WAV_HEADER_LENGTH];
+        assertEquals(WAV_HEADER_LENGTH, IOUtils.read(stream, header));
+        assertTrue(stream.read() >= 0);
+        return (System.nanoTime() - start) / 1000000;
+    }
+}
@@ -54,6 +54,10 @@ public class VoiceRSSTTSService implements TTSService {
     private static final String CONFIG_API_KEY = "apiKey";
     private String apiKey;
 
+    // maximum cache size in bytes, configured in MB
+    private static final String CONFIG_CACHE_SIZE = "cacheSize";
+    private long maxCacheSize = CachedVoiceRSSCloudImpl.DEFAULT_CACHE_SIZE;
+
     private final Logger logger = LoggerFactory.getLogger(VoiceRSSTTSService.class);
 
     /**
@@ -91,6 +95,12 @@ public class VoiceRSSTTSService implements TTSService {
     protected void modified(Map<String, Object> config) {
         if (config != null) {
             apiKey = config.containsKey(CONFIG_API_KEY) ? config.get(CONFIG_API_KEY).toString() : null;
+            maxCacheSize = config.containsKey(CONFIG_CACHE_SIZE)
+                    ? (long) Double.parseDouble(config.get(CONFIG_CACHE_SIZE).toString()) * 1024 * 1024
+                    : CachedVoiceRSSCloudImpl.DEFAULT_CACHE_SIZE;
+            if (voiceRssImpl != null) {
+                voiceRssImpl.setMaxCacheSize(maxCacheSize);
+            }
         }
     }
 
@@ -215,7 +225,7 @@ public class VoiceRSSTTSService implements TTSService {
     }
 
     private CachedVoiceRSSCloudImpl initVoiceImplementation() {
-        return new CachedVoiceRSSCloudImpl(getCacheFolderName());
+        return new CachedVoiceRSSCloudImpl(getCacheFolderName(), maxCacheSize);
     }
 
     private String getCacheFolderName() {
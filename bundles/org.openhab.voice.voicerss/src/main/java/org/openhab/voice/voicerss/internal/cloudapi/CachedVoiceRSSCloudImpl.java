@@ -13,11 +13,7 @@
 package org.openhab.voice.voicerss.internal.cloudapi;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -35,50 +31,41 @@ import org.slf4j.LoggerFactory;
  */
 public class CachedVoiceRSSCloudImpl extends VoiceRSSCloudImpl {
 
-    private final Logger logger = LoggerFactory.getLogger(CachedVoiceRSSCloudImpl.class);
-
-    private final File cacheFolder;
-
     /**
-     * Stream buffer size
+     * Default maximum size of all cached files in bytes
      */
-    private static final int READ_BUFFER_SIZE = 4096;
+    public static final long DEFAULT_CACHE_SIZE = 100 * 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(CachedVoiceRSSCloudImpl.class);
+
+    private final TTSFileCache cache;
 
     public CachedVoiceRSSCloudImpl(String cacheFolderName) {
+        this(cacheFolderName, DEFAULT_CACHE_SIZE);
+    }
+
+    public CachedVoiceRSSCloudImpl(String cacheFolderName, long maxCacheSize) {
         if (cacheFolderName == null) {
             throw new IllegalStateException("Folder for cache must be defined");
         }
         // Lazy create the cache folder
-        cacheFolder = new File(cacheFolderName);
-        if (!cacheFolder.exists()) {
-            cacheFolder.mkdirs();
-        }
+        cache = new TTSFileCache(new File(cacheFolderName), maxCacheSize, 0);
+    }
+
+    /**
+     * Changes the maximum size of all cached files in bytes.
+     */
+    public void setMaxCacheSize(long maxCacheSize) {
+        cache.setMaxSize(maxCacheSize);
     }
 
     public File getTextToSpeechAsFile(String apiKey, String text, String locale, String audioFormat)
             throws IOException {
-        String fileNameInCache = getUniqueFilenameForText(text, locale);
-        // check if in cache
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + audioFormat.toLowerCase());
-        if (audioFileInCache.exists()) {
-            return audioFileInCache;
-        }
-
-        // if not in cache, get audio data and put to cache
-        try (InputStream is = super.getTextToSpeech(apiKey, text, locale, audioFormat);
-                FileOutputStream fos = new FileOutputStream(audioFileInCache);) {
-            copyStream(is, fos);
-            // write text to file for transparency too
-            // this allows to know which contents is in which audio file
-            File txtFileInCache = new File(cacheFolder, fileNameInCache + ".txt");
-            writeText(txtFileInCache, text);
-            // return from cache
-            return audioFileInCache;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
+        String fileNameInCache = getUniqueFilenameForText(text, locale) + "." + audioFormat.toLowerCase();
+        try {
+            return cache.get(fileNameInCache, text, () -> super.getTextToSpeech(apiKey, text, locale, audioFormat));
         } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
+            logger.error("Could not write {} to cache", fileNameInCache, ex);
             return null;
         }
     }
@@ -108,21 +95,4 @@ public class CachedVoiceRSSCloudImpl extends VoiceRSSCloudImpl {
             return null;
         }
     }
-
-    // helper methods
-
-    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
-        byte[] bytes = new byte[READ_BUFFER_SIZE];
-        int read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        while (read > 0) {
-            outputStream.write(bytes, 0, read);
-            read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        }
-    }
-
-    private void writeText(File file, String text) throws IOException {
-        try (OutputStream outputStream = new FileOutputStream(file)) {
-            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
-        }
-    }
 }